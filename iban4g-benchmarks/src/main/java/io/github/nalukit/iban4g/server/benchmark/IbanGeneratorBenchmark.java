@@ -0,0 +1,88 @@
+/*
+ * Copyright © 2020 Frank Hossfeld, Philipp Kohl
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nalukit.iban4g.server.benchmark;
+
+import io.github.nalukit.iban4g.server.IbanGenerator;
+import io.github.nalukit.iban4g.shared.CountryCode;
+import io.github.nalukit.iban4g.shared.Iban;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Random ibans of a short (NO) and a long (MT) structure, generated by {@link IbanGenerator} and by
+ * {@link Iban#random(CountryCode)}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IbanGeneratorBenchmark {
+
+  @Param({ "NO",
+           "MT" })
+  public String country;
+
+  private CountryCode   countryCode;
+  private IbanGenerator generator;
+  private Random        random;
+  private char[]        chars;
+
+  @Setup
+  public void setup() {
+    countryCode = CountryCode.getByCode(country);
+    generator   = IbanGenerator.builder()
+                               .country(countryCode,
+                                        1)
+                               .seed(42)
+                               .build();
+    random      = new Random(42);
+    chars       = new char[generator.getMaximumLength()];
+  }
+
+  @Benchmark
+  public char[] next() {
+    generator.next(chars,
+                   0);
+    return chars;
+  }
+
+  @Benchmark
+  public String nextString() {
+    return generator.nextString();
+  }
+
+  @Benchmark
+  public Iban ibanRandom() {
+    return Iban.builder()
+               .random(random)
+               .countryCode(countryCode)
+               .buildRandom();
+  }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright © 2020 Frank Hossfeld, Philipp Kohl
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nalukit.iban4g.shared.benchmark;
+
+import io.github.nalukit.iban4g.shared.BicFormatException;
+import io.github.nalukit.iban4g.shared.BicUtil;
+import io.github.nalukit.iban4g.shared.UnsupportedCountryException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validation of a bic with and without branch code and of an invalid bic, throwing and returning
+ * the violation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BicBenchmark {
+
+  @Param({ "DEUTDEFF",
+           "DEUTDEFF500",
+           "DEUTXXFF500",
+           "deutdeff" })
+  public String bic;
+
+  @Benchmark
+  public Object validate() {
+    try {
+      BicUtil.validate(bic);
+      return null;
+    } catch (BicFormatException | UnsupportedCountryException e) {
+      return e;
+    }
+  }
+
+  @Benchmark
+  public Object getViolation() {
+    return BicUtil.getViolation(bic);
+  }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright © 2020 Frank Hossfeld, Philipp Kohl
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nalukit.iban4g.shared.benchmark;
+
+import io.github.nalukit.iban4g.server.ParallelIbanBatchValidator;
+import io.github.nalukit.iban4g.shared.Iban;
+import io.github.nalukit.iban4g.shared.Iban4gException;
+import io.github.nalukit.iban4g.shared.IbanBatchValidator;
+import io.github.nalukit.iban4g.shared.IbanUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validation of a batch of random ibans, of which the given percentage is invalid: a loop over
+ * {@link IbanUtil#validate(String)} catching the exceptions compared with the batch validators.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IbanBatchBenchmark {
+
+  private static final int SIZE = 10_000;
+
+  @Param({ "0",
+           "10",
+           "50" })
+  public int invalidPercentage;
+
+  private List<String> ibans;
+
+  @Setup
+  public void setup() {
+    final Random random = new Random(42);
+    ibans = new ArrayList<>(SIZE);
+    for (int i = 0; i < SIZE; i++) {
+      final char[] iban = Iban.random(random)
+                              .toString()
+                              .toCharArray();
+      if (random.nextInt(100) < invalidPercentage) {
+        iban[2 + random.nextInt(iban.length - 2)] = (char) ('0' + random.nextInt(43));
+      }
+      ibans.add(new String(iban));
+    }
+  }
+
+  @Benchmark
+  public byte[] validateLoop() {
+    final byte[] codes = new byte[ibans.size()];
+    for (int i = 0; i < ibans.size(); i++) {
+      try {
+        IbanUtil.validate(ibans.get(i));
+      } catch (Iban4gException e) {
+        codes[i] = 1;
+      }
+    }
+    return codes;
+  }
+
+  @Benchmark
+  public byte[] validateAll() {
+    return IbanBatchValidator.validate(ibans);
+  }
+
+  @Benchmark
+  public byte[] validateAllParallel() {
+    return ParallelIbanBatchValidator.validate(ibans);
+  }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright © 2020 Frank Hossfeld, Philipp Kohl
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nalukit.iban4g.shared.benchmark;
+
+import io.github.nalukit.iban4g.shared.CountryCode;
+import io.github.nalukit.iban4g.shared.Iban;
+import io.github.nalukit.iban4g.shared.IbanFormat;
+import io.github.nalukit.iban4g.shared.IbanUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing, formatting, validating the print format, the getters, building and random generation of
+ * {@link Iban} for a short (NO) and long (MT, LC) iban.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IbanBenchmark {
+
+  @Param({ "NO9386011117947",
+           "DE89370400440532013000",
+           "MT84MALT011000012345MTLCAST001S",
+           "LC55HEMM000100010012001200023015" })
+  public String iban;
+
+  private String        formattedIban;
+  private Iban          value;
+  private CountryCode   countryCode;
+  private Random        random;
+  private StringBuilder builder;
+
+  @Setup
+  public void setup() {
+    value         = Iban.valueOf(iban);
+    formattedIban = value.toFormattedString();
+    countryCode   = value.getCountryCode();
+    random        = new Random(42);
+    builder       = new StringBuilder();
+  }
+
+  @Benchmark
+  public Iban valueOf() {
+    return Iban.valueOf(iban);
+  }
+
+  @Benchmark
+  public Iban valueOfFormatted() {
+    return Iban.valueOf(formattedIban,
+                        IbanFormat.Default);
+  }
+
+  @Benchmark
+  public String toFormattedString() {
+    return value.toFormattedString();
+  }
+
+  @Benchmark
+  public StringBuilder appendFormatted() {
+    builder.setLength(0);
+    return IbanUtil.appendFormatted(iban,
+                                    builder);
+  }
+
+  @Benchmark
+  public void validateFormatted() {
+    IbanUtil.validate(formattedIban,
+                      IbanFormat.Default);
+  }
+
+  @Benchmark
+  public void getters(final Blackhole blackhole) {
+    blackhole.consume(value.getCountryCode());
+    blackhole.consume(value.getCheckDigit());
+    blackhole.consume(value.getBankCode());
+    blackhole.consume(value.getBranchCode());
+    blackhole.consume(value.getAccountNumber());
+    blackhole.consume(value.getNationalCheckDigit());
+    blackhole.consume(value.getBban());
+  }
+
+  @Benchmark
+  public Iban build() {
+    return Iban.builder()
+               .countryCode(countryCode)
+               .bankCode(value.getBankCode())
+               .branchCode(value.getBranchCode())
+               .accountNumber(value.getAccountNumber())
+               .nationalCheckDigit(value.getNationalCheckDigit())
+               .build();
+  }
+
+  @Benchmark
+  public Iban randomOfCountry() {
+    return Iban.builder()
+               .random(random)
+               .countryCode(countryCode)
+               .buildRandom();
+  }
+
+  @Benchmark
+  public Iban random() {
+    return Iban.random(random);
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright © 2020 Frank Hossfeld, Philipp Kohl
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nalukit.iban4g.shared.benchmark;
+
+import io.github.nalukit.iban4g.shared.Iban;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Packing an {@link Iban} into two longs and unpacking it, for a short (NO), an alphanumeric (FR)
+ * and a long (LC) iban.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IbanPackingBenchmark {
+
+  @Param({ "NO9386011117947",
+           "FR1420041010050500013M02606",
+           "LC55HEMM000100010012001200023015" })
+  public String iban;
+
+  private Iban   value;
+  private long[] packed;
+
+  @Setup
+  public void setup() {
+    value  = Iban.valueOf(iban);
+    packed = value.toPacked();
+  }
+
+  @Benchmark
+  public long[] toPacked() {
+    value.toPacked(packed,
+                   0);
+    return packed;
+  }
+
+  @Benchmark
+  public Iban fromPacked() {
+    return Iban.fromPacked(packed[0],
+                           packed[1]);
+  }
+
+  @Benchmark
+  public int packedHashCode() {
+    return Iban.packedHashCode(packed[0],
+                               packed[1]);
+  }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright © 2020 Frank Hossfeld, Philipp Kohl
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nalukit.iban4g.shared.benchmark;
+
+import io.github.nalukit.iban4g.shared.Iban;
+import io.github.nalukit.iban4g.shared.IbanSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Screening: looking up ibans (half of them contained) in a set of one million random ibans, using
+ * an {@link IbanSet} compared with a HashSet of Strings and of Ibans.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = { "-Xmx2g" })
+public class IbanSetBenchmark {
+
+  private static final int SIZE    = 1_000_000;
+  private static final int LOOKUPS = 1_024;
+
+  private IbanSet      ibanSet;
+  private Set<String>  stringSet;
+  private Set<Iban>    hashSet;
+  private List<String> lookups;
+  private int          index;
+
+  @Setup
+  public void setup() {
+    final Random random = new Random(42);
+    ibanSet   = new IbanSet(SIZE);
+    stringSet = new HashSet<>();
+    hashSet   = new HashSet<>();
+    lookups   = new ArrayList<>(LOOKUPS);
+    for (int i = 0; i < SIZE; i++) {
+      final Iban iban = Iban.random(random);
+      ibanSet.add(iban);
+      stringSet.add(iban.toString());
+      hashSet.add(iban);
+      if (i % (SIZE / LOOKUPS * 2) == 0) {
+        lookups.add(iban.toString());
+      }
+    }
+    while (lookups.size() < LOOKUPS) {
+      lookups.add(Iban.random(random)
+                      .toString());
+    }
+  }
+
+  private String next() {
+    index = (index + 1) & (LOOKUPS - 1);
+    return lookups.get(index);
+  }
+
+  @Benchmark
+  public boolean ibanSetContains() {
+    return ibanSet.contains(next());
+  }
+
+  @Benchmark
+  public boolean stringSetContains() {
+    return stringSet.contains(next());
+  }
+
+  @Benchmark
+  public boolean hashSetContainsValueOf() {
+    return hashSet.contains(Iban.valueOf(next()));
+  }
+}
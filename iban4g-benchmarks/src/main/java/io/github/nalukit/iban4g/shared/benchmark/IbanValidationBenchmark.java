@@ -0,0 +1,98 @@
+/*
+ * Copyright © 2020 Frank Hossfeld, Philipp Kohl
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nalukit.iban4g.shared.benchmark;
+
+import io.github.nalukit.iban4g.shared.IbanFormatException;
+import io.github.nalukit.iban4g.shared.IbanUtil;
+import io.github.nalukit.iban4g.shared.InvalidCheckDigitException;
+import io.github.nalukit.iban4g.shared.UnsupportedCountryException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validation of valid ibans (short NO, long MT and LC) and of one invalid iban per violation, with
+ * and without exceptions.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IbanValidationBenchmark {
+
+  @Param({ "NO9386011117947",
+           "DE89370400440532013000",
+           "MT84MALT011000012345MTLCAST001S",
+           "LC55HEMM000100010012001200023015",
+           // IBAN_NOT_EMPTY
+           "",
+           // COUNTRY_CODE_TWO_LETTERS
+           "D",
+           // COUNTRY_CODE_UPPER_CASE_LETTERS
+           "de89370400440532013000",
+           // COUNTRY_CODE_EXISTS
+           "XX89370400440532013000",
+           // COUNTRY_CODE_SUPPORTED
+           "US89370400440532013000",
+           // CHECK_DIGIT_ONLY_DIGITS
+           "DEAB370400440532013000",
+           // BBAN_LENGTH
+           "DE8937040044053201300",
+           // BBAN_ONLY_DIGITS
+           "DE89370400440532O13000",
+           // BBAN_ONLY_UPPER_CASE_LETTERS
+           "GB29NwBK60161331926819",
+           // BBAN_ONLY_DIGITS_OR_LETTERS
+           "AD12000120302003591001-0",
+           // IBAN_VALID_CHARACTERS
+           "AD120001203020035910010Ä",
+           // CHECK_DIGIT_VALID
+           "DE88370400440532013000" })
+  public String iban;
+
+  @Benchmark
+  public Object validate() {
+    try {
+      IbanUtil.validate(iban);
+      return null;
+    } catch (IbanFormatException e) {
+      return e.getFormatViolation();
+    } catch (InvalidCheckDigitException | UnsupportedCountryException e) {
+      return e;
+    }
+  }
+
+  @Benchmark
+  public boolean isValid() {
+    return IbanUtil.isValid(iban);
+  }
+
+  @Benchmark
+  public IbanFormatException.IbanFormatViolation getViolation() {
+    return IbanUtil.getViolation(iban);
+  }
+}
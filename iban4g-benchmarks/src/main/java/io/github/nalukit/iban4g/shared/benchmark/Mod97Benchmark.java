@@ -0,0 +1,89 @@
+/*
+ * Copyright © 2020 Frank Hossfeld, Philipp Kohl
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nalukit.iban4g.shared.benchmark;
+
+import io.github.nalukit.iban4g.shared.IbanUtil;
+import io.github.nalukit.iban4g.shared.Mod97;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the table driven {@link Mod97} kernel with the former string based implementation of
+ * {@code IbanUtil.calculateMod}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Mod97Benchmark {
+
+  private static final int  MOD = 97;
+  private static final long MAX = 999999999;
+
+  @Param({ "NO9386011117947",
+           "DE89370400440532013000",
+           "MT84MALT011000012345MTLCAST001S",
+           "LC55HEMM000100010012001200023015" })
+  public String iban;
+
+  @Benchmark
+  public int legacyCalculateMod() {
+    return legacyCalculateMod(iban);
+  }
+
+  @Benchmark
+  public int mod97Calculate() {
+    return Mod97.calculate(iban);
+  }
+
+  @Benchmark
+  public String calculateCheckDigit() {
+    return IbanUtil.calculateCheckDigit(iban);
+  }
+
+  /**
+   * The implementation of {@code IbanUtil.calculateMod} before the {@link Mod97} kernel.
+   */
+  private static int legacyCalculateMod(final String iban) {
+    final String reformattedIban = iban.substring(4) + iban.substring(0,
+                                                                      4);
+    long         total           = 0;
+    for (int i = 0; i < reformattedIban.length(); i++) {
+      final int numericValue = Integer.parseInt("" + reformattedIban.charAt(i),
+                                                36);
+      total = (numericValue > 9 ?
+               total * 100 :
+               total * 10) + numericValue;
+
+      if (total > MAX) {
+        total = (total % MOD);
+      }
+    }
+    return (int) (total % MOD);
+  }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright © 2020 Frank Hossfeld, Philipp Kohl
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nalukit.iban4g.server;
+
+import io.github.nalukit.iban4g.shared.Bic;
+import io.github.nalukit.iban4g.shared.BicFormatException;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.IsNot.not;
+import static org.hamcrest.core.IsSame.sameInstance;
+
+public class BicPoolTest {
+
+  @Test
+  public void equalBicsShouldBeSameInstance() {
+    BicPool pool = new BicPool();
+    Bic     bic  = pool.valueOf("DEUTDEFF500");
+    assertThat(pool.valueOf(new StringBuilder("DEUTDEFF500")),
+               is(sameInstance(bic)));
+    assertThat(pool.intern(Bic.valueOf("DEUTDEFF500")),
+               is(sameInstance(bic)));
+    assertThat(pool.valueOf(bic.toPacked()),
+               is(sameInstance(bic)));
+    assertThat(pool.valueOf("DEUTDEFF"),
+               is(not(sameInstance(bic))));
+    assertThat(pool.size(),
+               is(equalTo(2)));
+  }
+
+  @Test
+  public void internShouldPoolGivenBic() {
+    BicPool pool = new BicPool();
+    Bic     bic  = Bic.valueOf("NEDSZAJJXXX");
+    assertThat(pool.intern(bic),
+               is(sameInstance(bic)));
+    assertThat(pool.valueOf("NEDSZAJJXXX"),
+               is(sameInstance(bic)));
+  }
+
+  @Test
+  public void bicsShouldBeFoundAfterResize() {
+    BicPool   pool = new BicPool();
+    List<Bic> bics = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      bics.add(pool.valueOf(String.format("BANKDE%02d%03d",
+                                          i % 100,
+                                          i)));
+    }
+    assertThat(pool.size(),
+               is(equalTo(1000)));
+    for (Bic bic : bics) {
+      assertThat(pool.valueOf(bic.toString()),
+                 is(sameInstance(bic)));
+    }
+  }
+
+  @Test
+  public void fullPoolShouldReturnNewBic() {
+    BicPool pool = new BicPool(1);
+    Bic     bic  = pool.valueOf("DEUTDEFF");
+    assertThat(pool.valueOf("DEUTDEFF"),
+               is(sameInstance(bic)));
+    Bic other = pool.valueOf("DABADKKK");
+    assertThat(pool.valueOf("DABADKKK"),
+               is(not(sameInstance(other))));
+    assertThat(pool.valueOf("DABADKKK"),
+               is(equalTo(other)));
+    assertThat(pool.size(),
+               is(equalTo(1)));
+  }
+
+  @Test
+  public void unpackableBicShouldNotBePooled() {
+    BicPool pool = new BicPool();
+    assertThat(pool.valueOf("DEUÄDEFF"),
+               is(equalTo(Bic.valueOf("DEUÄDEFF"))));
+    assertThat(pool.size(),
+               is(equalTo(0)));
+  }
+
+  @Test
+  public void clearShouldRemoveAllBics() {
+    BicPool pool = new BicPool();
+    Bic     bic  = pool.valueOf("DEUTDEFF");
+    pool.clear();
+    assertThat(pool.size(),
+               is(equalTo(0)));
+    assertThat(pool.valueOf("DEUTDEFF"),
+               is(not(sameInstance(bic))));
+  }
+
+  @Test
+  public void bicShouldBeReadFromBuffer() {
+    BicPool    pool   = new BicPool();
+    ByteBuffer buffer = ByteBuffer.allocateDirect(11);
+    buffer.put("DEUTDEFF500".getBytes(StandardCharsets.US_ASCII));
+    buffer.flip();
+    Bic bic = pool.valueOf(StandardCharsets.US_ASCII.decode(buffer));
+    assertThat(pool.valueOf("DEUTDEFF500"),
+               is(sameInstance(bic)));
+  }
+
+  @Test(expected = BicFormatException.class)
+  public void invalidBicShouldThrowException() {
+    new BicPool().valueOf("DEUTdeFF");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void invalidPackedBicShouldThrowException() {
+    new BicPool().valueOf(0L);
+  }
+
+  @Test
+  public void concurrentThreadsShouldGetSameInstance() throws Exception {
+    final BicPool   pool     = new BicPool();
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<List<Bic>>> futures = new ArrayList<>();
+      for (int thread = 0; thread < 4; thread++) {
+        futures.add(executor.submit(() -> {
+          List<Bic> bics = new ArrayList<>();
+          for (int i = 0; i < 2000; i++) {
+            bics.add(pool.valueOf(String.format("BANKDE%02d%03d",
+                                                i % 100,
+                                                i % 500)));
+          }
+          return bics;
+        }));
+      }
+      List<Bic> first = futures.get(0)
+                               .get();
+      for (Future<List<Bic>> future : futures) {
+        List<Bic> bics = future.get();
+        for (int i = 0; i < bics.size(); i++) {
+          assertThat(bics.get(i),
+                     is(sameInstance(first.get(i))));
+        }
+      }
+    } finally {
+      executor.shutdown();
+    }
+    assertThat(pool.size(),
+               is(equalTo(500)));
+  }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright © 2020 Frank Hossfeld, Philipp Kohl
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nalukit.iban4g.server;
+
+import io.github.nalukit.iban4g.shared.BicFormatException;
+import io.github.nalukit.iban4g.shared.IbanFormatException.IbanFormatViolation;
+import io.github.nalukit.iban4g.shared.InvalidCheckDigitException;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.IsNull.nullValue;
+
+public class ByteBufferValidatorTest {
+
+  private static ByteBuffer heap(final String value) {
+    ByteBuffer buffer = ByteBuffer.wrap(("##" + value + "#").getBytes(StandardCharsets.US_ASCII));
+    buffer.position(2);
+    buffer.limit(2 + value.length());
+    return buffer.slice();
+  }
+
+  private static ByteBuffer direct(final String value) {
+    ByteBuffer buffer = ByteBuffer.allocateDirect(value.length() + 3);
+    buffer.put("##".getBytes(StandardCharsets.US_ASCII))
+          .put(value.getBytes(StandardCharsets.US_ASCII))
+          .put((byte) '#');
+    buffer.position(2);
+    buffer.limit(2 + value.length());
+    return buffer;
+  }
+
+  @Test
+  public void validIbanShouldBeValidInEveryBuffer() {
+    for (ByteBuffer buffer : new ByteBuffer[] { heap("DE89370400440532013000"),
+                                                direct("DE89370400440532013000"),
+                                                heap("DE89370400440532013000").asReadOnlyBuffer() }) {
+      assertThat(ByteBufferValidator.getIbanViolation(buffer),
+                 is(nullValue()));
+      assertThat(ByteBufferValidator.isValidIban(buffer),
+                 is(true));
+      ByteBufferValidator.validateIban(buffer);
+      assertThat(buffer.position(),
+                 is(equalTo(buffer.isDirect() ?
+                            2 :
+                            0)));
+    }
+  }
+
+  @Test
+  public void invalidIbanShouldReportViolationInEveryBuffer() {
+    for (ByteBuffer buffer : new ByteBuffer[] { heap("DE88370400440532013000"),
+                                                direct("DE88370400440532013000"),
+                                                heap("DE88370400440532013000").asReadOnlyBuffer() }) {
+      assertThat(ByteBufferValidator.getIbanViolation(buffer),
+                 is(equalTo(IbanFormatViolation.CHECK_DIGIT_VALID)));
+      assertThat(ByteBufferValidator.isValidIban(buffer),
+                 is(false));
+    }
+  }
+
+  @Test
+  public void nullBufferShouldBeInvalidIban() {
+    assertThat(ByteBufferValidator.getIbanViolation(null),
+               is(equalTo(IbanFormatViolation.IBAN_NOT_NULL)));
+  }
+
+  @Test(expected = InvalidCheckDigitException.class)
+  public void invalidIbanInDirectBufferShouldThrowException() {
+    ByteBufferValidator.validateIban(direct("DE88370400440532013000"));
+  }
+
+  @Test
+  public void validBicShouldBeValidInEveryBuffer() {
+    ByteBufferValidator.validateBic(heap("DEUTDEFF500"));
+    ByteBufferValidator.validateBic(direct("DEUTDEFF"));
+    ByteBufferValidator.validateBic(heap("DEUTDEFF").asReadOnlyBuffer());
+  }
+
+  @Test(expected = BicFormatException.class)
+  public void invalidBicInDirectBufferShouldThrowException() {
+    ByteBufferValidator.validateBic(direct("DEU1DEFF"));
+  }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright © 2020 Frank Hossfeld, Philipp Kohl
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nalukit.iban4g.server;
+
+import io.github.nalukit.iban4g.shared.IbanBatchValidator;
+import io.github.nalukit.iban4g.shared.IbanFormatException.IbanFormatViolation;
+import io.github.nalukit.iban4g.shared.bban.BbanStructureProvider;
+import io.github.nalukit.iban4g.shared.bban.BbanStructureRegistry;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsEqual.equalTo;
+
+public class IbanFileScannerTest {
+
+  private static final String CONTENT = "date;name;iban;amount\n" +
+                                        "2020-01-01;Müller;DE89370400440532013000;12.50\n" +
+                                        "2020-01-02;Meier;DE88370400440532013000;1.00\n" +
+                                        "2020-01-03;Huber;AT611904300234573201,AT61190430023457320;3\n" +
+                                        "XDE89370400440532013000 de89370400440532013000 US12345678\n" +
+                                        "DE12;AT2023;FR00ABC;DE8937040044053201300\n" +
+                                        "DE89370400440532013000DE89370400440532013000\n" +
+                                        "NO9386011117947";
+
+  private static final List<String> EXPECTED = Arrays.asList("DE89370400440532013000@" + offsetOf("DE89370400440532013000;12") + ":VALID",
+                                                             "DE88370400440532013000@" + offsetOf("DE88") + ":CHECK_DIGIT_VALID",
+                                                             "AT611904300234573201@" + offsetOf("AT611904300234573201,") + ":VALID",
+                                                             "NO9386011117947@" + offsetOf("NO93") + ":VALID");
+
+  private final BbanStructureRegistry registry = BbanStructureProvider.get()
+                                                                      .getRegistry();
+
+  private Path file;
+
+  private static long offsetOf(final String value) {
+    return CONTENT.getBytes(StandardCharsets.UTF_8).length - CONTENT.substring(CONTENT.indexOf(value))
+                                                                    .getBytes(StandardCharsets.UTF_8).length;
+  }
+
+  @Before
+  public void setUp()
+      throws IOException {
+    file = Files.createTempFile("statements",
+                                ".csv");
+    Files.write(file,
+                CONTENT.getBytes(StandardCharsets.UTF_8));
+  }
+
+  @After
+  public void tearDown()
+      throws IOException {
+    Files.delete(file);
+  }
+
+  @Test
+  public void fileShouldReportCandidates()
+      throws IOException {
+    List<String> candidates = new ArrayList<>();
+    long count = IbanFileScanner.scan(file,
+                                      collect(candidates));
+
+    assertThat(candidates,
+               is(equalTo(EXPECTED)));
+    assertThat(count,
+               is(equalTo((long) EXPECTED.size())));
+  }
+
+  @Test
+  public void smallWindowsShouldReportSameCandidates()
+      throws IOException {
+    for (int windowSize = 1; windowSize < 64; windowSize++) {
+      List<String> candidates = new ArrayList<>();
+      IbanFileScanner.scan(file,
+                           registry,
+                           collect(candidates),
+                           windowSize);
+      assertThat("window size " + windowSize,
+                 candidates,
+                 is(equalTo(EXPECTED)));
+    }
+  }
+
+  @Test
+  public void bufferShouldReportCandidates() {
+    List<String> candidates = new ArrayList<>();
+    IbanFileScanner.scan(ByteBuffer.wrap(CONTENT.getBytes(StandardCharsets.UTF_8)),
+                         registry,
+                         collect(candidates));
+
+    assertThat(candidates,
+               is(equalTo(EXPECTED)));
+  }
+
+  @Test
+  public void sequenceWithOtherLengthThanIbanOfCountryShouldNotBeReported() {
+    List<String> candidates = new ArrayList<>();
+    IbanFileScanner.scan(ByteBuffer.wrap("DE99;AT2023 FR00ABC,DE893704004405320130001;NO938601111794".getBytes(StandardCharsets.US_ASCII)),
+                         registry,
+                         collect(candidates));
+
+    assertThat(candidates.isEmpty(),
+               is(true));
+  }
+
+  @Test
+  public void emptyFileShouldReportNothing()
+      throws IOException {
+    Files.write(file,
+                new byte[0]);
+    assertThat(IbanFileScanner.scan(file,
+                                    (offset, candidate, code) -> {
+                                      throw new AssertionError("unexpected candidate");
+                                    }),
+               is(equalTo(0L)));
+  }
+
+  private static IbanFileScanner.Listener collect(final List<String> candidates) {
+    return (offset, candidate, code) -> {
+      IbanFormatViolation violation = IbanBatchValidator.toViolation(code);
+      candidates.add(candidate + "@" + offset + ":" + (violation == null ?
+                                                       "VALID" :
+                                                       violation.name()));
+    };
+  }
+}
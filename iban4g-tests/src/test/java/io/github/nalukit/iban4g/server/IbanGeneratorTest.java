@@ -0,0 +1,138 @@
+/*
+ * Copyright © 2020 Frank Hossfeld, Philipp Kohl
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nalukit.iban4g.server;
+
+import io.github.nalukit.iban4g.shared.CountryCode;
+import io.github.nalukit.iban4g.shared.IbanUtil;
+import io.github.nalukit.iban4g.shared.UnsupportedCountryException;
+import io.github.nalukit.iban4g.shared.bban.BbanStructureProvider;
+import org.junit.Test;
+
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.IsNot.not;
+
+public class IbanGeneratorTest {
+
+  @Test
+  public void generatedIbansShouldBeValid() {
+    IbanGenerator    generator = IbanGenerator.builder()
+                                              .seed(42)
+                                              .build();
+    Set<CountryCode> countries = new HashSet<>();
+    for (int i = 0; i < 100_000; i++) {
+      String iban = generator.nextString();
+      assertThat(iban,
+                 IbanUtil.isValid(iban),
+                 is(true));
+      countries.add(CountryCode.getByCode(iban.substring(0,
+                                                         2)));
+    }
+    assertThat(countries.size(),
+               is(equalTo(BbanStructureProvider.get()
+                                               .supportedCountries()
+                                               .size())));
+  }
+
+  @Test
+  public void ibanShouldBeWrittenAtOffset() {
+    IbanGenerator generator = IbanGenerator.builder()
+                                           .country(CountryCode.DE,
+                                                    1)
+                                           .build();
+    char[]        chars     = new char[2 + generator.getMaximumLength()];
+    int           length    = generator.next(chars,
+                                             2);
+    assertThat(length,
+               is(equalTo(22)));
+    assertThat(chars[0],
+               is(equalTo('\0')));
+    assertThat(IbanUtil.isValid(new String(chars,
+                                           2,
+                                           length)),
+               is(true));
+    assertThat(generator.nextIban()
+                        .getCountryCode(),
+               is(equalTo(CountryCode.DE)));
+  }
+
+  @Test
+  public void sameSeedShouldGenerateSameIbans() {
+    IbanGenerator generator1 = IbanGenerator.builder()
+                                            .seed(7)
+                                            .build();
+    IbanGenerator generator2 = IbanGenerator.builder()
+                                            .seed(7)
+                                            .build();
+    for (int i = 0; i < 1000; i++) {
+      assertThat(generator1.nextString(),
+                 is(equalTo(generator2.nextString())));
+    }
+    IbanGenerator split1 = generator1.split();
+    IbanGenerator split2 = generator2.split();
+    for (int i = 0; i < 1000; i++) {
+      assertThat(split1.nextString(),
+                 is(equalTo(split2.nextString())));
+    }
+    assertThat(split1.nextString(),
+               is(not(equalTo(generator1.nextString()))));
+  }
+
+  @Test
+  public void countriesShouldBeWeighted() {
+    IbanGenerator             generator = IbanGenerator.builder()
+                                                       .seed(1)
+                                                       .country(CountryCode.DE,
+                                                                3)
+                                                       .country(CountryCode.FR,
+                                                                1)
+                                                       .build();
+    Map<CountryCode, Integer> counts    = new EnumMap<>(CountryCode.class);
+    for (int i = 0; i < 40_000; i++) {
+      String iban = generator.nextString();
+      counts.merge(CountryCode.getByCode(iban.substring(0,
+                                                        2)),
+                   1,
+                   Integer::sum);
+    }
+    assertThat(counts.size(),
+               is(equalTo(2)));
+    // 30000 expected, the deviation is about 90
+    assertThat(Math.abs(counts.get(CountryCode.DE) - 30_000) < 1_000,
+               is(true));
+  }
+
+  @Test(expected = UnsupportedCountryException.class)
+  public void unsupportedCountryShouldThrowException() {
+    IbanGenerator.builder()
+                 .country(CountryCode.US,
+                          1)
+                 .build();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void nonPositiveWeightShouldThrowException() {
+    IbanGenerator.builder()
+                 .country(CountryCode.DE,
+                          0);
+  }
+}
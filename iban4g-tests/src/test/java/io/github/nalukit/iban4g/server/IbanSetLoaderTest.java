@@ -0,0 +1,89 @@
+/*
+ * Copyright © 2020 Frank Hossfeld, Philipp Kohl
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nalukit.iban4g.server;
+
+import io.github.nalukit.iban4g.shared.IbanFormatException;
+import io.github.nalukit.iban4g.shared.IbanSet;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.junit.Assert.fail;
+
+public class IbanSetLoaderTest {
+
+  private static final String CONTENT = "# sanctions list\n" +
+                                        "DE89370400440532013000\n" +
+                                        "\n" +
+                                        "  AT61 1904 3002 3457 3201  \n" +
+                                        "MT84MALT011000012345MTLCAST001S\n" +
+                                        "DE89370400440532013000\n";
+
+  @Test
+  public void readerShouldBeLoaded()
+      throws IOException {
+    IbanSet set   = new IbanSet();
+    int     count = IbanSetLoader.load(new StringReader(CONTENT),
+                                       set);
+
+    assertThat(count,
+               is(equalTo(4)));
+    assertThat(set.size(),
+               is(equalTo(3)));
+    assertThat(set.contains("AT611904300234573201"),
+               is(true));
+    assertThat(set.contains("MT84MALT011000012345MTLCAST001S"),
+               is(true));
+  }
+
+  @Test
+  public void fileShouldBeLoaded()
+      throws IOException {
+    Path file = Files.createTempFile("ibans",
+                                     ".txt");
+    try {
+      Files.write(file,
+                  CONTENT.getBytes(StandardCharsets.UTF_8));
+      IbanSet set = IbanSetLoader.load(file);
+      assertThat(set.size(),
+                 is(equalTo(3)));
+      assertThat(set.contains("DE89370400440532013000"),
+                 is(true));
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  @Test
+  public void invalidIbanShouldReportLine()
+      throws IOException {
+    try {
+      IbanSetLoader.load(new StringReader("DE89370400440532013000\nDE88370400440532013000\n"),
+                         new IbanSet());
+      fail("invalid iban not detected");
+    } catch (IbanFormatException e) {
+      assertThat(e.getMessage(),
+                 is(equalTo("invalid iban: >>DE88370400440532013000<< in line 2")));
+    }
+  }
+}
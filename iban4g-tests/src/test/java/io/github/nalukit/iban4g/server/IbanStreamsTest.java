@@ -0,0 +1,139 @@
+/*
+ * Copyright © 2020 Frank Hossfeld, Philipp Kohl
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nalukit.iban4g.server;
+
+import io.github.nalukit.iban4g.shared.CountryCode;
+import io.github.nalukit.iban4g.shared.Iban;
+import io.github.nalukit.iban4g.shared.IbanBatchValidator;
+import io.github.nalukit.iban4g.shared.IbanFormatException.IbanFormatViolation;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsEqual.equalTo;
+
+public class IbanStreamsTest {
+
+  private static List<String> ibans() {
+    Random       random = new Random(4711);
+    List<String> ibans  = new ArrayList<>();
+    for (int i = 0; i < 20_000; i++) {
+      char[] iban = Iban.random(random)
+                        .toString()
+                        .toCharArray();
+      // break every third iban at a random position
+      if (i % 3 == 1) {
+        iban[random.nextInt(iban.length)] = (char) ('0' + random.nextInt(43));
+      }
+      ibans.add(new String(iban));
+    }
+    ibans.add(null);
+    ibans.add("");
+    return ibans;
+  }
+
+  private static void assertSummary(final IbanValidationSummary summary,
+                                    final List<String> ibans) {
+    byte[]                         codes      = IbanBatchValidator.validate(ibans);
+    List<Long>                     indexes    = new ArrayList<>();
+    Map<IbanFormatViolation, Long> violations = new EnumMap<>(IbanFormatViolation.class);
+    for (int i = 0; i < codes.length; i++) {
+      if (codes[i] != IbanBatchValidator.VALID) {
+        indexes.add((long) i);
+        violations.merge(IbanBatchValidator.toViolation(codes[i]),
+                         1L,
+                         Long::sum);
+      }
+    }
+    assertThat(summary.getCount(),
+               is(equalTo((long) ibans.size())));
+    assertThat(summary.getInvalidCount(),
+               is(equalTo((long) indexes.size())));
+    assertThat(summary.getValidCount() + summary.getInvalidCount(),
+               is(equalTo(summary.getCount())));
+    assertThat(Arrays.stream(summary.getInvalidIndexes())
+                     .boxed()
+                     .collect(Collectors.toList()),
+               is(equalTo(indexes)));
+    assertThat(summary.getViolationCounts(),
+               is(equalTo(violations)));
+    assertThat(summary.getCount(IbanFormatViolation.CHECK_DIGIT_VALID),
+               is(equalTo(violations.getOrDefault(IbanFormatViolation.CHECK_DIGIT_VALID,
+                                                  0L))));
+  }
+
+  @Test
+  public void sequentialStreamShouldBeSummarized() {
+    List<String> ibans = ibans();
+    assertSummary(IbanStreams.validate(ibans.stream()),
+                  ibans);
+  }
+
+  @Test
+  public void parallelStreamShouldGiveSameSummaryAsSequentialStream() {
+    List<String> ibans = ibans();
+    assertSummary(IbanStreams.validate(ibans.parallelStream()),
+                  ibans);
+  }
+
+  @Test
+  public void countriesShouldBeCounted() {
+    IbanValidationSummary summary = IbanStreams.validate(Arrays.asList("DE89370400440532013000",
+                                                                       "DE88370400440532013000",
+                                                                       "de89370400440532013000",
+                                                                       "AT611904300234573201")
+                                                               .stream());
+    assertThat(summary.getCount(CountryCode.DE),
+               is(equalTo(2L)));
+    assertThat(summary.getCount(CountryCode.AT),
+               is(equalTo(1L)));
+    assertThat(summary.getCountryCounts()
+                      .size(),
+               is(equalTo(2)));
+    assertThat(summary.getInvalidIndexes(),
+               is(equalTo(new long[] { 1, 2 })));
+  }
+
+  @Test
+  public void linesOfFileShouldBeSummarized()
+      throws IOException {
+    List<String> ibans = ibans().subList(0,
+                                         20_000);
+    Path         file  = Files.createTempFile("ibans",
+                                              ".txt");
+    try {
+      Files.write(file,
+                  ibans,
+                  StandardCharsets.UTF_8);
+      assertSummary(IbanStreams.validateLines(file),
+                    ibans);
+    } finally {
+      Files.delete(file);
+    }
+  }
+}
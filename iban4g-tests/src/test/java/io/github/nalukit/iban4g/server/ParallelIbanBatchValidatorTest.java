@@ -0,0 +1,65 @@
+/*
+ * Copyright © 2020 Frank Hossfeld, Philipp Kohl
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nalukit.iban4g.server;
+
+import io.github.nalukit.iban4g.shared.Iban;
+import io.github.nalukit.iban4g.shared.IbanBatchValidator;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsEqual.equalTo;
+
+public class ParallelIbanBatchValidatorTest {
+
+  @Test
+  public void parallelValidationShouldGiveSameCodesAsSequentialValidation() {
+    Random       random = new Random(4711);
+    List<String> ibans  = new ArrayList<>();
+    for (int i = 0; i < 10_000; i++) {
+      char[] iban = Iban.random(random)
+                        .toString()
+                        .toCharArray();
+      // break every second iban at a random position
+      if (i % 2 == 1) {
+        iban[random.nextInt(iban.length)] = (char) ('0' + random.nextInt(43));
+      }
+      ibans.add(new String(iban));
+    }
+
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      assertThat(ParallelIbanBatchValidator.validate(ibans,
+                                                     pool,
+                                                     100),
+                 is(equalTo(IbanBatchValidator.validate(ibans))));
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void nonPositiveThresholdShouldThrowException() {
+    ParallelIbanBatchValidator.validate(new ArrayList<>(),
+                                        ForkJoinPool.commonPool(),
+                                        0);
+  }
+}
@@ -0,0 +1,252 @@
+/*
+ * Copyright © 2020 Frank Hossfeld, Philipp Kohl
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nalukit.iban4g.server.bank;
+
+import io.github.nalukit.iban4g.shared.Bic;
+import io.github.nalukit.iban4g.shared.CountryCode;
+import io.github.nalukit.iban4g.shared.Iban;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.IsNull.nullValue;
+import static org.hamcrest.core.IsSame.sameInstance;
+
+public class BankDirectoryTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private static String bundesbankLine(final String bankCode,
+                                       final char feature,
+                                       final String name,
+                                       final String bic,
+                                       final char changeCode) {
+    return String.format("%-8s%c%-58s%-5s%-35s%-27s%-5s%-11s%-2s%-6s%c%c%-8s%-6s",
+                         bankCode,
+                         feature,
+                         name,
+                         "60325",
+                         "Frankfurt am Main",
+                         name,
+                         "",
+                         bic,
+                         "09",
+                         "000001",
+                         changeCode,
+                         '0',
+                         "00000000",
+                         "000000");
+  }
+
+  private static final String BUNDESBANK = bundesbankLine("37040044",
+                                                          '1',
+                                                          "Commerzbank",
+                                                          "COBADEFFXXX",
+                                                          'U') + "\n" +
+                                           bundesbankLine("37040044",
+                                                          '2',
+                                                          "Commerzbank Köln",
+                                                          "",
+                                                          'U') + "\n" +
+                                           bundesbankLine("10000000",
+                                                          '1',
+                                                          "BBk Berlin",
+                                                          "MARKDEF1100",
+                                                          'U') + "\n" +
+                                           bundesbankLine("10010010",
+                                                          '1',
+                                                          "Postbank",
+                                                          "",
+                                                          'U') + "\n" +
+                                           bundesbankLine("10020030",
+                                                          '1',
+                                                          "Gelöschte Bank",
+                                                          "DEUTDEFF",
+                                                          'D') + "\n";
+
+  private static final String DELIMITED = "# country;bank code;bic;name\n" +
+                                          "\n" +
+                                          "FR;30004;BNPAFRPP;BNP Paribas\n" +
+                                          "GB;NWBK;NWBKGB2L;National Westminster Bank; London\n" +
+                                          "AT;19043;;Bank Austria\n";
+
+  private static BankDirectory.Builder builder()
+      throws IOException {
+    BankDirectory.Builder builder = BankDirectory.builder();
+    assertThat(BankDirectoryLoader.loadBundesbank(new StringReader(BUNDESBANK),
+                                                  builder),
+               is(equalTo(3)));
+    assertThat(BankDirectoryLoader.loadDelimited(new StringReader(DELIMITED),
+                                                 ';',
+                                                 builder),
+               is(equalTo(3)));
+    return builder;
+  }
+
+  private static void assertDirectory(final BankDirectory directory) {
+    assertThat(directory.size(),
+               is(equalTo(6)));
+
+    Iban iban = Iban.valueOf("DE89370400440532013000");
+    assertThat(directory.getBic(iban),
+               is(equalTo(Bic.valueOf("COBADEFFXXX"))));
+    assertThat(directory.getBankName(iban),
+               is(equalTo("Commerzbank")));
+
+    int index = directory.indexOf(CountryCode.DE,
+                                  "10010010");
+    assertThat(directory.getBic(index),
+               is(nullValue()));
+    assertThat(directory.getPackedBic(index),
+               is(equalTo(0L)));
+    assertThat(directory.getBankCode(index),
+               is(equalTo("10010010")));
+    assertThat(directory.getCountryCode(index),
+               is(equalTo(CountryCode.DE)));
+
+    assertThat(directory.getBic(Iban.valueOf("FR1420041010050500013M02606")),
+               is(nullValue()));
+    assertThat(directory.getBic(Iban.valueOf("GB29NWBK60161331926819")),
+               is(equalTo(Bic.valueOf("NWBKGB2L"))));
+    assertThat(directory.getBankName(Iban.valueOf("GB29NWBK60161331926819")),
+               is(equalTo("National Westminster Bank; London")));
+    assertThat(directory.getBankName(Iban.valueOf("AT611904300234573201")),
+               is(equalTo("Bank Austria")));
+    assertThat(directory.indexOf(CountryCode.DE,
+                                 "10020030"),
+               is(equalTo(-1)));
+    assertThat(directory.indexOf(CountryCode.DE,
+                                 "1000000"),
+               is(equalTo(-1)));
+    assertThat(directory.indexOf(CountryCode.AT,
+                                 "37040044"),
+               is(equalTo(-1)));
+  }
+
+  @Test
+  public void builtDirectoryShouldFindBanks()
+      throws IOException {
+    assertDirectory(builder().build());
+  }
+
+  @Test
+  public void writtenDirectoryShouldBeOpened()
+      throws IOException {
+    Path file = folder.newFile("banks.bin")
+                      .toPath();
+    builder().write(file);
+    assertDirectory(BankDirectory.open(file));
+  }
+
+  @Test
+  public void bicShouldBeSameInstance()
+      throws IOException {
+    BankDirectory directory = builder().build();
+    Iban          iban      = Iban.valueOf("DE89370400440532013000");
+    assertThat(directory.getBic(iban),
+               is(sameInstance(directory.getBic(iban))));
+  }
+
+  @Test
+  public void firstBankOfBankCodeShouldBeKept() {
+    BankDirectory.Builder builder = BankDirectory.builder();
+    assertThat(builder.add(CountryCode.DE,
+                           "37040044",
+                           null,
+                           "first"),
+               is(true));
+    assertThat(builder.add(CountryCode.DE,
+                           "37040044",
+                           null,
+                           "second"),
+               is(false));
+    assertThat(builder.build()
+                      .getBankName(0),
+               is(equalTo("first")));
+  }
+
+  @Test
+  public void randomBanksShouldBeFound() {
+    Random                random  = new Random(42);
+    BankDirectory.Builder banks   = BankDirectory.builder();
+    Map<String, String>   names   = new HashMap<>();
+    CountryCode[]         codes   = { CountryCode.DE, CountryCode.FR, CountryCode.IT, CountryCode.GB };
+    for (int i = 0; i < 2000; i++) {
+      CountryCode countryCode = codes[random.nextInt(codes.length)];
+      String      bankCode    = Integer.toString(random.nextInt(100_000),
+                                                 36)
+                                       .toUpperCase();
+      if (banks.add(countryCode,
+                    bankCode,
+                    null,
+                    "bank " + i)) {
+        names.put(countryCode.getAlpha2() + bankCode,
+                  "bank " + i);
+      }
+    }
+    BankDirectory directory = banks.build();
+    assertThat(directory.size(),
+               is(equalTo(names.size())));
+    for (int index = 0; index < directory.size(); index++) {
+      String key = directory.getCountryCode(index)
+                            .getAlpha2() + directory.getBankCode(index);
+      assertThat(directory.getBankName(index),
+                 is(equalTo(names.get(key))));
+      assertThat(directory.indexOf(directory.getCountryCode(index),
+                                   directory.getBankCode(index)),
+                 is(equalTo(index)));
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void invalidBicShouldThrowException()
+      throws IOException {
+    BankDirectoryLoader.loadDelimited(new StringReader("FR;30004;BNPAXXPP;BNP Paribas\n"),
+                                      ';',
+                                      BankDirectory.builder());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void lineWithoutNameShouldThrowException()
+      throws IOException {
+    BankDirectoryLoader.loadDelimited(new StringReader("FR;30004;BNPAFRPP\n"),
+                                      ';',
+                                      BankDirectory.builder());
+  }
+
+  @Test(expected = IOException.class)
+  public void otherFileShouldNotBeOpened()
+      throws IOException {
+    Path file = folder.newFile("banks.txt")
+                      .toPath();
+    Files.write(file,
+                DELIMITED.getBytes(StandardCharsets.UTF_8));
+    BankDirectory.open(file);
+  }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright © 2020 Frank Hossfeld, Philipp Kohl
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nalukit.iban4g.server.bank;
+
+import io.github.nalukit.iban4g.server.bank.IbanBicMatcher.Result;
+import io.github.nalukit.iban4g.shared.Bic;
+import io.github.nalukit.iban4g.shared.CountryCode;
+import io.github.nalukit.iban4g.shared.Iban;
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsEqual.equalTo;
+
+public class IbanBicMatcherTest {
+
+  private static BankDirectory directory() {
+    BankDirectory.Builder builder = BankDirectory.builder();
+    builder.add(CountryCode.DE,
+                "37040044",
+                Bic.valueOf("COBADEFFXXX"),
+                "Commerzbank");
+    builder.add(CountryCode.DE,
+                "10010010",
+                null,
+                "Postbank");
+    builder.add(CountryCode.GB,
+                "NWBK",
+                Bic.valueOf("NWBKGB2L"),
+                "National Westminster Bank");
+    return builder.build();
+  }
+
+  @Test
+  public void countriesShouldBeChecked() {
+    IbanBicMatcher matcher = new IbanBicMatcher();
+    assertThat(matcher.matches(Iban.valueOf("DE89370400440532013000"),
+                               Bic.valueOf("DEUTDEFF")),
+               is(true));
+    assertThat(matcher.matches(Iban.valueOf("DE89370400440532013000"),
+                               Bic.valueOf("BNPAFRPP")),
+               is(false));
+    assertThat(matcher.check("DE89370400440532013000",
+                             "DEUTDEFF"),
+               is(equalTo(Result.MATCH)));
+    assertThat(matcher.check("DE89370400440532013000",
+                             "CHASUS33"),
+               is(equalTo(Result.COUNTRY_MISMATCH)));
+  }
+
+  @Test
+  public void territoriesShouldMatchTheirCountry() {
+    IbanBicMatcher matcher = new IbanBicMatcher();
+    Iban           iban    = Iban.valueOf("FR1420041010050500013M02606");
+    // GP shares the BBAN structure of FR
+    Iban territoryIban = Iban.builder()
+                             .countryCode(CountryCode.GP)
+                             .bankCode("20041")
+                             .branchCode("01005")
+                             .accountNumber("0500013M026")
+                             .nationalCheckDigit("06")
+                             .build();
+    assertThat(matcher.check(territoryIban,
+                             Bic.valueOf("BNPAFRPP")),
+               is(equalTo(Result.MATCH)));
+    assertThat(matcher.check(territoryIban,
+                             Bic.valueOf("BNPAMQMX")),
+               is(equalTo(Result.MATCH)));
+    assertThat(matcher.check(iban,
+                             Bic.valueOf("BNPAGPGP")),
+               is(equalTo(Result.MATCH)));
+    assertThat(matcher.check(Iban.valueOf("GB29NWBK60161331926819"),
+                             Bic.valueOf("BNPAFRPP")),
+               is(equalTo(Result.COUNTRY_MISMATCH)));
+    assertThat(matcher.check(iban,
+                             Bic.valueOf("BNPAMCMC")),
+               is(equalTo(Result.COUNTRY_MISMATCH)));
+  }
+
+  @Test
+  public void bankCodesShouldBeCheckedWithDirectory() {
+    IbanBicMatcher matcher = new IbanBicMatcher(directory());
+    assertThat(matcher.check("DE89370400440532013000",
+                             "COBADEFFXXX"),
+               is(equalTo(Result.MATCH)));
+    // other location and branch of the same institution
+    assertThat(matcher.check("DE89370400440532013000",
+                             "COBADEHH"),
+               is(equalTo(Result.MATCH)));
+    assertThat(matcher.check("DE89370400440532013000",
+                             "DEUTDEFF"),
+               is(equalTo(Result.BANK_MISMATCH)));
+    assertThat(matcher.matches(Iban.valueOf("DE89370400440532013000"),
+                               Bic.valueOf("DEUTDEFF")),
+               is(false));
+    assertThat(matcher.check("GB29NWBK60161331926819",
+                             "NWBKGB2LXXX"),
+               is(equalTo(Result.MATCH)));
+  }
+
+  @Test
+  public void unknownBankShouldNotBeMismatch() {
+    IbanBicMatcher matcher = new IbanBicMatcher(directory());
+    Iban           iban    = Iban.builder()
+                                 .countryCode(CountryCode.DE)
+                                 .bankCode("10010010")
+                                 .accountNumber("0532013000")
+                                 .build();
+    assertThat(matcher.check(iban,
+                             Bic.valueOf("PBNKDEFF")),
+               is(equalTo(Result.BANK_UNKNOWN)));
+    assertThat(matcher.matches(iban,
+                               Bic.valueOf("PBNKDEFF")),
+               is(true));
+    assertThat(matcher.check("AT611904300234573201",
+                             "BKAUATWW"),
+               is(equalTo(Result.BANK_UNKNOWN)));
+  }
+
+  @Test
+  public void bicWhichCanNotBePackedShouldNotMatchBank() {
+    IbanBicMatcher matcher = new IbanBicMatcher(directory());
+    assertThat(matcher.check("DE89370400440532013000",
+                             "COBÄDEFF"),
+               is(equalTo(Result.BANK_MISMATCH)));
+  }
+
+  @Test
+  public void invalidValuesShouldBeReported() {
+    IbanBicMatcher matcher = new IbanBicMatcher(directory());
+    assertThat(matcher.check("DE88370400440532013000",
+                             "COBADEFFXXX"),
+               is(equalTo(Result.INVALID_IBAN)));
+    assertThat(matcher.check(null,
+                             "COBADEFFXXX"),
+               is(equalTo(Result.INVALID_IBAN)));
+    assertThat(matcher.check("DE89370400440532013000",
+                             "COBADEFF_"),
+               is(equalTo(Result.INVALID_BIC)));
+    assertThat(matcher.check("DE89370400440532013000",
+                             null),
+               is(equalTo(Result.INVALID_BIC)));
+  }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright © 2020 Frank Hossfeld, Philipp Kohl
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nalukit.iban4g.server.bban;
+
+import io.github.nalukit.iban4g.shared.CountryCode;
+import io.github.nalukit.iban4g.shared.bban.BbanEntryType;
+import io.github.nalukit.iban4g.shared.bban.BbanStructure;
+import io.github.nalukit.iban4g.shared.bban.BbanStructureRegistry;
+import io.github.nalukit.iban4g.shared.bban.loader.BbanStructureLoadException;
+import io.github.nalukit.iban4g.shared.bban.loader.DefaultBbanStructureProviderLoader;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.IsNull.nullValue;
+import static org.hamcrest.core.IsSame.sameInstance;
+
+public class SwiftIbanRegistryLoaderTest {
+
+  private static final String SAMPLE = "swift-iban-registry-sample.txt";
+
+  @Test
+  public void registryShouldContainCountriesAndTerritories() {
+    BbanStructureRegistry registry = SwiftIbanRegistryLoader.loadResource(SAMPLE);
+
+    // 5 countries, 12 french and 3 british territories
+    assertThat(registry.supportedCountries()
+                       .size(),
+               is(equalTo(20)));
+    assertThat(registry.forCountry(CountryCode.GF),
+               is(sameInstance(registry.forCountry(CountryCode.FR))));
+    assertThat(registry.forCountry(CountryCode.JE),
+               is(sameInstance(registry.forCountry(CountryCode.GB))));
+  }
+
+  @Test
+  public void structureShouldBeCutAtBankAndBranchPosition() {
+    BbanStructure structure = SwiftIbanRegistryLoader.loadResource(SAMPLE)
+                                                     .forCountry(CountryCode.GB);
+
+    assertThat(structure.getBbanLength(),
+               is(equalTo(18)));
+    assertThat(structure.getEntryOffset(BbanEntryType.bank_code),
+               is(equalTo(0)));
+    assertThat(structure.getEntryLength(BbanEntryType.bank_code),
+               is(equalTo(4)));
+    assertThat(structure.getEntryOffset(BbanEntryType.branch_code),
+               is(equalTo(4)));
+    assertThat(structure.getEntryLength(BbanEntryType.branch_code),
+               is(equalTo(6)));
+    assertThat(structure.getEntryOffset(BbanEntryType.account_number),
+               is(equalTo(10)));
+  }
+
+  @Test
+  public void sampleShouldMatchDefaultStructures() {
+    BbanStructureRegistry swift = SwiftIbanRegistryLoader.loadResource(SAMPLE);
+    BbanStructureRegistryDiff diff = BbanStructureRegistryDiff.compare(DefaultBbanStructureProviderLoader.get()
+                                                                                                         .createRegistry(),
+                                                                       swift);
+
+    for (BbanStructureRegistryDiff.Difference difference : diff.getDifferences()) {
+      assertThat(difference.toString(),
+                 difference.getKind(),
+                 is(equalTo(BbanStructureRegistryDiff.Kind.MISSING)));
+    }
+  }
+
+  @Test
+  public void diffShouldReportDifferentBankCode() throws IOException {
+    BbanStructureRegistry swift = SwiftIbanRegistryLoader.load(new StringReader("IBAN prefix country code (ISO 3166)\tDE\n" +
+                                                                                "Bank identifier position within the BBAN\t1-6\n" +
+                                                                                "BBAN structure\t18!n\n"));
+    BbanStructureRegistryDiff diff = BbanStructureRegistryDiff.compare(DefaultBbanStructureProviderLoader.get()
+                                                                                                         .createRegistry(),
+                                                                       swift);
+
+    BbanStructureRegistryDiff.Difference bankCode = null;
+    for (BbanStructureRegistryDiff.Difference difference : diff.getDifferences()) {
+      if (difference.getCountryCode() == CountryCode.DE) {
+        assertThat(bankCode,
+                   is(nullValue()));
+        bankCode = difference;
+      }
+    }
+    assertThat(bankCode.getKind(),
+               is(equalTo(BbanStructureRegistryDiff.Kind.BANK_CODE)));
+    assertThat(bankCode.getExpected(),
+               is(equalTo("1-8")));
+    assertThat(bankCode.getActual(),
+               is(equalTo("1-6")));
+  }
+
+  @Test(expected = BbanStructureLoadException.class)
+  public void lengthNotMatchingFormatShouldThrowException() throws IOException {
+    SwiftIbanRegistryLoader.load(new StringReader("IBAN prefix country code (ISO 3166)\tDE\n" +
+                                                  "BBAN structure\t18!n\n" +
+                                                  "BBAN length\t20\n"));
+  }
+
+  @Test(expected = BbanStructureLoadException.class)
+  public void invalidFormatShouldThrowException() throws IOException {
+    SwiftIbanRegistryLoader.load(new StringReader("IBAN prefix country code (ISO 3166)\tDE\n" +
+                                                  "BBAN structure\t18!x\n"));
+  }
+
+  @Test(expected = BbanStructureLoadException.class)
+  public void missingResourceShouldThrowException() {
+    SwiftIbanRegistryLoader.loadResource("does-not-exist.txt");
+  }
+}
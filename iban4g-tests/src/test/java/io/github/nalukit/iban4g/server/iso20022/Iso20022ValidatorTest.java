@@ -0,0 +1,183 @@
+/*
+ * Copyright © 2020 Frank Hossfeld, Philipp Kohl
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nalukit.iban4g.server.iso20022;
+
+import io.github.nalukit.iban4g.shared.BicFormatException;
+import io.github.nalukit.iban4g.shared.IbanFormatException;
+import io.github.nalukit.iban4g.shared.InvalidCheckDigitException;
+import io.github.nalukit.iban4g.shared.UnsupportedCountryException;
+import org.junit.Test;
+
+import javax.xml.stream.XMLStreamException;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.IsInstanceOf.instanceOf;
+
+public class Iso20022ValidatorTest {
+
+  private static final String PAIN_001 = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" +
+                                         "<Document xmlns=\"urn:iso:std:iso:20022:tech:xsd:pain.001.001.03\">\n" +
+                                         "  <CstmrCdtTrfInitn>\n" +
+                                         "    <PmtInf>\n" +
+                                         "      <DbtrAcct><Id><IBAN>DE89370400440532013000</IBAN></Id></DbtrAcct>\n" +
+                                         "      <DbtrAgt><FinInstnId><BIC>COBADEFFXXX</BIC></FinInstnId></DbtrAgt>\n" +
+                                         "      <CdtTrfTxInf>\n" +
+                                         "        <CdtrAgt><FinInstnId><BIC>DEUTDEFF</BIC></FinInstnId></CdtrAgt>\n" +
+                                         "        <CdtrAcct><Id><IBAN>AT611904300234573201</IBAN></Id></CdtrAcct>\n" +
+                                         "      </CdtTrfTxInf>\n" +
+                                         "      <CdtTrfTxInf>\n" +
+                                         "        <CdtrAgt><FinInstnId><BIC>DEUTDDFF</BIC></FinInstnId></CdtrAgt>\n" +
+                                         "        <CdtrAcct><Id><IBAN>AT621904300234573201</IBAN></Id></CdtrAcct>\n" +
+                                         "      </CdtTrfTxInf>\n" +
+                                         "    </PmtInf>\n" +
+                                         "    <PmtInf>\n" +
+                                         "      <DbtrAcct><Id><IBAN>DE8937040044053201300</IBAN></Id></DbtrAcct>\n" +
+                                         "      <DbtrAgt><FinInstnId><BIC>deutdeff</BIC></FinInstnId></DbtrAgt>\n" +
+                                         "    </PmtInf>\n" +
+                                         "  </CstmrCdtTrfInitn>\n" +
+                                         "</Document>\n";
+
+  private static final String CAMT_053 = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" +
+                                         "<doc:Document xmlns:doc=\"urn:iso:std:iso:20022:tech:xsd:camt.053.001.08\">\n" +
+                                         "  <doc:BkToCstmrStmt>\n" +
+                                         "    <doc:Stmt>\n" +
+                                         "      <doc:Acct><doc:Id><doc:IBAN>DE88370400440532013000</doc:IBAN></doc:Id></doc:Acct>\n" +
+                                         "      <doc:Ntry><doc:NtryDtls><doc:TxDtls><doc:RltdAgts><doc:DbtrAgt><doc:FinInstnId>\n" +
+                                         "        <doc:BICFI>COBADEFFXXX</doc:BICFI>\n" +
+                                         "      </doc:FinInstnId></doc:DbtrAgt></doc:RltdAgts></doc:TxDtls></doc:NtryDtls></doc:Ntry>\n" +
+                                         "    </doc:Stmt>\n" +
+                                         "  </doc:BkToCstmrStmt>\n" +
+                                         "</doc:Document>\n";
+
+  private static InputStream streamOf(final String xml) {
+    return new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  public void painMessageShouldReportInvalidElements()
+      throws XMLStreamException {
+    List<Iso20022Violation> violations = new ArrayList<>();
+    long                    count      = Iso20022Validator.validate(streamOf(PAIN_001),
+                                                                    violations::add);
+
+    assertThat(count,
+               is(equalTo(8L)));
+    assertThat(violations.size(),
+               is(equalTo(4)));
+
+    assertThat(violations.get(0)
+                         .getPath(),
+               is(equalTo("/Document[1]/CstmrCdtTrfInitn[1]/PmtInf[1]/CdtTrfTxInf[2]/CdtrAgt[1]/FinInstnId[1]/BIC[1]")));
+    assertThat(violations.get(0)
+                         .getLine(),
+               is(equalTo(12)));
+    assertThat(violations.get(0)
+                         .getElementName(),
+               is(equalTo("BIC")));
+    assertThat(violations.get(0)
+                         .getValue(),
+               is(equalTo("DEUTDDFF")));
+    assertThat(violations.get(0)
+                         .getException(),
+               is(instanceOf(UnsupportedCountryException.class)));
+
+    assertThat(violations.get(1)
+                         .getPath(),
+               is(equalTo("/Document[1]/CstmrCdtTrfInitn[1]/PmtInf[1]/CdtTrfTxInf[2]/CdtrAcct[1]/Id[1]/IBAN[1]")));
+    assertThat(violations.get(1)
+                         .getLine(),
+               is(equalTo(13)));
+    assertThat(violations.get(1)
+                         .getException(),
+               is(instanceOf(InvalidCheckDigitException.class)));
+
+    assertThat(violations.get(2)
+                         .getPath(),
+               is(equalTo("/Document[1]/CstmrCdtTrfInitn[1]/PmtInf[2]/DbtrAcct[1]/Id[1]/IBAN[1]")));
+    assertThat(violations.get(2)
+                         .getException(),
+               is(instanceOf(IbanFormatException.class)));
+    assertThat(((IbanFormatException) violations.get(2)
+                                                .getException()).getFormatViolation(),
+               is(equalTo(IbanFormatException.IbanFormatViolation.BBAN_LENGTH)));
+
+    assertThat(violations.get(3)
+                         .getLine(),
+               is(equalTo(18)));
+    assertThat(violations.get(3)
+                         .getException(),
+               is(instanceOf(BicFormatException.class)));
+  }
+
+  @Test
+  public void statementWithPrefixShouldReportInvalidElements()
+      throws XMLStreamException {
+    List<Iso20022Violation> violations = new ArrayList<>();
+    long                    count      = Iso20022Validator.validate(streamOf(CAMT_053),
+                                                                    violations::add);
+
+    assertThat(count,
+               is(equalTo(2L)));
+    assertThat(violations.size(),
+               is(equalTo(1)));
+    assertThat(violations.get(0)
+                         .getPath(),
+               is(equalTo("/Document[1]/BkToCstmrStmt[1]/Stmt[1]/Acct[1]/Id[1]/IBAN[1]")));
+    assertThat(violations.get(0)
+                         .getLine(),
+               is(equalTo(5)));
+  }
+
+  @Test
+  public void fileShouldBeValidated()
+      throws IOException, XMLStreamException {
+    Path file = Files.createTempFile("pain",
+                                     ".xml");
+    try {
+      Files.write(file,
+                  PAIN_001.getBytes(StandardCharsets.UTF_8));
+      List<Iso20022Violation> violations = new ArrayList<>();
+      assertThat(Iso20022Validator.validate(file,
+                                            violations::add),
+                 is(equalTo(8L)));
+      assertThat(violations.size(),
+                 is(equalTo(4)));
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  @Test(expected = XMLStreamException.class)
+  public void externalEntityShouldNotBeResolved()
+      throws XMLStreamException {
+    String xml = "<?xml version=\"1.0\"?>\n" +
+                 "<!DOCTYPE Document [<!ENTITY iban SYSTEM \"file:///etc/hostname\">]>\n" +
+                 "<Document><IBAN>&iban;</IBAN></Document>\n";
+    Iso20022Validator.validate(streamOf(xml),
+                               violation -> {
+                               });
+  }
+}
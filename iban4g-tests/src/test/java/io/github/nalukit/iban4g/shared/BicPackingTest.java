@@ -0,0 +1,102 @@
+/*
+ * Copyright © 2020 Frank Hossfeld, Philipp Kohl
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nalukit.iban4g.shared;
+
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.IsNot.not;
+
+public class BicPackingTest {
+
+  @Test
+  public void packedBicShouldBeUnpackedToSameBic() {
+    for (Object[] data : TestDataHelper.getBicData()) {
+      Bic bic = Bic.valueOf((String) data[0]);
+      assertThat(bic.isPackable(),
+                 is(true));
+      assertThat(Bic.fromPacked(bic.toPacked()),
+                 is(equalTo(bic)));
+      assertThat(BicUtil.toPacked((String) data[0]),
+                 is(equalTo(bic.toPacked())));
+    }
+  }
+
+  @Test
+  public void bic8AndBic11ShouldBePackedDifferently() {
+    long bic8  = Bic.valueOf("DEUTDEFF")
+                    .toPacked();
+    long bic11 = Bic.valueOf("DEUTDEFF000")
+                    .toPacked();
+    assertThat(bic8,
+               is(not(equalTo(bic11))));
+    assertThat(Bic.fromPacked(bic8)
+                  .toString(),
+               is(equalTo("DEUTDEFF")));
+    assertThat(Bic.fromPacked(bic11)
+                  .toString(),
+               is(equalTo("DEUTDEFF000")));
+  }
+
+  @Test
+  public void packedBicShouldNotBeZero() {
+    assertThat(Bic.valueOf("AAAAAD00")
+                  .toPacked(),
+               is(not(equalTo(0L))));
+  }
+
+  @Test
+  public void bicWithNonAsciiLetterShouldNotBePackable() {
+    Bic bic = Bic.valueOf("DEUÄDEFF");
+    assertThat(bic.isPackable(),
+               is(false));
+    assertThat(BicUtil.toPacked("DEUÄDEFF"),
+               is(equalTo(0L)));
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void toPackedWithUnpackableBicShouldThrowException() {
+    Bic.valueOf("DEUÄDEFF")
+       .toPacked();
+  }
+
+  @Test
+  public void toPackedWithInvalidBicShouldReturnZero() {
+    assertThat(BicUtil.toPacked("DEUTDDFF"),
+               is(equalTo(0L)));
+    assertThat(BicUtil.toPacked(null),
+               is(equalTo(0L)));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void fromPackedWithZeroShouldThrowException() {
+    Bic.fromPacked(0L);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void fromPackedWithNegativeValueShouldThrowException() {
+    Bic.fromPacked(-1L);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void fromPackedWithInvalidBicShouldThrowException() {
+    // the digits of the bank code are packed, but not valid
+    Bic.fromPacked(Bic.valueOf("DEUTDEFF500")
+                      .toPacked() & 0xFFFFFL);
+  }
+}
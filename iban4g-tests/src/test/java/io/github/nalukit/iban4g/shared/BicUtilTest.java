@@ -15,12 +15,19 @@
  */
 package io.github.nalukit.iban4g.shared;
 
+import io.github.nalukit.iban4g.shared.BicFormatException.BicFormatViolation;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.experimental.runners.Enclosed;
 import org.junit.rules.ExpectedException;
 import org.junit.runner.RunWith;
 
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.IsNull.nullValue;
 import static org.hamcrest.core.StringContains.containsString;
 
 @RunWith(Enclosed.class)
@@ -101,4 +108,138 @@ public class BicUtilTest {
       BicUtil.validate("DEUTDEFF50_");
     }
   }
+
+
+
+  public static class BicBytesValidationTest {
+
+    @Rule
+    public ExpectedException expectedException = ExpectedException.none();
+
+    @Test
+    public void bicValidationWithValidBytesShouldNotThrowException() {
+      byte[] bytes = "#DEUTDEFF500#DEUTDEFF#".getBytes(StandardCharsets.US_ASCII);
+      BicUtil.validate(bytes,
+                       1,
+                       11);
+      BicUtil.validate(bytes,
+                       13,
+                       8);
+    }
+
+    @Test
+    public void bicValidationWithNullBytesShouldThrowException() {
+      expectedException.expect(BicFormatException.class);
+      expectedException.expectMessage(containsString("Null can't be a valid Bic"));
+      BicUtil.validate(null,
+                       0,
+                       0);
+    }
+
+    @Test
+    public void bicValidationWithLowercaseBytesShouldThrowException() {
+      expectedException.expect(BicFormatException.class);
+      expectedException.expectMessage(containsString("Bic must contain only upper case letters"));
+      BicUtil.validate("DEUTdeFF".getBytes(StandardCharsets.US_ASCII),
+                       0,
+                       8);
+    }
+
+    @Test
+    public void bicValidationWithNonExistingCountryCodeBytesShouldThrowException() {
+      expectedException.expect(UnsupportedCountryException.class);
+      expectedException.expectMessage(containsString("Country code 'DD' is not supported."));
+      BicUtil.validate("DEUTDDFF".getBytes(StandardCharsets.US_ASCII),
+                       0,
+                       8);
+    }
+
+    @Test
+    public void bicValidationWithInvalidBranchCodeBytesShouldThrowException() {
+      expectedException.expect(BicFormatException.class);
+      expectedException.expectMessage(containsString("Branch code must contain only letters or digits"));
+      BicUtil.validate("DEUTDEFF50_".getBytes(StandardCharsets.US_ASCII),
+                       0,
+                       11);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void bicValidationWithRangeOutsideBytesShouldThrowException() {
+      BicUtil.validate("DEUTDEFF".getBytes(StandardCharsets.US_ASCII),
+                       1,
+                       8);
+    }
+  }
+
+  public static class BicViolationTest {
+
+    private static final char[] REPLACEMENTS = { 'A', 'z', '7', '_', ' ', 'Ä', 'ä', 'ß', '٣' };
+
+    private static BicFormatViolation violationOf(final String bic) {
+      try {
+        BicUtil.validate(bic);
+        return null;
+      } catch (BicFormatException e) {
+        return e.getFormatViolation();
+      } catch (UnsupportedCountryException e) {
+        return BicFormatViolation.COUNTRY_CODE_EXISTS;
+      }
+    }
+
+    @Test
+    public void validBicShouldHaveNoViolation() {
+      for (Object[] data : TestDataHelper.getBicData()) {
+        assertThat(BicUtil.isValid((String) data[0]),
+                   is(true));
+        assertThat(BicUtil.getViolation((String) data[0]),
+                   is(nullValue()));
+      }
+    }
+
+    @Test
+    public void modifiedBicShouldHaveSameViolationAsValidate() {
+      for (Object[] data : TestDataHelper.getBicData()) {
+        String bic = (String) data[0];
+        for (int position = 0; position < bic.length(); position++) {
+          for (char replacement : REPLACEMENTS) {
+            String modified = bic.substring(0,
+                                            position) + replacement + bic.substring(position + 1);
+            assertThat(modified,
+                       BicUtil.getViolation(modified),
+                       is(equalTo(violationOf(modified))));
+          }
+        }
+      }
+    }
+
+    @Test
+    public void violationShouldBeReportedInOrderOfValidate() {
+      assertThat(BicUtil.getViolation(null),
+                 is(equalTo(BicFormatViolation.BIC_NOT_NULL)));
+      assertThat(BicUtil.getViolation(""),
+                 is(equalTo(BicFormatViolation.BIC_NOT_EMPTY)));
+      assertThat(BicUtil.getViolation("DEUTDEFF5"),
+                 is(equalTo(BicFormatViolation.BIC_LENGTH_8_OR_11)));
+      assertThat(BicUtil.getViolation("DEU_DEFF50x"),
+                 is(equalTo(BicFormatViolation.BIC_ONLY_UPPER_CASE_LETTERS)));
+      assertThat(BicUtil.getViolation("DEU_DDFF50_"),
+                 is(equalTo(BicFormatViolation.BANK_CODE_ONLY_LETTERS)));
+      assertThat(BicUtil.getViolation("DEUTDDF_50_"),
+                 is(equalTo(BicFormatViolation.COUNTRY_CODE_EXISTS)));
+      assertThat(BicUtil.getViolation("DEUTD1FF"),
+                 is(equalTo(BicFormatViolation.COUNTRY_CODE_ONLY_UPPER_CASE_LETTERS)));
+      assertThat(BicUtil.getViolation("DEUTDEF_50_"),
+                 is(equalTo(BicFormatViolation.LOCATION_CODE_ONLY_LETTERS_OR_DIGITS)));
+      assertThat(BicUtil.getViolation("DEUTDEFF50_"),
+                 is(equalTo(BicFormatViolation.BRANCH_CODE_ONLY_LETTERS_OR_DIGITS)));
+    }
+
+    @Test
+    public void bicWithNonAsciiLowerCaseShouldBeInvalid() {
+      assertThat(BicUtil.getViolation("DEUTDEFßXXX"),
+                 is(equalTo(BicFormatViolation.BIC_ONLY_UPPER_CASE_LETTERS)));
+      assertThat(BicUtil.getViolation("DEUTDEFÄ"),
+                 is(nullValue()));
+    }
+  }
 }
@@ -109,6 +109,70 @@ public class CountryCodeTest {
                is(nullValue()));
   }
 
+  @Test
+  public void getByCodeWithMixedCaseCodeShouldReturnCountry() {
+    assertThat(CountryCode.getByCode("dE"),
+               is(equalTo(CountryCode.DE)));
+    assertThat(CountryCode.getByCode("dEu"),
+               is(equalTo(CountryCode.DE)));
+  }
+
+  @Test
+  public void getByCodeWithNonLetterCodeShouldReturnNull() {
+    assertThat(CountryCode.getByCode("D1"),
+               is(nullValue()));
+    assertThat(CountryCode.getByCode("D\u00C9U"),
+               is(nullValue()));
+    assertThat(CountryCode.getByCode("[E"),
+               is(nullValue()));
+  }
+
+  @Test
+  public void getByCodeWithOffsetShouldReturnCountry() {
+    assertThat(CountryCode.getByCode("DE89370400440532013000",
+                                     0,
+                                     2),
+               is(equalTo(CountryCode.DE)));
+    assertThat(CountryCode.getByCode(new StringBuilder("iban: at611904300234573201"),
+                                     6,
+                                     2),
+               is(equalTo(CountryCode.AT)));
+    assertThat(CountryCode.getByCode("country=aut",
+                                     8,
+                                     3),
+               is(equalTo(CountryCode.AT)));
+  }
+
+  @Test
+  public void getByCodeWithOffsetOutOfRangeShouldReturnNull() {
+    assertThat(CountryCode.getByCode("DE",
+                                     1,
+                                     2),
+               is(nullValue()));
+    assertThat(CountryCode.getByCode("DE",
+                                     -1,
+                                     2),
+               is(nullValue()));
+    assertThat(CountryCode.getByCode("DEU",
+                                     0,
+                                     4),
+               is(nullValue()));
+    assertThat(CountryCode.getByCode(null,
+                                     0,
+                                     2),
+               is(nullValue()));
+  }
+
+  @Test
+  public void getByAlpha2CodeAndGetByAlpha3CodeShouldOnlyMatchTheirLength() {
+    assertThat(CountryCode.getByAlpha2Code("DEU",
+                                           0),
+               is(equalTo(CountryCode.DE)));
+    assertThat(CountryCode.getByAlpha3Code("DE",
+                                           0),
+               is(nullValue()));
+  }
+
   @Test
   public void getNameWithDECodeShouldReturnGermany() {
     assertThat(CountryCode.DE.getName(),
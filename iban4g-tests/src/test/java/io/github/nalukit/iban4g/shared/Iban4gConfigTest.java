@@ -0,0 +1,88 @@
+/*
+ * Copyright © 2020 Frank Hossfeld, Philipp Kohl
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nalukit.iban4g.shared;
+
+import org.junit.After;
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsEqual.equalTo;
+
+public class Iban4gConfigTest {
+
+  @After
+  public void tearDown() {
+    Iban4gConfig.setStackTraceEnabled(true);
+  }
+
+  private static Iban4gException validate(final String iban) {
+    try {
+      IbanUtil.validate(iban);
+    } catch (Iban4gException e) {
+      return e;
+    }
+    throw new AssertionError("iban is valid: " + iban);
+  }
+
+  @Test
+  public void exceptionShouldHaveStackTraceByDefault() {
+    assertThat(Iban4gConfig.isStackTraceEnabled(),
+               is(true));
+    assertThat(validate("DE88370400440532013000").getStackTrace().length > 0,
+               is(true));
+  }
+
+  @Test
+  public void exceptionShouldHaveNoStackTraceIfDisabled() {
+    Iban4gConfig.setStackTraceEnabled(false);
+    assertThat(validate("DE88370400440532013000").getStackTrace().length,
+               is(equalTo(0)));
+    assertThat(validate("XX88370400440532013000").getStackTrace().length,
+               is(equalTo(0)));
+  }
+
+  @Test
+  public void messageShouldNotDependOnStackTrace() {
+    String[] ibans = { "DE88370400440532013000", "DE8937040044053201300", "AM611904300234573201", "AT611C04300234573201", "AT61190430023457320_" };
+    for (String iban : ibans) {
+      String message = validate(iban).getMessage();
+      Iban4gConfig.setStackTraceEnabled(false);
+      assertThat(validate(iban).getMessage(),
+                 is(equalTo(message)));
+      Iban4gConfig.setStackTraceEnabled(true);
+    }
+  }
+
+  @Test
+  public void invalidCheckDigitExceptionShouldCalculateExpectedCheckDigit() {
+    InvalidCheckDigitException exception = (InvalidCheckDigitException) validate("DE88370400440532013000");
+    assertThat(exception.getActual(),
+               is(equalTo("88")));
+    assertThat(exception.getExpected(),
+               is(equalTo("89")));
+    assertThat(exception.getMessage(),
+               is(equalTo("[DE88370400440532013000] has invalid check digit: 88, expected check digit is: 89")));
+  }
+
+  @Test
+  public void unsupportedCountryExceptionShouldFormatMessage() {
+    assertThat(new UnsupportedCountryException("AM").getMessage(),
+               is(equalTo("Country code 'AM' is not supported.")));
+    assertThat(new UnsupportedCountryException((String) null).getMessage(),
+               is(equalTo("Country code 'null' is not supported.")));
+  }
+}
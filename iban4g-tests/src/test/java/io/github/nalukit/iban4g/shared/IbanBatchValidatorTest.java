@@ -0,0 +1,78 @@
+/*
+ * Copyright © 2020 Frank Hossfeld, Philipp Kohl
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nalukit.iban4g.shared;
+
+import io.github.nalukit.iban4g.shared.IbanFormatException.IbanFormatViolation;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.IsNull.nullValue;
+
+public class IbanBatchValidatorTest {
+
+  private static final List<String> IBANS = Arrays.asList("DE89370400440532013000",
+                                                          null,
+                                                          "",
+                                                          "XX89370400440532013000",
+                                                          "DE8937040044053201300",
+                                                          "DE88370400440532013000",
+                                                          "NO9386011117947");
+
+  @Test
+  public void codesShouldMatchViolationOfEveryIban() {
+    byte[] codes = IbanUtil.validateAll(IBANS);
+
+    assertThat(codes.length,
+               is(equalTo(IBANS.size())));
+    for (int i = 0; i < IBANS.size(); i++) {
+      assertThat(IbanBatchValidator.toViolation(codes[i]),
+                 is(IbanUtil.getViolation(IBANS.get(i))));
+    }
+    assertThat(IbanBatchValidator.countInvalid(codes),
+               is(equalTo(5)));
+  }
+
+  @Test
+  public void validIbanShouldHaveValidCode() {
+    byte[] codes = IbanBatchValidator.validate(IBANS);
+
+    assertThat(codes[0],
+               is(equalTo(IbanBatchValidator.VALID)));
+    assertThat(IbanBatchValidator.toViolation(codes[0]),
+               is(nullValue()));
+  }
+
+  @Test
+  public void linkedListShouldGiveSameCodesAsArrayList() {
+    assertThat(IbanBatchValidator.validate(new LinkedList<>(IBANS)),
+               is(equalTo(IbanBatchValidator.validate(new ArrayList<>(IBANS)))));
+  }
+
+  @Test
+  public void codeShouldBeMappedBackToViolation() {
+    for (IbanFormatViolation violation : IbanFormatViolation.values()) {
+      assertThat(IbanBatchValidator.toViolation(IbanBatchValidator.codeOf(violation)),
+                 is(equalTo(violation)));
+    }
+  }
+}
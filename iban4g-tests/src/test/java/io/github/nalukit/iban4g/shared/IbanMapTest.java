@@ -0,0 +1,107 @@
+/*
+ * Copyright © 2020 Frank Hossfeld, Philipp Kohl
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nalukit.iban4g.shared;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.IsNull.nullValue;
+
+public class IbanMapTest {
+
+  @Test
+  public void putShouldReturnPreviousValue() {
+    IbanMap<String> map = new IbanMap<>();
+    assertThat(map.put("DE89370400440532013000",
+                       "first"),
+               is(nullValue()));
+    assertThat(map.put(Iban.valueOf("DE89370400440532013000"),
+                       "second"),
+               is(equalTo("first")));
+
+    assertThat(map.get("DE89370400440532013000"),
+               is(equalTo("second")));
+    assertThat(map.get(Iban.valueOf("DE89370400440532013000")),
+               is(equalTo("second")));
+    assertThat(map.size(),
+               is(equalTo(1)));
+  }
+
+  @Test
+  public void getWithUnknownIbanShouldReturnNull() {
+    IbanMap<String> map = new IbanMap<>();
+    map.put("DE89370400440532013000",
+            "value");
+
+    assertThat(map.get("AT611904300234573201"),
+               is(nullValue()));
+    assertThat(map.get("DE88370400440532013000"),
+               is(nullValue()));
+    assertThat(map.containsKey("AT611904300234573201"),
+               is(false));
+  }
+
+  @Test
+  public void removeShouldReturnValue() {
+    IbanMap<String> map = new IbanMap<>();
+    map.put("DE89370400440532013000",
+            "packed");
+    map.put("MT84MALT011000012345MTLCAST001S",
+            "unpacked");
+
+    assertThat(map.remove("DE89370400440532013000"),
+               is(equalTo("packed")));
+    assertThat(map.remove("MT84MALT011000012345MTLCAST001S"),
+               is(equalTo("unpacked")));
+    assertThat(map.remove("DE89370400440532013000"),
+               is(nullValue()));
+    assertThat(map.isEmpty(),
+               is(true));
+  }
+
+  @Test
+  public void mapShouldKeepValuesWhileResizing() {
+    IbanMap<Integer>     map      = new IbanMap<>();
+    Map<String, Integer> expected = new HashMap<>();
+    for (int i = 0; i < 1_000; i++) {
+      Iban iban = Iban.builder()
+                      .countryCode(CountryCode.DE)
+                      .bankCode("37040044")
+                      .accountNumber(String.format("%010d",
+                                                   i))
+                      .build();
+      map.put(iban,
+              i);
+      expected.put(iban.toString(),
+                   i);
+    }
+
+    Map<String, Integer> actual = new HashMap<>();
+    map.forEach((iban, value) -> actual.put(iban.toString(),
+                                            value));
+    assertThat(actual,
+               is(equalTo(expected)));
+    for (Map.Entry<String, Integer> entry : expected.entrySet()) {
+      assertThat(map.get(entry.getKey()),
+                 is(equalTo(entry.getValue())));
+    }
+  }
+}
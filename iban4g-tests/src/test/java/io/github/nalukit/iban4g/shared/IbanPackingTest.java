@@ -0,0 +1,162 @@
+/*
+ * Copyright © 2020 Frank Hossfeld, Philipp Kohl
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nalukit.iban4g.shared;
+
+import io.github.nalukit.iban4g.shared.bban.BbanStructureProvider;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.IsNot.not;
+
+public class IbanPackingTest {
+
+  @Test
+  public void packedIbanShouldBeUnpackedToSameIban() {
+    for (Object[] data : TestDataHelper.getIbanData()) {
+      Iban iban = (Iban) data[0];
+      if (iban.isPackable()) {
+        long[] packed = iban.toPacked();
+        assertThat(Iban.fromPacked(packed[0],
+                                   packed[1]),
+                   is(equalTo(iban)));
+      }
+    }
+  }
+
+  @Test
+  public void numericIbanShouldBePackable() {
+    assertThat(Iban.valueOf("DE89370400440532013000")
+                   .isPackable(),
+               is(true));
+    assertThat(Iban.valueOf("LC55HEMM000100010012001200023015")
+                   .isPackable(),
+               is(true));
+  }
+
+  @Test
+  public void alphanumericIbanShouldBePackableIfItFits() {
+    assertThat(Iban.valueOf("FR1420041010050500013M02606")
+                   .isPackable(),
+               is(true));
+    assertThat(Iban.valueOf("MT84MALT011000012345MTLCAST001S")
+                   .isPackable(),
+               is(false));
+  }
+
+  @Test
+  public void lowerCaseIbanShouldNotBePackable() {
+    Iban iban = Iban.builder()
+                    .countryCode(CountryCode.FR)
+                    .bankCode("20041")
+                    .branchCode("01005")
+                    .accountNumber("0500013m026")
+                    .nationalCheckDigit("06")
+                    .build();
+    assertThat(iban.isPackable(),
+               is(false));
+  }
+
+  @Test
+  public void ibanWithAlternativeCheckDigitShouldNotBePackable() {
+    // 99 is valid as well, but the check digit is not stored and would be unpacked as 02
+    assertThat(Iban.valueOf("DE02370400440000000024")
+                   .isPackable(),
+               is(true));
+    assertThat(Iban.valueOf("DE99370400440000000024")
+                   .isPackable(),
+               is(false));
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void toPackedWithUnpackableIbanShouldThrowException() {
+    Iban.valueOf("MT84MALT011000012345MTLCAST001S")
+        .toPacked();
+  }
+
+  @Test
+  public void toPackedShouldWriteAtOffset() {
+    Iban   iban   = Iban.valueOf("AT611904300234573201");
+    long[] packed = new long[4];
+    iban.toPacked(packed,
+                  2);
+    assertThat(packed[0],
+               is(equalTo(0L)));
+    assertThat(Iban.fromPacked(packed[2],
+                               packed[3]),
+               is(equalTo(iban)));
+  }
+
+  @Test
+  public void randomIbansShouldBePackedUniquely() {
+    Random            random = new Random(42);
+    Map<String, Iban> ibans  = new HashMap<>();
+    for (CountryCode countryCode : BbanStructureProvider.get()
+                                                        .supportedCountries()) {
+      for (int i = 0; i < 100; i++) {
+        Iban iban = Iban.builder()
+                        .random(random)
+                        .countryCode(countryCode)
+                        .buildRandom();
+        if (iban.isPackable()) {
+          long[] packed = iban.toPacked();
+          assertThat(packed[0],
+                     is(not(equalTo(0L))));
+          assertThat(Iban.fromPacked(packed[0],
+                                     packed[1]),
+                     is(equalTo(iban)));
+          Iban other = ibans.put(packed[0] + ":" + packed[1],
+                                 iban);
+          if (other != null) {
+            assertThat(other,
+                       is(equalTo(iban)));
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  public void packedHashCodeShouldBeEqualForEqualIbans() {
+    long[] packed1 = Iban.valueOf("DE89370400440532013000")
+                         .toPacked();
+    long[] packed2 = Iban.valueOf("DE89370400440532013000")
+                         .toPacked();
+    assertThat(Iban.packedHashCode(packed1[0],
+                                   packed1[1]),
+               is(equalTo(Iban.packedHashCode(packed2[0],
+                                              packed2[1]))));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void fromPackedWithUnknownCountryShouldThrowException() {
+    Iban.fromPacked(0L,
+                    0L);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void fromPackedWithTooLargeBbanShouldThrowException() {
+    long[] packed = Iban.valueOf("AT611904300234573201")
+                        .toPacked();
+    Iban.fromPacked(packed[0] | 0xFFFFL,
+                    packed[1]);
+  }
+}
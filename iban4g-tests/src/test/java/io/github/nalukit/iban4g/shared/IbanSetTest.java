@@ -0,0 +1,176 @@
+/*
+ * Copyright © 2020 Frank Hossfeld, Philipp Kohl
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nalukit.iban4g.shared;
+
+import io.github.nalukit.iban4g.shared.bban.BbanStructureProvider;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsEqual.equalTo;
+
+public class IbanSetTest {
+
+  /**
+   * Valid, but can not be packed.
+   */
+  private static final String UNPACKABLE_IBAN = "MT84MALT011000012345MTLCAST001S";
+
+  @Test
+  public void addedIbanShouldBeContained() {
+    IbanSet set = new IbanSet();
+    assertThat(set.add("DE89370400440532013000"),
+               is(true));
+    assertThat(set.add(Iban.valueOf("DE89370400440532013000")),
+               is(false));
+
+    assertThat(set.contains("DE89370400440532013000"),
+               is(true));
+    assertThat(set.contains(new StringBuilder("DE89370400440532013000")),
+               is(true));
+    assertThat(set.contains(Iban.valueOf("DE89370400440532013000")),
+               is(true));
+    assertThat(set.contains("AT611904300234573201"),
+               is(false));
+    assertThat(set.size(),
+               is(equalTo(1)));
+  }
+
+  @Test
+  public void invalidValueShouldNotBeContained() {
+    IbanSet set = new IbanSet();
+    set.add("DE89370400440532013000");
+
+    assertThat(set.contains((CharSequence) null),
+               is(false));
+    assertThat(set.contains(""),
+               is(false));
+    assertThat(set.contains("DE88370400440532013000"),
+               is(false));
+    assertThat(set.contains("de89370400440532013000"),
+               is(false));
+    assertThat(set.contains("DE8937040044053201300"),
+               is(false));
+  }
+
+  @Test
+  public void unpackableIbanShouldBeContained() {
+    IbanSet set = new IbanSet();
+    assertThat(set.add(UNPACKABLE_IBAN),
+               is(true));
+    assertThat(set.add(UNPACKABLE_IBAN),
+               is(false));
+
+    assertThat(set.contains(new StringBuilder(UNPACKABLE_IBAN)),
+               is(true));
+    assertThat(set.size(),
+               is(equalTo(1)));
+    assertThat(set.iterator()
+                  .next(),
+               is(equalTo(Iban.valueOf(UNPACKABLE_IBAN))));
+    assertThat(set.remove(UNPACKABLE_IBAN),
+               is(true));
+    assertThat(set.isEmpty(),
+               is(true));
+  }
+
+  @Test
+  public void ibanWithAlternativeCheckDigitShouldBeDistinct() {
+    IbanSet set = new IbanSet();
+    set.add("DE02370400440000000024");
+
+    assertThat(set.contains("DE99370400440000000024"),
+               is(false));
+    assertThat(set.add("DE99370400440000000024"),
+               is(true));
+    assertThat(set.size(),
+               is(equalTo(2)));
+  }
+
+  @Test(expected = InvalidCheckDigitException.class)
+  public void addInvalidIbanShouldThrowException() {
+    new IbanSet().add("DE88370400440532013000");
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void expectedSizeAboveMaximumShouldThrowException() {
+    new IbanSet(IbanSet.MAXIMUM_EXPECTED_SIZE + 1);
+  }
+
+  @Test
+  public void setShouldBehaveLikeHashSet() {
+    Random     random = new Random(42);
+    List<Iban> ibans  = new ArrayList<>();
+    for (CountryCode countryCode : BbanStructureProvider.get()
+                                                        .supportedCountries()) {
+      for (int i = 0; i < 50; i++) {
+        ibans.add(Iban.builder()
+                      .random(random)
+                      .countryCode(countryCode)
+                      .buildRandom());
+      }
+    }
+
+    IbanSet   set      = new IbanSet();
+    Set<Iban> expected = new HashSet<>();
+    for (int i = 0; i < 20_000; i++) {
+      Iban iban = ibans.get(random.nextInt(ibans.size()));
+      if (random.nextInt(3) == 0) {
+        assertThat(set.remove(iban.toString()),
+                   is(equalTo(expected.remove(iban))));
+      } else {
+        assertThat(set.add(iban),
+                   is(equalTo(expected.add(iban))));
+      }
+      assertThat(set.size(),
+                 is(equalTo(expected.size())));
+    }
+    for (Iban iban : ibans) {
+      assertThat(set.contains(iban),
+                 is(equalTo(expected.contains(iban))));
+    }
+
+    Set<Iban> iterated = new HashSet<>();
+    for (Iban iban : set) {
+      assertThat(iterated.add(iban),
+                 is(true));
+    }
+    assertThat(iterated,
+               is(equalTo(expected)));
+  }
+
+  @Test
+  public void clearShouldRemoveAllIbans() {
+    IbanSet set = new IbanSet();
+    set.add("DE89370400440532013000");
+    set.add(UNPACKABLE_IBAN);
+    set.clear();
+
+    assertThat(set.isEmpty(),
+               is(true));
+    assertThat(set.contains("DE89370400440532013000"),
+               is(false));
+    assertThat(set.iterator()
+                  .hasNext(),
+               is(false));
+  }
+}
@@ -15,6 +15,10 @@
  */
 package io.github.nalukit.iban4g.shared;
 
+import io.github.nalukit.iban4g.shared.bban.BbanStructure;
+import io.github.nalukit.iban4g.shared.bban.BbanStructureEntry;
+import io.github.nalukit.iban4g.shared.bban.BbanStructureProvider;
+import io.github.nalukit.iban4g.shared.bban.BbanStructureRegistry;
 import org.junit.Test;
 import org.junit.experimental.runners.Enclosed;
 import org.junit.runner.RunWith;
@@ -27,6 +31,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
 import static org.hamcrest.core.IsEqual.equalTo;
 import static org.hamcrest.core.IsNot.not;
+import static org.hamcrest.core.IsNull.nullValue;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
 
@@ -67,6 +72,28 @@ public class IbanTest {
 
   public static class IbanGenerationTest2 {
 
+    @Test
+    public void parsedIbanShouldKeepValidatedStructureAfterReload() {
+      Iban iban = Iban.valueOf("DE89370400440532013000");
+      try {
+        BbanStructureProvider.get()
+                             .reload(BbanStructureRegistry.builder()
+                                                          .addBbanStructure(CountryCode.DE,
+                                                                            new BbanStructure(BbanStructureEntry.bankCode(4,
+                                                                                                                          'n'),
+                                                                                              BbanStructureEntry.accountNumber(14,
+                                                                                                                               'n')))
+                                                          .build());
+        assertThat(iban.getBankCode(),
+                   is(equalTo("37040044")));
+        assertThat(iban.getAccountNumber(),
+                   is(equalTo("0532013000")));
+      } finally {
+        BbanStructureProvider.get()
+                             .reload();
+      }
+    }
+
     @Test
     public void ibansWithSameDataShouldBeEqual() {
       Iban iban1 = new Iban.Builder().countryCode(CountryCode.AT)
@@ -204,6 +231,44 @@ public class IbanTest {
                  is(equalTo("5510730339")));
     }
 
+    @Test
+    public void parsedIbanShouldReturnSameEntriesAsBuiltIban() {
+      Iban built  = new Iban.Builder().countryCode(CountryCode.BR)
+                                      .bankCode("00360305")
+                                      .branchCode("00001")
+                                      .accountNumber("0009795493")
+                                      .accountType("P")
+                                      .ownerAccountType("1")
+                                      .build();
+      Iban parsed = Iban.valueOf(built.toString());
+
+      assertThat(parsed.getCountryCode(),
+                 is(equalTo(CountryCode.BR)));
+      assertThat(parsed.getBankCode(),
+                 is(equalTo(built.getBankCode())));
+      assertThat(parsed.getBranchCode(),
+                 is(equalTo(built.getBranchCode())));
+      assertThat(parsed.getAccountNumber(),
+                 is(equalTo(built.getAccountNumber())));
+      assertThat(parsed.getAccountType(),
+                 is(equalTo(built.getAccountType())));
+      assertThat(parsed.getOwnerAccountType(),
+                 is(equalTo(built.getOwnerAccountType())));
+      // second call is answered from the cached structure
+      assertThat(parsed.getBankCode(),
+                 is(equalTo("00360305")));
+    }
+
+    @Test
+    public void missingEntryShouldReturnNull() {
+      Iban iban = Iban.valueOf("DE89370400440532013000");
+
+      assertThat(iban.getBranchCode(),
+                 is(nullValue()));
+      assertThat(iban.getNationalCheckDigit(),
+                 is(nullValue()));
+    }
+
     @Test
     public void ibanShouldReturnValidBban() {
       Iban iban = new Iban.Builder().countryCode(CountryCode.AT)
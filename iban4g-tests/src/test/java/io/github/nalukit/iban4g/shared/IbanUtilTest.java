@@ -25,6 +25,9 @@ import org.junit.rules.ExpectedException;
 import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -32,6 +35,7 @@ import java.util.Collection;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
 import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.IsNull.nullValue;
 import static org.hamcrest.core.StringContains.containsString;
 
 @RunWith(Enclosed.class)
@@ -329,6 +333,224 @@ public class IbanUtilTest {
 
 
 
+  @RunWith(Parameterized.class)
+  public static class ValidIbanViolationTest {
+
+    private final String ibanString;
+
+    public ValidIbanViolationTest(Iban iban,
+                                  String ibanString) {
+      this.ibanString = ibanString;
+    }
+
+    @Parameterized.Parameters
+    public static Collection<Object[]> ibanParameters() {
+      return TestDataHelper.getIbanData();
+    }
+
+    @Test
+    public void ibanViolationWithValidIbanShouldReturnNull() {
+      assertThat(IbanUtil.getViolation(ibanString),
+                 is(nullValue()));
+      assertThat(IbanUtil.isValid(ibanString),
+                 is(equalTo(true)));
+    }
+
+    @Test
+    public void ibanViolationWithValidIbanBytesShouldReturnNull() {
+      byte[] bytes = ("#" + ibanString + "#").getBytes(StandardCharsets.US_ASCII);
+      assertThat(IbanUtil.getViolation(bytes,
+                                       1,
+                                       ibanString.length()),
+                 is(nullValue()));
+      assertThat(IbanUtil.isValid(bytes,
+                                  1,
+                                  ibanString.length()),
+                 is(equalTo(true)));
+      IbanUtil.validate(bytes,
+                        1,
+                        ibanString.length());
+    }
+
+    @Test
+    public void formattedValidIbanShouldBeValidInDefaultFormat()
+        throws IOException {
+      String formatted = ibanString.replaceAll("(.{4})(?!$)",
+                                               "$1 ");
+      assertThat(IbanUtil.toFormattedString(ibanString),
+                 is(equalTo(formatted)));
+      assertThat(IbanUtil.appendFormatted(ibanString,
+                                          new StringBuilder(">"))
+                         .toString(),
+                 is(equalTo(">" + formatted)));
+      assertThat(IbanUtil.appendFormatted(ibanString,
+                                          (Appendable) new StringWriter())
+                         .toString(),
+                 is(equalTo(formatted)));
+      char[] chars = new char[IbanUtil.getFormattedLength(ibanString.length()) + 1];
+      assertThat(IbanUtil.formatTo(ibanString,
+                                   chars,
+                                   1),
+                 is(equalTo(formatted.length())));
+      assertThat(new String(chars,
+                            1,
+                            formatted.length()),
+                 is(equalTo(formatted)));
+
+      assertThat(IbanUtil.isFormatted(formatted),
+                 is(equalTo(true)));
+      assertThat(IbanUtil.getViolation(formatted,
+                                       IbanFormat.Default),
+                 is(nullValue()));
+      assertThat(IbanUtil.getViolation(ibanString,
+                                       IbanFormat.Default),
+                 is(equalTo(IbanFormatException.IbanFormatViolation.IBAN_FORMATTING)));
+      assertThat(IbanUtil.isValid(ibanString,
+                                  IbanFormat.None),
+                 is(equalTo(true)));
+      IbanUtil.validate(formatted,
+                        IbanFormat.Default);
+    }
+  }
+
+
+
+  @RunWith(Parameterized.class)
+  public static class InvalidIbanViolationTest {
+
+    private final String                                  ibanString;
+    private final IbanFormatException.IbanFormatViolation expectedViolation;
+
+    public InvalidIbanViolationTest(String ibanString,
+                                    IbanFormatException.IbanFormatViolation expectedViolation) {
+      this.ibanString        = ibanString;
+      this.expectedViolation = expectedViolation;
+    }
+
+    @Parameterized.Parameters
+    public static Collection<Object[]> ibanParameters() {
+      return Arrays.asList(new Object[][] { { null, IbanFormatException.IbanFormatViolation.IBAN_NOT_NULL },
+                                            { "", IbanFormatException.IbanFormatViolation.IBAN_NOT_EMPTY },
+                                            { "A", IbanFormatException.IbanFormatViolation.COUNTRY_CODE_TWO_LETTERS },
+                                            { "AT", IbanFormatException.IbanFormatViolation.CHECK_DIGIT_TWO_DIGITS },
+                                            { "AT4T", IbanFormatException.IbanFormatViolation.CHECK_DIGIT_ONLY_DIGITS },
+                                            { "AT48", IbanFormatException.IbanFormatViolation.BBAN_LENGTH },
+                                            { "at611904300234573201", IbanFormatException.IbanFormatViolation.COUNTRY_CODE_UPPER_CASE_LETTERS },
+                                            { " _611904300234573201", IbanFormatException.IbanFormatViolation.COUNTRY_CODE_UPPER_CASE_LETTERS },
+                                            { "JJ611904300234573201", IbanFormatException.IbanFormatViolation.COUNTRY_CODE_EXISTS },
+                                            { "AM611904300234573201", IbanFormatException.IbanFormatViolation.COUNTRY_CODE_SUPPORTED },
+                                            { "AT621904300234573201", IbanFormatException.IbanFormatViolation.CHECK_DIGIT_VALID },
+                                            { "AT61 1904300234573201", IbanFormatException.IbanFormatViolation.BBAN_LENGTH },
+                                            { "AT611C04300234573201", IbanFormatException.IbanFormatViolation.BBAN_ONLY_DIGITS },
+                                            { "IT6010542811101000000123456", IbanFormatException.IbanFormatViolation.BBAN_ONLY_UPPER_CASE_LETTERS },
+                                            { "AD12000120302003591001+0", IbanFormatException.IbanFormatViolation.BBAN_ONLY_DIGITS_OR_LETTERS } });
+    }
+
+    @Test
+    public void ibanViolationWithInvalidIbanShouldReturnViolation() {
+      assertThat(IbanUtil.getViolation(ibanString),
+                 is(equalTo(expectedViolation)));
+      assertThat(IbanUtil.isValid(ibanString),
+                 is(equalTo(false)));
+    }
+
+    @Test
+    public void ibanViolationWithInvalidIbanBytesShouldReturnViolation() {
+      byte[] bytes  = ibanString == null ?
+                      null :
+                      ibanString.getBytes(StandardCharsets.US_ASCII);
+      int    length = ibanString == null ?
+                      0 :
+                      ibanString.length();
+      assertThat(IbanUtil.getViolation(bytes,
+                                       0,
+                                       length),
+                 is(equalTo(expectedViolation)));
+      assertThat(IbanUtil.isValid(bytes,
+                                  0,
+                                  length),
+                 is(equalTo(false)));
+    }
+
+    @Test
+    public void ibanValidationWithInvalidIbanBytesShouldThrowSameException() {
+      byte[] bytes  = ibanString == null ?
+                      null :
+                      ibanString.getBytes(StandardCharsets.US_ASCII);
+      int    length = ibanString == null ?
+                      0 :
+                      ibanString.length();
+      Iban4gException expected = null;
+      Iban4gException actual   = null;
+      try {
+        IbanUtil.validate(ibanString);
+      } catch (Iban4gException e) {
+        expected = e;
+      }
+      try {
+        IbanUtil.validate(bytes,
+                          0,
+                          length);
+      } catch (Iban4gException e) {
+        actual = e;
+      }
+      assertThat(actual.getClass(),
+                 is(equalTo(expected.getClass())));
+      assertThat(actual.getMessage(),
+                 is(equalTo(expected.getMessage())));
+    }
+  }
+
+
+
+  public static class FormattedIbanViolationTest {
+
+    @Test
+    public void wronglyGroupedIbanShouldReturnFormattingViolation() {
+      String[] ibans = { "AT61 1904 3002 3457 3201 ", "AT611 904 3002 3457 3201", "AT61  1904 3002 3457 3201", "AT611904 3002 3457 3201", " AT61 1904 3002 3457 3201" };
+      for (String iban : ibans) {
+        assertThat(iban,
+                   IbanUtil.isFormatted(iban),
+                   is(equalTo(false)));
+        assertThat(iban,
+                   IbanUtil.getViolation(iban,
+                                         IbanFormat.Default),
+                   is(equalTo(IbanFormatException.IbanFormatViolation.IBAN_FORMATTING)));
+      }
+    }
+
+    @Test
+    public void invalidCharactersShouldBeReportedBeforeGrouping() {
+      assertThat(IbanUtil.getViolation("AT62 1904 3002 3457 3201",
+                                       IbanFormat.Default),
+                 is(equalTo(IbanFormatException.IbanFormatViolation.CHECK_DIGIT_VALID)));
+      assertThat(IbanUtil.getViolation("AT62 19043002 3457 3201",
+                                       IbanFormat.Default),
+                 is(equalTo(IbanFormatException.IbanFormatViolation.CHECK_DIGIT_VALID)));
+      assertThat(IbanUtil.getViolation("",
+                                       IbanFormat.Default),
+                 is(equalTo(IbanFormatException.IbanFormatViolation.IBAN_NOT_EMPTY)));
+      assertThat(IbanUtil.getViolation(null,
+                                       IbanFormat.Default),
+                 is(equalTo(IbanFormatException.IbanFormatViolation.IBAN_NOT_NULL)));
+    }
+
+    @Test
+    public void shortLastGroupShouldBeFormatted() {
+      assertThat(IbanUtil.toFormattedString("NO9386011117947"),
+                 is(equalTo("NO93 8601 1117 947")));
+      assertThat(IbanUtil.getFormattedLength(0),
+                 is(equalTo(0)));
+      assertThat(IbanUtil.toFormattedString(""),
+                 is(equalTo("")));
+      assertThat(Iban.valueOf("NO93 8601 1117 947",
+                              IbanFormat.Default),
+                 is(equalTo(Iban.valueOf("NO9386011117947"))));
+    }
+  }
+
+
+
   @RunWith(Parameterized.class)
   public static class IbanLengthTest {
 
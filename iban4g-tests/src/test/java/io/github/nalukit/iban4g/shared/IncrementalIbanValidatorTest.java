@@ -0,0 +1,186 @@
+/*
+ * Copyright © 2020 Frank Hossfeld, Philipp Kohl
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nalukit.iban4g.shared;
+
+import io.github.nalukit.iban4g.shared.IncrementalIbanValidator.Status;
+import org.junit.Test;
+
+import static io.github.nalukit.iban4g.shared.IbanFormatException.IbanFormatViolation.BBAN_LENGTH;
+import static io.github.nalukit.iban4g.shared.IbanFormatException.IbanFormatViolation.BBAN_ONLY_DIGITS;
+import static io.github.nalukit.iban4g.shared.IbanFormatException.IbanFormatViolation.CHECK_DIGIT_ONLY_DIGITS;
+import static io.github.nalukit.iban4g.shared.IbanFormatException.IbanFormatViolation.CHECK_DIGIT_VALID;
+import static io.github.nalukit.iban4g.shared.IbanFormatException.IbanFormatViolation.COUNTRY_CODE_EXISTS;
+import static io.github.nalukit.iban4g.shared.IbanFormatException.IbanFormatViolation.COUNTRY_CODE_UPPER_CASE_LETTERS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.IsNull.nullValue;
+
+public class IncrementalIbanValidatorTest {
+
+  private static final char[] REPLACEMENTS = { 'A', 'z', '0', '7', '-', 'é', '٣' };
+
+  @Test
+  public void typedIbanShouldBeValidOnlyWhenComplete() {
+    for (Object[] data : TestDataHelper.getIbanData()) {
+      String                   iban      = (String) data[1];
+      IncrementalIbanValidator validator = new IncrementalIbanValidator();
+      for (int i = 0; i < iban.length(); i++) {
+        Status status = validator.append(iban.charAt(i));
+        assertThat(iban.substring(0,
+                                  i + 1),
+                   status,
+                   is(equalTo(i == iban.length() - 1 ?
+                              Status.VALID :
+                              Status.INCOMPLETE)));
+      }
+      assertThat(validator.getExpectedLength(),
+                 is(equalTo(iban.length())));
+      assertThat(validator.toString(),
+                 is(equalTo(iban)));
+    }
+  }
+
+  @Test
+  public void modifiedIbanShouldHaveSameViolationAsIbanUtil() {
+    for (Object[] data : TestDataHelper.getIbanData()) {
+      String iban = (String) data[1];
+      for (int position = 0; position < iban.length(); position++) {
+        for (char replacement : REPLACEMENTS) {
+          String                   modified  = iban.substring(0,
+                                                              position) + replacement + iban.substring(position + 1);
+          IncrementalIbanValidator validator = new IncrementalIbanValidator();
+          assertThat(modified,
+                     validator.append(modified) == Status.VALID,
+                     is(equalTo(IbanUtil.isValid(modified))));
+          // IbanUtil checks the length of the bban before its characters, the validator reports
+          // the first invalid character, which is the same, if the country did not change
+          if (validator.getExpectedLength() < 0 || validator.getExpectedLength() == modified.length()) {
+            assertThat(modified,
+                       validator.getViolation(),
+                       is(equalTo(IbanUtil.getViolation(modified))));
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  public void deletingLastCharacterShouldRestoreStatus() {
+    for (Object[] data : TestDataHelper.getIbanData()) {
+      String                   iban      = (String) data[1];
+      IncrementalIbanValidator validator = new IncrementalIbanValidator();
+      validator.append(iban);
+      assertThat(validator.append('0'),
+                 is(equalTo(Status.INVALID)));
+      assertThat(validator.getViolation(),
+                 is(equalTo(BBAN_LENGTH)));
+      assertThat(validator.deleteLast(),
+                 is(equalTo(Status.VALID)));
+      for (int i = iban.length() - 1; i > 0; i--) {
+        assertThat(validator.deleteLast(),
+                   is(equalTo(Status.INCOMPLETE)));
+        assertThat(validator.toString(),
+                   is(equalTo(iban.substring(0,
+                                             i))));
+      }
+      assertThat(validator.deleteLast(),
+                 is(equalTo(Status.EMPTY)));
+      assertThat(validator.deleteLast(),
+                 is(equalTo(Status.EMPTY)));
+    }
+  }
+
+  @Test
+  public void invalidCheckDigitShouldBeReportedWhenComplete() {
+    IncrementalIbanValidator validator = new IncrementalIbanValidator();
+    assertThat(validator.append("DE8837040044053201300"),
+               is(equalTo(Status.INCOMPLETE)));
+    assertThat(validator.append('0'),
+               is(equalTo(Status.INVALID)));
+    assertThat(validator.getViolation(),
+               is(equalTo(CHECK_DIGIT_VALID)));
+    assertThat(validator.getInvalidPosition(),
+               is(equalTo(2)));
+    assertThat(validator.deleteLast(),
+               is(equalTo(Status.INCOMPLETE)));
+    assertThat(validator.getViolation(),
+               is(nullValue()));
+  }
+
+  @Test
+  public void firstInvalidPositionShouldBeReported() {
+    IncrementalIbanValidator validator = new IncrementalIbanValidator();
+    assertThat(validator.append("DE89370A00440532013000"),
+               is(equalTo(Status.INVALID)));
+    assertThat(validator.getViolation(),
+               is(equalTo(BBAN_ONLY_DIGITS)));
+    assertThat(validator.getInvalidPosition(),
+               is(equalTo(7)));
+    assertThat(validator.getLength(),
+               is(equalTo(22)));
+
+    assertThat(validator.set("De"),
+               is(equalTo(Status.INVALID)));
+    assertThat(validator.getViolation(),
+               is(equalTo(COUNTRY_CODE_UPPER_CASE_LETTERS)));
+    assertThat(validator.getInvalidPosition(),
+               is(equalTo(1)));
+
+    assertThat(validator.set("DE8X"),
+               is(equalTo(Status.INVALID)));
+    assertThat(validator.getViolation(),
+               is(equalTo(CHECK_DIGIT_ONLY_DIGITS)));
+    assertThat(validator.getInvalidPosition(),
+               is(equalTo(3)));
+  }
+
+  @Test
+  public void countryShouldBeKnownAfterTwoCharacters() {
+    IncrementalIbanValidator validator = new IncrementalIbanValidator();
+    validator.append('D');
+    assertThat(validator.getCountryCode(),
+               is(nullValue()));
+    assertThat(validator.getExpectedLength(),
+               is(equalTo(-1)));
+    validator.append('E');
+    assertThat(validator.getCountryCode(),
+               is(equalTo(CountryCode.DE)));
+    assertThat(validator.getExpectedLength(),
+               is(equalTo(22)));
+    validator.deleteLast();
+    assertThat(validator.getCountryCode(),
+               is(nullValue()));
+
+    assertThat(validator.append('X'),
+               is(equalTo(Status.INVALID)));
+    assertThat(validator.getViolation(),
+               is(equalTo(COUNTRY_CODE_EXISTS)));
+    assertThat(validator.getInvalidPosition(),
+               is(equalTo(0)));
+  }
+
+  @Test
+  public void formattedIbanShouldBeValid() {
+    IncrementalIbanValidator validator = new IncrementalIbanValidator();
+    assertThat(validator.append("DE89 3704 0044 0532 0130 00"),
+               is(equalTo(Status.VALID)));
+    assertThat(validator.getLength(),
+               is(equalTo(22)));
+    assertThat(validator.toString(),
+               is(equalTo("DE89370400440532013000")));
+  }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright © 2020 Frank Hossfeld, Philipp Kohl
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nalukit.iban4g.shared;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.util.Collection;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsEqual.equalTo;
+
+@RunWith(Parameterized.class)
+public class Mod97Test {
+
+  private final String ibanString;
+
+  public Mod97Test(Iban iban,
+                   String ibanString) {
+    this.ibanString = ibanString;
+  }
+
+  @Parameterized.Parameters
+  public static Collection<Object[]> ibanParameters() {
+    return TestDataHelper.getIbanData();
+  }
+
+  @Test
+  public void modOfValidIbanShouldBeOne() {
+    assertThat(Mod97.calculate(ibanString),
+               is(equalTo(1)));
+  }
+
+  @Test
+  public void modOfLowerCaseIbanShouldBeOne() {
+    assertThat(Mod97.calculate(ibanString.toLowerCase()),
+               is(equalTo(1)));
+  }
+
+  @Test
+  public void checkDigitShouldMatchCheckDigitOfIban() {
+    assertThat(Mod97.calculateCheckDigit(ibanString),
+               is(equalTo(Integer.parseInt(ibanString.substring(2,
+                                                                4)))));
+  }
+
+  @Test
+  public void modWithInvalidCharacterShouldReturnMinusOne() {
+    final String iban = ibanString.substring(0,
+                                             5) + '+' + ibanString.substring(6);
+    assertThat(Mod97.calculate(iban),
+               is(equalTo(-1)));
+    assertThat(Mod97.indexOfInvalidCharacter(iban),
+               is(equalTo(5)));
+  }
+}
@@ -20,6 +20,14 @@ import io.github.nalukit.iban4g.shared.bban.loader.BbanStructureLoadException;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 public class BbanStructureProviderTest {
 
   @Test
@@ -35,4 +43,157 @@ public class BbanStructureProviderTest {
     } catch (BbanStructureLoadException e) {
     }
   }
+
+  @Test
+  public void concurrentAccessShouldReturnSameProvider()
+      throws Exception {
+    final ExecutorService executor = Executors.newFixedThreadPool(64);
+    try {
+      final List<Callable<BbanStructureProvider>> tasks = new ArrayList<>();
+      for (int i = 0; i < 64; i++) {
+        tasks.add(BbanStructureProvider::get);
+      }
+      for (Future<BbanStructureProvider> future : executor.invokeAll(tasks)) {
+        Assert.assertSame(BbanStructureProvider.get(),
+                          future.get());
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void registryShouldNotChangeWhenStructureIsAdded() {
+    final BbanStructureRegistry registry = BbanStructureRegistry.builder()
+                                                                .addBbanStructure(CountryCode.DE,
+                                                                                  new BbanStructure(BbanStructureEntry.bankCode(8,
+                                                                                                                                'n')))
+                                                                .build();
+    final BbanStructureRegistry newRegistry = registry.with(CountryCode.AT,
+                                                            new BbanStructure(BbanStructureEntry.bankCode(5,
+                                                                                                          'n')));
+    Assert.assertNull(registry.forCountry(CountryCode.AT));
+    Assert.assertNotNull(newRegistry.forCountry(CountryCode.AT));
+    Assert.assertEquals(1,
+                        registry.supportedCountries()
+                                .size());
+    Assert.assertEquals(2,
+                        newRegistry.supportedCountries()
+                                   .size());
+  }
+
+  @Test(expected = BbanStructureLoadException.class)
+  public void registryBuilderShouldRejectDuplicateCountry() {
+    BbanStructureRegistry.builder()
+                         .addBbanStructure(CountryCode.DE,
+                                           new BbanStructure(BbanStructureEntry.bankCode(8,
+                                                                                         'n')))
+                         .addBbanStructure(CountryCode.DE,
+                                           new BbanStructure(BbanStructureEntry.bankCode(8,
+                                                                                         'n')));
+  }
+
+  @Test
+  public void reloadShouldSwapRegistryAndNotifyListener() {
+    final BbanStructureProvider         provider = BbanStructureProvider.get();
+    final BbanStructureRegistry         previous  = provider.getRegistry();
+    final List<BbanStructureRegistry>   published = new ArrayList<>();
+    final BbanStructureRegistryListener listener = (oldRegistry, newRegistry) -> published.add(newRegistry);
+    provider.addRegistryListener(listener);
+    try {
+      final BbanStructureRegistry current = provider.reload(BbanStructureRegistry.builder()
+                                                                                 .addBbanStructure(CountryCode.DE,
+                                                                                                   new BbanStructure(BbanStructureEntry.bankCode(8,
+                                                                                                                                                 'n')))
+                                                                                 .build());
+      Assert.assertSame(current,
+                        provider.getRegistry());
+      Assert.assertEquals(previous.getVersion() + 1,
+                          current.getVersion());
+      Assert.assertNull(provider.forCountry(CountryCode.AT));
+      Assert.assertNotNull(previous.forCountry(CountryCode.AT));
+      Assert.assertEquals(1,
+                          published.size());
+      Assert.assertSame(current,
+                        published.get(0));
+    } finally {
+      provider.removeRegistryListener(listener);
+      provider.reload();
+    }
+    Assert.assertNotNull(provider.forCountry(CountryCode.AT));
+    Assert.assertEquals(1,
+                        published.size());
+  }
+
+  @Test
+  public void concurrentReloadsShouldNotifyListenersInVersionOrder()
+      throws Exception {
+    final BbanStructureProvider         provider = BbanStructureProvider.get();
+    final List<Long>                    versions = Collections.synchronizedList(new ArrayList<>());
+    final BbanStructureRegistryListener listener = (oldRegistry, newRegistry) -> {
+      Assert.assertEquals(oldRegistry.getVersion() + 1,
+                          newRegistry.getVersion());
+      versions.add(newRegistry.getVersion());
+    };
+    final BbanStructureRegistry         registry = provider.getRegistry();
+    final ExecutorService               executor = Executors.newFixedThreadPool(8);
+    provider.addRegistryListener(listener);
+    try {
+      final List<Callable<BbanStructureRegistry>> tasks = new ArrayList<>();
+      for (int i = 0; i < 256; i++) {
+        tasks.add(() -> provider.reload(registry));
+      }
+      for (Future<BbanStructureRegistry> future : executor.invokeAll(tasks)) {
+        future.get();
+      }
+    } finally {
+      executor.shutdown();
+      provider.removeRegistryListener(listener);
+      provider.reload();
+    }
+    Assert.assertEquals(256,
+                        versions.size());
+    for (int i = 1; i < versions.size(); i++) {
+      Assert.assertEquals(versions.get(i - 1) + 1,
+                          (long) versions.get(i));
+    }
+  }
+
+  @Test
+  public void failingListenerShouldNotHideOtherListeners() {
+    final BbanStructureProvider               provider  = BbanStructureProvider.get();
+    final List<BbanStructureRegistry>         published = new ArrayList<>();
+    final IllegalStateException               first     = new IllegalStateException("first");
+    final IllegalStateException               second    = new IllegalStateException("second");
+    final List<BbanStructureRegistryListener> listeners = new ArrayList<>();
+    listeners.add((oldRegistry, newRegistry) -> {
+      throw first;
+    });
+    listeners.add((oldRegistry, newRegistry) -> published.add(newRegistry));
+    listeners.add((oldRegistry, newRegistry) -> {
+      throw second;
+    });
+    for (BbanStructureRegistryListener listener : listeners) {
+      provider.addRegistryListener(listener);
+    }
+    try {
+      provider.reload(BbanStructureRegistry.builder()
+                                           .build());
+      Assert.fail("expected exception!");
+    } catch (IllegalStateException e) {
+      Assert.assertSame(first,
+                        e);
+      Assert.assertSame(second,
+                        e.getSuppressed()[0]);
+      Assert.assertEquals(1,
+                          published.size());
+      Assert.assertSame(published.get(0),
+                        provider.getRegistry());
+    } finally {
+      for (BbanStructureRegistryListener listener : listeners) {
+        provider.removeRegistryListener(listener);
+      }
+      provider.reload();
+    }
+  }
 }
@@ -0,0 +1,81 @@
+/*
+ * Copyright © 2020 Frank Hossfeld, Philipp Kohl
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nalukit.iban4g.shared.bban;
+
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsEqual.equalTo;
+
+public class BbanStructureTest {
+
+  private final BbanStructure structure = new BbanStructure(BbanStructureEntry.bankCode(4,
+                                                                                        'a'),
+                                                            BbanStructureEntry.branchCode(2,
+                                                                                          'n'),
+                                                            BbanStructureEntry.accountNumber(3,
+                                                                                             'c'));
+
+  @Test
+  public void bbanLengthShouldBeSumOfEntryLengths() {
+    assertThat(structure.getBbanLength(),
+               is(equalTo(9)));
+  }
+
+  @Test
+  public void characterTypeShouldMatchEntryAtPosition() {
+    assertThat(structure.getCharacterType(0),
+               is(equalTo(BbanStructureEntry.EntryCharacterType.a)));
+    assertThat(structure.getCharacterType(4),
+               is(equalTo(BbanStructureEntry.EntryCharacterType.n)));
+    assertThat(structure.getCharacterType(8),
+               is(equalTo(BbanStructureEntry.EntryCharacterType.c)));
+  }
+
+  @Test
+  public void validBbanShouldHaveNoInvalidCharacter() {
+    assertThat(structure.indexOfInvalidCharacter("XXABCD12a1Z",
+                                                 2),
+               is(equalTo(-1)));
+  }
+
+  @Test
+  public void invalidBbanShouldReturnPositionOfFirstInvalidCharacter() {
+    assertThat(structure.indexOfInvalidCharacter("ABcD12a1Z",
+                                                 0),
+               is(equalTo(2)));
+    assertThat(structure.indexOfInvalidCharacter("ABCD1Xa1Z",
+                                                 0),
+               is(equalTo(5)));
+    assertThat(structure.indexOfInvalidCharacter("ABCD12a+Z",
+                                                 0),
+               is(equalTo(7)));
+  }
+
+  @Test
+  public void entriesShouldNotBeAffectedByChangesOfTheConstructorArray() {
+    final BbanStructureEntry[] entries   = { BbanStructureEntry.bankCode(4,
+                                                                         'n') };
+    final BbanStructure        structure = new BbanStructure(entries);
+    entries[0] = BbanStructureEntry.bankCode(2,
+                                             'n');
+    assertThat(structure.getEntries()
+                        .get(0)
+                        .getLength(),
+               is(equalTo(4)));
+  }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright © 2020 Frank Hossfeld, Philipp Kohl
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nalukit.iban4g.shared.bban.loader;
+
+import io.github.nalukit.iban4g.shared.CountryCode;
+import io.github.nalukit.iban4g.shared.bban.BbanEntryType;
+import io.github.nalukit.iban4g.shared.bban.BbanStructure;
+import io.github.nalukit.iban4g.shared.bban.BbanStructureEntry;
+import io.github.nalukit.iban4g.shared.bban.BbanStructureProvider;
+import io.github.nalukit.iban4g.shared.bban.BbanStructureRegistry;
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.IsSame.sameInstance;
+
+public class DefaultBbanStructureProviderLoaderTest {
+
+  private final BbanStructureRegistry registry = DefaultBbanStructureProviderLoader.get()
+                                                                                   .createRegistry();
+
+  @Test
+  public void registryShouldContainAllDefaultStructures() {
+    assertThat(registry.supportedCountries()
+                       .size(),
+               is(equalTo(98)));
+  }
+
+  @Test
+  public void structureShouldBeDecodedFromTable() {
+    BbanStructure structure = registry.forCountry(CountryCode.AL);
+
+    assertThat(structure.getEntryCount(),
+               is(equalTo(4)));
+    assertThat(structure.getEntry(2)
+                        .getEntryType(),
+               is(equalTo(BbanEntryType.national_check_digit)));
+    assertThat(structure.getEntry(3)
+                        .getCharacterType(),
+               is(equalTo(BbanStructureEntry.EntryCharacterType.c)));
+    assertThat(structure.getEntry(3)
+                        .getLength(),
+               is(equalTo(16)));
+    assertThat(structure.getBbanLength(),
+               is(equalTo(24)));
+  }
+
+  @Test
+  public void territoriesShouldShareStructureOfCountry() {
+    assertThat(registry.forCountry(CountryCode.AX),
+               is(sameInstance(registry.forCountry(CountryCode.FI))));
+    assertThat(registry.forCountry(CountryCode.RE),
+               is(sameInstance(registry.forCountry(CountryCode.FR))));
+    assertThat(registry.forCountry(CountryCode.IM),
+               is(sameInstance(registry.forCountry(CountryCode.GB))));
+  }
+
+  @Test
+  public void loadShouldRestoreDefaultStructuresOfProvider() {
+    BbanStructureProvider provider = BbanStructureProvider.get();
+    try {
+      provider.reload(BbanStructureRegistry.builder()
+                                           .build());
+      assertThat(provider.forCountry(CountryCode.DE) == null,
+                 is(true));
+
+      DefaultBbanStructureProviderLoader.get()
+                                        .load();
+
+      assertThat(provider.supportedCountries()
+                         .size(),
+                 is(equalTo(98)));
+    } finally {
+      provider.reload();
+    }
+  }
+}
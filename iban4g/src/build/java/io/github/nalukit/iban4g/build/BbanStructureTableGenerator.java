@@ -0,0 +1,290 @@
+/*
+ * Copyright © 2020 Frank Hossfeld, Philipp Kohl
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nalukit.iban4g.build;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Generates <code>DefaultBbanStructureTable</code> from <code>src/build/bban/bban-structures.txt</code>.
+ *
+ * <p>The generator runs in the <code>generate-sources</code> phase of the iban4g module using the
+ * single-file source launcher (<code>java BbanStructureTableGenerator.java ...</code>), so it must
+ * not depend on any other class of the project.
+ *
+ * <p>The table is encoded into string constants. A string constant is a single constant pool
+ * entry in a class file and a single literal in the GWT/J2CL output, while an array initializer
+ * compiles into one store instruction per element.
+ *
+ * <p>Arguments: the structure file and the output directory.
+ */
+public class BbanStructureTableGenerator {
+
+  private static final String PACKAGE    = "io.github.nalukit.iban4g.shared.bban.loader";
+  private static final String CLASS_NAME = "DefaultBbanStructureTable";
+
+  /**
+   * Must match the order of <code>BbanEntryType</code>.
+   */
+  private static final List<String> ENTRY_TYPES = Arrays.asList("bank_code",
+                                                                "branch_code",
+                                                                "account_number",
+                                                                "national_check_digit",
+                                                                "account_type",
+                                                                "owner_account_number",
+                                                                "identification_number");
+
+  /**
+   * Must match the order of <code>BbanStructureEntry.EntryCharacterType</code>.
+   */
+  private static final String CHARACTER_TYPES = "nac";
+
+  private static final String LICENSE = "/*\n" +
+                                        " * Copyright \u00A9 2020 Frank Hossfeld, Philipp Kohl\n" +
+                                        " *\n" +
+                                        " * Licensed under the Apache License, Version 2.0 (the \"License\");\n" +
+                                        " * you may not use this file except in compliance with the License.\n" +
+                                        " * You may obtain a copy of the License at\n" +
+                                        " *\n" +
+                                        " *     http://www.apache.org/licenses/LICENSE-2.0\n" +
+                                        " *\n" +
+                                        " * Unless required by applicable law or agreed to in writing, software\n" +
+                                        " * distributed under the License is distributed on an \"AS IS\" BASIS,\n" +
+                                        " * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.\n" +
+                                        " * See the License for the specific language governing permissions and\n" +
+                                        " * limitations under the License.\n" +
+                                        " */\n";
+
+  public static void main(String[] args)
+      throws IOException {
+    if (args.length != 2) {
+      throw new IllegalArgumentException("usage: BbanStructureTableGenerator <structure file> <output directory>");
+    }
+    Path input  = Paths.get(args[0]);
+    Path output = Paths.get(args[1])
+                       .resolve(PACKAGE.replace('.',
+                                                '/'))
+                       .resolve(CLASS_NAME + ".java");
+
+    String source = generate(parse(input));
+    // keep the timestamp of an unchanged file, so the compiler does not recompile it
+    if (Files.exists(output) &&
+        new String(Files.readAllBytes(output),
+                   StandardCharsets.UTF_8).equals(source)) {
+      return;
+    }
+    Files.createDirectories(output.getParent());
+    Files.write(output,
+                source.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Parses the structure file. Returns the encoded structure of every country, territories sharing
+   * the structure of another country contain the same String instance.
+   */
+  private static Map<String, String> parse(Path input)
+      throws IOException {
+    Map<String, String> structures = new LinkedHashMap<>();
+    Map<String, String> aliases    = new LinkedHashMap<>();
+    List<String>        lines      = Files.readAllLines(input,
+                                                        StandardCharsets.UTF_8);
+    for (int i = 0; i < lines.size(); i++) {
+      String line = lines.get(i)
+                         .trim();
+      if (line.isEmpty() || line.startsWith("#")) {
+        continue;
+      }
+      String[] columns = line.split("\\s+");
+      String   country = columns[0];
+      if (!country.matches("[A-Z]{2}") || columns.length < 2) {
+        throw error(input,
+                    i,
+                    "invalid line");
+      }
+      if (structures.containsKey(country) || aliases.containsKey(country)) {
+        throw error(input,
+                    i,
+                    "duplicate country " + country);
+      }
+      if ("=".equals(columns[1])) {
+        if (columns.length != 3) {
+          throw error(input,
+                      i,
+                      "invalid alias");
+        }
+        aliases.put(country,
+                    columns[2]);
+        structures.put(country,
+                       null);
+      } else {
+        structures.put(country,
+                       encode(input,
+                              i,
+                              Arrays.copyOfRange(columns,
+                                                 1,
+                                                 columns.length)));
+      }
+    }
+    for (Map.Entry<String, String> alias : aliases.entrySet()) {
+      String structure = structures.get(alias.getValue());
+      if (structure == null) {
+        throw new IllegalArgumentException(input + ": " + alias.getKey() + " refers to unknown country " + alias.getValue());
+      }
+      structures.put(alias.getKey(),
+                     structure);
+    }
+    return structures;
+  }
+
+  /**
+   * Encodes the entries (e.g. <code>bank_code:4!n</code>) of a structure: the entry count followed
+   * by the entry type, character type and length of every entry.
+   */
+  private static String encode(Path input,
+                               int line,
+                               String[] entries) {
+    StringBuilder sb = new StringBuilder();
+    sb.append((char) entries.length);
+    for (String entry : entries) {
+      int separator = entry.indexOf(':');
+      int fixed     = entry.indexOf('!');
+      if (separator < 0 || fixed != entry.length() - 2) {
+        throw error(input,
+                    line,
+                    "invalid entry " + entry);
+      }
+      int entryType     = ENTRY_TYPES.indexOf(entry.substring(0,
+                                                              separator));
+      int characterType = CHARACTER_TYPES.indexOf(entry.charAt(entry.length() - 1));
+      int length;
+      try {
+        length = Integer.parseInt(entry.substring(separator + 1,
+                                                  fixed));
+      } catch (NumberFormatException e) {
+        length = -1;
+      }
+      if (entryType < 0 || characterType < 0 || length <= 0) {
+        throw error(input,
+                    line,
+                    "invalid entry " + entry);
+      }
+      sb.append((char) entryType)
+        .append((char) characterType)
+        .append((char) length);
+    }
+    return sb.toString();
+  }
+
+  private static String generate(Map<String, String> countries) {
+    StringBuilder countryCodes = new StringBuilder();
+    StringBuilder indexes      = new StringBuilder();
+    List<String>  structures   = new ArrayList<>();
+    List<String>  usedBy       = new ArrayList<>();
+    for (Map.Entry<String, String> country : countries.entrySet()) {
+      int index = -1;
+      for (int i = 0; i < structures.size(); i++) {
+        // identity: only territories share a structure
+        if (structures.get(i) == country.getValue()) {
+          index = i;
+        }
+      }
+      if (index < 0) {
+        index = structures.size();
+        structures.add(country.getValue());
+        usedBy.add(country.getKey());
+      } else {
+        usedBy.set(index,
+                   usedBy.get(index) + ", " + country.getKey());
+      }
+      countryCodes.append(country.getKey());
+      indexes.append((char) index);
+    }
+
+    StringBuilder sb = new StringBuilder(LICENSE);
+    sb.append("package ")
+      .append(PACKAGE)
+      .append(";\n\n")
+      .append("/**\n")
+      .append(" * Default BBAN structures, generated from src/build/bban/bban-structures.txt by\n")
+      .append(" * BbanStructureTableGenerator. Do not edit.\n")
+      .append(" */\n")
+      .append("final class ")
+      .append(CLASS_NAME)
+      .append(" {\n\n")
+      .append("  /**\n")
+      .append("   * ISO 3166-1 alpha-2 codes of the supported countries.\n")
+      .append("   */\n")
+      .append("  static final String COUNTRY_CODES = \"")
+      .append(countryCodes)
+      .append("\";\n\n")
+      .append("  /**\n")
+      .append("   * Index of the structure of every country in {@link #STRUCTURES}.\n")
+      .append("   */\n")
+      .append("  static final String COUNTRY_STRUCTURES = \"")
+      .append(escape(indexes))
+      .append("\";\n\n")
+      .append("  /**\n")
+      .append("   * The structures one after the other: the entry count, followed by the BbanEntryType ordinal,\n")
+      .append("   * the EntryCharacterType ordinal and the length of every entry.\n")
+      .append("   */\n")
+      .append("  static final String STRUCTURES = \"\" +");
+    for (int i = 0; i < structures.size(); i++) {
+      sb.append("\n                                   \"")
+        .append(escape(structures.get(i)))
+        .append(i == structures.size() - 1 ?
+                "\"; // " :
+                "\" + // ")
+        .append(usedBy.get(i));
+    }
+    sb.append("\n\n")
+      .append("  private ")
+      .append(CLASS_NAME)
+      .append("() {\n")
+      .append("  }\n")
+      .append("}\n");
+    return sb.toString();
+  }
+
+  /**
+   * Escapes every character as a three digit octal escape. Unicode escapes can not be used, as they
+   * are translated before the source is parsed (<code>\\u000a</code> would end the line).
+   */
+  private static String escape(CharSequence value) {
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < value.length(); i++) {
+      if (value.charAt(i) > 0377) {
+        throw new IllegalArgumentException("value too large: " + (int) value.charAt(i));
+      }
+      sb.append(String.format("\\%03o",
+                              (int) value.charAt(i)));
+    }
+    return sb.toString();
+  }
+
+  private static IllegalArgumentException error(Path input,
+                                                int line,
+                                                String message) {
+    return new IllegalArgumentException(input + ":" + (line + 1) + ": " + message);
+  }
+}
@@ -0,0 +1,244 @@
+/*
+ * Copyright © 2020 Frank Hossfeld, Philipp Kohl
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nalukit.iban4g.server;
+
+import io.github.nalukit.iban4g.shared.Bic;
+import io.github.nalukit.iban4g.shared.BicFormatException;
+import io.github.nalukit.iban4g.shared.BicUtil;
+import io.github.nalukit.iban4g.shared.UnsupportedCountryException;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Canonical {@link Bic} instances, e.g. for the bics of the message headers of a router, which
+ * refer to the same few thousand banks over and over again.
+ *
+ * <p>The bics are pooled by their packed value (see {@link Bic#toPacked()}) in a hash table using
+ * open addressing: a long array holding the packed bics and an array holding the instances. A bic
+ * read from a message is packed and looked up without creating a String or a Bic, only the first
+ * occurrence of a bic allocates.
+ *
+ * <p>Looking up a pooled bic takes no lock. A packed bic is stored before its instance and a slot is
+ * read starting with the instance, so a reader seeing the instance sees its packed bic as well. Bics
+ * are added under the lock of the pool, a full table is copied into a larger one, which replaces
+ * the table at once. Bics are never removed, except by {@link #clear()}, and once the pool holds
+ * the maximum number of bics, further bics are returned without pooling them. Bics, which can not
+ * be packed, are not pooled either.
+ */
+@GwtIncompatible
+public final class BicPool {
+
+  /**
+   * Maximum number of bics of a pool created by {@link #BicPool()}.
+   */
+  public static final int DEFAULT_MAXIMUM_SIZE = 65_536;
+
+  private static final int MINIMUM_CAPACITY = 64;
+
+  private final int maximumSize;
+
+  private volatile Table table = new Table(MINIMUM_CAPACITY);
+  private volatile int   size;
+
+  /**
+   * Creates a pool holding up to {@link #DEFAULT_MAXIMUM_SIZE} bics.
+   */
+  public BicPool() {
+    this(DEFAULT_MAXIMUM_SIZE);
+  }
+
+  /**
+   * Creates a pool.
+   *
+   * @param maximumSize maximum number of pooled bics
+   */
+  public BicPool(final int maximumSize) {
+    if (maximumSize < 0 || maximumSize > 1 << 29) {
+      throw new IllegalArgumentException("invalid maximum size: " + maximumSize);
+    }
+    this.maximumSize = maximumSize;
+  }
+
+  /**
+   * Returns the pooled bic of a value, e.g. read from a message. Validates the value like {@link
+   * Bic#valueOf(String)}.
+   *
+   * @param bic the value
+   * @return the pooled bic, or a new one if the pool is full or the bic can not be packed
+   * @throws BicFormatException          if the value doesn't contain a parsable bic.
+   * @throws UnsupportedCountryException if bic's country is not supported.
+   */
+  public Bic valueOf(final CharSequence bic)
+      throws BicFormatException, UnsupportedCountryException {
+    final long packed = BicUtil.toPacked(bic);
+    if (packed == 0) {
+      // throws for an invalid bic, a valid one can not be packed and is not pooled
+      return Bic.valueOf(bic == null ?
+                         null :
+                         bic.toString());
+    }
+    final Bic pooled = table.get(packed);
+    if (pooled != null) {
+      return pooled;
+    }
+    return add(packed,
+               Bic.fromPacked(packed));
+  }
+
+  /**
+   * Returns the pooled bic of a packed value.
+   *
+   * @param packed the packed bic
+   * @return the pooled bic, or a new one if the pool is full
+   * @throws IllegalArgumentException if the value is not a packed bic
+   */
+  public Bic valueOf(final long packed)
+      throws IllegalArgumentException {
+    final Bic pooled = table.get(packed);
+    if (pooled != null) {
+      return pooled;
+    }
+    return add(packed,
+               Bic.fromPacked(packed));
+  }
+
+  /**
+   * Returns the pooled bic equal to the given bic. Pools the given bic, if the pool does not contain
+   * it yet.
+   *
+   * @param bic the bic
+   * @return the pooled bic, or the given one if the pool is full or the bic can not be packed
+   */
+  public Bic intern(final Bic bic) {
+    if (!bic.isPackable()) {
+      return bic;
+    }
+    final long packed = bic.toPacked();
+    final Bic  pooled = table.get(packed);
+    if (pooled != null) {
+      return pooled;
+    }
+    return add(packed,
+               bic);
+  }
+
+  /**
+   * Returns the number of pooled bics.
+   *
+   * @return the size
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Removes all bics from the pool.
+   */
+  public synchronized void clear() {
+    table = new Table(MINIMUM_CAPACITY);
+    size  = 0;
+  }
+
+  private synchronized Bic add(final long packed,
+                               final Bic bic) {
+    Table     table  = this.table;
+    final Bic pooled = table.get(packed);
+    if (pooled != null) {
+      // added by another thread meanwhile
+      return pooled;
+    }
+    if (size >= maximumSize) {
+      return bic;
+    }
+    if (2 * (size + 1) > table.capacity()) {
+      table      = table.resize();
+      this.table = table;
+    }
+    table.put(packed,
+              bic);
+    size++;
+    return bic;
+  }
+
+  /**
+   * Hash table of a capacity of a power of two, at most half full.
+   */
+  private static final class Table {
+
+    private final long[]                    keys;
+    private final AtomicReferenceArray<Bic> bics;
+    private final int                       shift;
+
+    private Table(final int capacity) {
+      this.keys  = new long[capacity];
+      this.bics  = new AtomicReferenceArray<>(capacity);
+      this.shift = Long.numberOfLeadingZeros(capacity - 1);
+    }
+
+    private int capacity() {
+      return keys.length;
+    }
+
+    /**
+     * Returns the first slot of the probe sequence (Fibonacci hashing).
+     */
+    private int slotOf(final long packed) {
+      return (int) ((packed * 0x9E3779B97F4A7C15L) >>> shift);
+    }
+
+    private Bic get(final long packed) {
+      int slot = slotOf(packed);
+      while (true) {
+        final Bic bic = bics.get(slot);
+        if (bic == null) {
+          return null;
+        }
+        if (keys[slot] == packed) {
+          return bic;
+        }
+        slot = (slot + 1) & (keys.length - 1);
+      }
+    }
+
+    /**
+     * Adds a bic, which the table does not contain yet. The caller has to hold the lock of the
+     * pool.
+     */
+    private void put(final long packed,
+                     final Bic bic) {
+      int slot = slotOf(packed);
+      while (bics.get(slot) != null) {
+        slot = (slot + 1) & (keys.length - 1);
+      }
+      keys[slot] = packed;
+      // publishes the packed bic, a reader reads the instance first
+      bics.set(slot,
+               bic);
+    }
+
+    private Table resize() {
+      final Table table = new Table(2 * keys.length);
+      for (int slot = 0; slot < keys.length; slot++) {
+        final Bic bic = bics.get(slot);
+        if (bic != null) {
+          table.put(keys[slot],
+                    bic);
+        }
+      }
+      return table;
+    }
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright © 2020 Frank Hossfeld, Philipp Kohl
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nalukit.iban4g.server;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A view of ASCII characters stored in a buffer. The bytes are read by absolute index, so the
+ * position of the buffer is neither used nor changed. Every byte is read as the character with the
+ * same unsigned value (ISO-8859-1).
+ */
+@GwtIncompatible
+final class ByteBufferSequence
+    implements CharSequence {
+
+  private final ByteBuffer buffer;
+  private       int        start;
+  private       int        length;
+
+  ByteBufferSequence(final ByteBuffer buffer) {
+    this.buffer = buffer;
+  }
+
+  /**
+   * Moves the view to another range of the buffer.
+   *
+   * @param start  index of the first byte
+   * @param length number of bytes
+   */
+  void set(final int start,
+           final int length) {
+    this.start  = start;
+    this.length = length;
+  }
+
+  @Override
+  public int length() {
+    return length;
+  }
+
+  @Override
+  public char charAt(final int index) {
+    if (index < 0 || index >= length) {
+      throw new IndexOutOfBoundsException("index: " + index + ", length: " + length);
+    }
+    return (char) (buffer.get(start + index) & 0xFF);
+  }
+
+  @Override
+  public CharSequence subSequence(final int start,
+                                  final int end) {
+    return toString().substring(start,
+                                end);
+  }
+
+  @Override
+  public String toString() {
+    final char[] chars = new char[length];
+    for (int i = 0; i < length; i++) {
+      chars[i] = (char) (buffer.get(start + i) & 0xFF);
+    }
+    return new String(chars);
+  }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright © 2020 Frank Hossfeld, Philipp Kohl
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nalukit.iban4g.server;
+
+import io.github.nalukit.iban4g.shared.BicFormatException;
+import io.github.nalukit.iban4g.shared.BicUtil;
+import io.github.nalukit.iban4g.shared.IbanFormatException;
+import io.github.nalukit.iban4g.shared.IbanFormatException.IbanFormatViolation;
+import io.github.nalukit.iban4g.shared.IbanUtil;
+import io.github.nalukit.iban4g.shared.InvalidCheckDigitException;
+import io.github.nalukit.iban4g.shared.UnsupportedCountryException;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Validates ibans and bics stored as ASCII bytes in a {@link ByteBuffer}, e.g. a field of a network
+ * buffer or a message record. The bytes between the position and the limit of the buffer are
+ * checked, the position is not changed.
+ *
+ * <p>The rules and exceptions are the same as of {@link IbanUtil} and {@link BicUtil}. Buffers
+ * backed by an array are checked through the <code>byte[]</code> methods of these classes, direct
+ * buffers are read in place. A valid value is never decoded into a String.
+ */
+@GwtIncompatible
+public final class ByteBufferValidator {
+
+  private ByteBufferValidator() {
+  }
+
+  /**
+   * Validates the iban between position and limit of the buffer. See {@link
+   * IbanUtil#validate(byte[], int, int)}.
+   *
+   * @param buffer the buffer holding the iban
+   * @throws IbanFormatException         if iban is invalid.
+   * @throws UnsupportedCountryException if iban's country is not supported.
+   * @throws InvalidCheckDigitException  if iban has invalid check digit.
+   */
+  public static void validateIban(final ByteBuffer buffer)
+      throws IbanFormatException, InvalidCheckDigitException, UnsupportedCountryException {
+    if (buffer != null && buffer.hasArray()) {
+      IbanUtil.validate(buffer.array(),
+                        buffer.arrayOffset() + buffer.position(),
+                        buffer.remaining());
+    } else if (getIbanViolation(buffer) != null) {
+      // only an invalid iban is decoded, to throw the same exception as for a String
+      IbanUtil.validate(buffer == null ?
+                        null :
+                        sequenceOf(buffer).toString());
+    }
+  }
+
+  /**
+   * Checks whether the iban between position and limit of the buffer is valid.
+   *
+   * @param buffer the buffer holding the iban
+   * @return true if the iban is valid, false otherwise.
+   */
+  public static boolean isValidIban(final ByteBuffer buffer) {
+    return getIbanViolation(buffer) == null;
+  }
+
+  /**
+   * Checks the iban between position and limit of the buffer and returns the first violated rule.
+   * See {@link IbanUtil#getViolation(CharSequence)}.
+   *
+   * @param buffer the buffer holding the iban
+   * @return the violation or null if the iban is valid.
+   */
+  public static IbanFormatViolation getIbanViolation(final ByteBuffer buffer) {
+    if (buffer == null) {
+      return IbanFormatViolation.IBAN_NOT_NULL;
+    }
+    if (buffer.hasArray()) {
+      return IbanUtil.getViolation(buffer.array(),
+                                   buffer.arrayOffset() + buffer.position(),
+                                   buffer.remaining());
+    }
+    return IbanUtil.getViolation(sequenceOf(buffer));
+  }
+
+  /**
+   * Validates the bic between position and limit of the buffer. See {@link
+   * BicUtil#validate(byte[], int, int)}. A bic in a direct buffer is checked in place, only an
+   * invalid one is decoded.
+   *
+   * @param buffer the buffer holding the bic
+   * @throws BicFormatException          if bic is invalid.
+   * @throws UnsupportedCountryException if bic's country is not supported.
+   */
+  public static void validateBic(final ByteBuffer buffer)
+      throws BicFormatException, UnsupportedCountryException {
+    if (buffer == null) {
+      BicUtil.validate((String) null);
+    } else if (buffer.hasArray()) {
+      BicUtil.validate(buffer.array(),
+                       buffer.arrayOffset() + buffer.position(),
+                       buffer.remaining());
+    } else {
+      final ByteBufferSequence bic = sequenceOf(buffer);
+      if (!BicUtil.isValid(bic)) {
+        // only an invalid bic is decoded, to throw the same exception as for a String
+        BicUtil.validate(bic.toString());
+      }
+    }
+  }
+
+  private static ByteBufferSequence sequenceOf(final ByteBuffer buffer) {
+    final ByteBufferSequence sequence = new ByteBufferSequence(buffer);
+    sequence.set(buffer.position(),
+                 buffer.remaining());
+    return sequence;
+  }
+}
@@ -0,0 +1,264 @@
+/*
+ * Copyright © 2020 Frank Hossfeld, Philipp Kohl
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nalukit.iban4g.server;
+
+import io.github.nalukit.iban4g.shared.CountryCode;
+import io.github.nalukit.iban4g.shared.IbanBatchValidator;
+import io.github.nalukit.iban4g.shared.bban.BbanStructure;
+import io.github.nalukit.iban4g.shared.bban.BbanStructureProvider;
+import io.github.nalukit.iban4g.shared.bban.BbanStructureRegistry;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Finds and validates the ibans contained in a text file, e.g. a CSV export of bank statements.
+ *
+ * <p>The file is memory-mapped and scanned byte by byte, so it is never decoded into Strings. The
+ * file has to use an ASCII compatible encoding (e.g. UTF-8 or ISO-8859-1).
+ *
+ * <p>A candidate is a sequence of ASCII letters and digits, which is not part of a longer sequence,
+ * starts with the code of a supported country followed by two digits and has the iban length of
+ * this country (see {@link BbanStructure#getBbanLength()}). Every candidate is validated (including
+ * the modulo 97 check) and passed to the listener together with its offset and its violation code
+ * (see {@link IbanBatchValidator}). Ibans in print format (groups of four characters separated by
+ * spaces) are not detected.
+ */
+@GwtIncompatible
+public final class IbanFileScanner {
+
+  /**
+   * Size of the regions of the file, which are mapped one after the other.
+   */
+  static final int DEFAULT_WINDOW_SIZE = 1 << 28;
+
+  private static final int MAX_IBAN_LENGTH = 34;
+
+  /**
+   * true for the ASCII letters and digits, indexed by the unsigned byte value.
+   */
+  private static final boolean[] ALPHANUMERIC = new boolean[256];
+
+  static {
+    for (char ch = '0'; ch <= '9'; ch++) {
+      ALPHANUMERIC[ch] = true;
+    }
+    for (char ch = 'A'; ch <= 'Z'; ch++) {
+      ALPHANUMERIC[ch]             = true;
+      ALPHANUMERIC[ch - 'A' + 'a'] = true;
+    }
+  }
+
+  private IbanFileScanner() {
+  }
+
+  /**
+   * Scans a file using the current BBAN structures.
+   *
+   * @param file     the file
+   * @param listener receives every candidate
+   * @return number of candidates
+   * @throws IOException if the file can not be read
+   */
+  public static long scan(final Path file,
+                          final Listener listener)
+      throws IOException {
+    return scan(file,
+                BbanStructureProvider.get()
+                                     .getRegistry(),
+                listener);
+  }
+
+  /**
+   * Scans a file.
+   *
+   * @param file     the file
+   * @param registry the registry to look up the structures
+   * @param listener receives every candidate
+   * @return number of candidates
+   * @throws IOException if the file can not be read
+   */
+  public static long scan(final Path file,
+                          final BbanStructureRegistry registry,
+                          final Listener listener)
+      throws IOException {
+    return scan(file,
+                registry,
+                listener,
+                DEFAULT_WINDOW_SIZE);
+  }
+
+  /**
+   * Scans a file by mapping regions of the given size. Every region is mapped together with the
+   * byte before and the bytes after it, which a candidate starting inside the region might cover.
+   */
+  static long scan(final Path file,
+                   final BbanStructureRegistry registry,
+                   final Listener listener,
+                   final int windowSize)
+      throws IOException {
+    try (FileChannel channel = FileChannel.open(file,
+                                                StandardOpenOption.READ)) {
+      final long size  = channel.size();
+      long       count = 0;
+      for (long position = 0; position < size; position += windowSize) {
+        final long             mapStart = position == 0 ?
+                                          0 :
+                                          position - 1;
+        final long             mapEnd   = Math.min(size,
+                                                   position + windowSize + MAX_IBAN_LENGTH + 1);
+        final MappedByteBuffer buffer   = channel.map(FileChannel.MapMode.READ_ONLY,
+                                                      mapStart,
+                                                      mapEnd - mapStart);
+        count += scan(buffer,
+                      mapStart,
+                      (int) (position - mapStart),
+                      (int) (Math.min(size,
+                                      position + windowSize) - mapStart),
+                      registry,
+                      listener);
+      }
+      return count;
+    }
+  }
+
+  /**
+   * Scans the bytes of a buffer between its position and its limit. The offsets passed to the
+   * listener are indexes of the buffer.
+   *
+   * @param buffer   the buffer
+   * @param registry the registry to look up the structures
+   * @param listener receives every candidate
+   * @return number of candidates
+   */
+  public static long scan(final ByteBuffer buffer,
+                          final BbanStructureRegistry registry,
+                          final Listener listener) {
+    return scan(buffer,
+                0,
+                buffer.position(),
+                buffer.limit(),
+                registry,
+                listener);
+  }
+
+  /**
+   * Reports the candidates starting between <code>from</code> and <code>to</code>. The bytes before
+   * <code>from</code> and after <code>to</code> (up to the limit of the buffer) are only read to
+   * find the bounds of a candidate.
+   */
+  private static long scan(final ByteBuffer buffer,
+                           final long baseOffset,
+                           final int from,
+                           final int to,
+                           final BbanStructureRegistry registry,
+                           final Listener listener) {
+    final ByteBufferSequence candidate = new ByteBufferSequence(buffer);
+    final int                limit     = buffer.limit();
+    long                     count     = 0;
+    int                      start     = from;
+    // skip the rest of a sequence starting before the range
+    if (start > 0) {
+      while (start < to && isAlphanumeric(buffer.get(start - 1)) && isAlphanumeric(buffer.get(start))) {
+        start++;
+      }
+    }
+    while (start < to) {
+      if (!isAlphanumeric(buffer.get(start))) {
+        start++;
+        continue;
+      }
+      int end = start + 1;
+      while (end < limit && end - start <= MAX_IBAN_LENGTH && isAlphanumeric(buffer.get(end))) {
+        end++;
+      }
+      candidate.set(start,
+                    end - start);
+      if (end - start <= MAX_IBAN_LENGTH && isCandidate(candidate,
+                                                        registry)) {
+        listener.onCandidate(baseOffset + start,
+                             candidate,
+                             IbanBatchValidator.validate(candidate,
+                                                         registry));
+        count++;
+      }
+      // skip the rest of a sequence longer than an iban
+      while (end < to && isAlphanumeric(buffer.get(end))) {
+        end++;
+      }
+      start = end;
+    }
+    return count;
+  }
+
+  /**
+   * Returns true, if the sequence starts with the upper case code of a supported country and two
+   * digits and has the iban length of the country.
+   */
+  private static boolean isCandidate(final ByteBufferSequence sequence,
+                                     final BbanStructureRegistry registry) {
+    if (sequence.length() < 4 ||
+        !isUpperCaseLetter(sequence.charAt(0)) ||
+        !isUpperCaseLetter(sequence.charAt(1)) ||
+        !isDigit(sequence.charAt(2)) ||
+        !isDigit(sequence.charAt(3))) {
+      return false;
+    }
+    final CountryCode countryCode = CountryCode.getByAlpha2Code(sequence,
+                                                                0);
+    if (countryCode == null) {
+      return false;
+    }
+    final BbanStructure structure = registry.forCountry(countryCode);
+    return structure != null && sequence.length() == 4 + structure.getBbanLength();
+  }
+
+  private static boolean isAlphanumeric(final byte value) {
+    return ALPHANUMERIC[value & 0xFF];
+  }
+
+  private static boolean isUpperCaseLetter(final char ch) {
+    return ch >= 'A' && ch <= 'Z';
+  }
+
+  private static boolean isDigit(final char ch) {
+    return ch >= '0' && ch <= '9';
+  }
+
+  /**
+   * Receives the candidates found by a scan.
+   */
+  @FunctionalInterface
+  public interface Listener {
+
+    /**
+     * Called for every candidate.
+     *
+     * @param offset    offset of the candidate in the file (or buffer)
+     * @param candidate the characters of the candidate. The sequence is a view of the scanned bytes,
+     *                  which is only valid during the call. Use <code>toString()</code> to keep the
+     *                  value.
+     * @param code      the violation code, {@link IbanBatchValidator#VALID} for a valid iban
+     */
+    void onCandidate(long offset,
+                     CharSequence candidate,
+                     byte code);
+  }
+}
@@ -0,0 +1,320 @@
+/*
+ * Copyright © 2020 Frank Hossfeld, Philipp Kohl
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nalukit.iban4g.server;
+
+import io.github.nalukit.iban4g.shared.CountryCode;
+import io.github.nalukit.iban4g.shared.Iban;
+import io.github.nalukit.iban4g.shared.UnsupportedCountryException;
+import io.github.nalukit.iban4g.shared.bban.BbanStructure;
+import io.github.nalukit.iban4g.shared.bban.BbanStructureEntry.EntryCharacterType;
+import io.github.nalukit.iban4g.shared.bban.BbanStructureProvider;
+import io.github.nalukit.iban4g.shared.bban.BbanStructureRegistry;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Generates random valid ibans in bulk, e.g. for load test fixtures.
+ *
+ * <p>Unlike {@link Iban#random()}, the generator neither creates a builder per iban nor validates
+ * the result. The bban structures of the countries are prepared once, every iban is written
+ * character by character into an array while the modulo 97 remainder of the bban is calculated
+ * alongside, so the check digit is known as soon as the last character is written.
+ * {@link #next(char[], int)} does not allocate at all.
+ *
+ * <p>A generator uses a {@link SplittableRandom} and is not thread safe. Every thread uses a
+ * generator of its own, created by {@link #split()}. A generator built with a seed, and all
+ * generators split from it in the same order, return the same ibans on every run.
+ */
+@GwtIncompatible
+public final class IbanGenerator {
+
+  private static final int BBAN_INDEX = 4;
+
+  /**
+   * Accumulator limit of the modulo 97 calculation. Appending a letter (two digits) to a value below
+   * this limit still fits into a long.
+   */
+  private static final long MAX = 999_999_999_999_999L;
+
+  private final Template[]       templates;
+  /**
+   * Sum of the weights of the templates up to and including the template at the same index.
+   */
+  private final int[]            cumulativeWeights;
+  private final int              maximumLength;
+  private final SplittableRandom random;
+
+  private IbanGenerator(final Template[] templates,
+                        final int[] cumulativeWeights,
+                        final int maximumLength,
+                        final SplittableRandom random) {
+    this.templates         = templates;
+    this.cumulativeWeights = cumulativeWeights;
+    this.maximumLength     = maximumLength;
+    this.random            = random;
+  }
+
+  /**
+   * Returns a builder for a generator.
+   *
+   * @return the builder
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Returns a new generator for another thread. Both generators share the prepared structures, but
+   * return different ibans.
+   *
+   * @return the new generator
+   */
+  public IbanGenerator split() {
+    return new IbanGenerator(templates,
+                             cumulativeWeights,
+                             maximumLength,
+                             random.split());
+  }
+
+  /**
+   * Returns the length of the longest iban the generator may return.
+   *
+   * @return the length
+   */
+  public int getMaximumLength() {
+    return maximumLength;
+  }
+
+  /**
+   * Writes the next iban into the array.
+   *
+   * @param target the array, needs room for {@link #getMaximumLength()} characters
+   * @param offset index of the first character
+   * @return the length of the iban
+   */
+  public int next(final char[] target,
+                  final int offset) {
+    final Template template = nextTemplate();
+    final byte[]   radixes  = template.radixes;
+    target[offset]     = template.first;
+    target[offset + 1] = template.second;
+    long total = 0;
+    long bits  = 0;
+    for (int position = 0; position < radixes.length; position++) {
+      // every random long provides the bits of two characters
+      bits = (position & 1) == 0 ?
+             random.nextLong() :
+             bits >>> 32;
+      // digits are 0 to 9, letters 10 (A) to 35 (Z), the letter positions draw the letters only
+      final int radix = radixes[position];
+      final int draw  = (int) (((bits & 0xFFFFFFFFL) * radix) >>> 32);
+      final int value = radix == 26 ?
+                        draw + 10 :
+                        draw;
+      if (value < 10) {
+        target[offset + BBAN_INDEX + position] = (char) ('0' + value);
+        total                                  = total * 10 + value;
+      } else {
+        target[offset + BBAN_INDEX + position] = (char) ('A' + value - 10);
+        total                                  = total * 100 + value;
+      }
+      if (total > MAX) {
+        total %= 97;
+      }
+    }
+    // append the country code and the check digit 00 to the remainder of the bban
+    final int checkDigit = 98 - (int) (((total % 97) * 1_000_000L + template.countryValue) % 97);
+    target[offset + 2] = (char) ('0' + checkDigit / 10);
+    target[offset + 3] = (char) ('0' + checkDigit % 10);
+    return BBAN_INDEX + radixes.length;
+  }
+
+  /**
+   * Returns the next iban.
+   *
+   * @return the iban
+   */
+  public String nextString() {
+    final char[] chars = new char[maximumLength];
+    return new String(chars,
+                      0,
+                      next(chars,
+                           0));
+  }
+
+  /**
+   * Returns the next iban. The iban is validated by {@link Iban#valueOf(String)}, use {@link
+   * #next(char[], int)} or {@link #nextString()} for fixtures in text form.
+   *
+   * @return the iban
+   */
+  public Iban nextIban() {
+    return Iban.valueOf(nextString());
+  }
+
+  private Template nextTemplate() {
+    if (templates.length == 1) {
+      return templates[0];
+    }
+    final int index = Arrays.binarySearch(cumulativeWeights,
+                                          random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]) + 1);
+    return templates[index >= 0 ?
+                     index :
+                     -index - 1];
+  }
+
+  /**
+   * The prepared structure of a country.
+   */
+  private static final class Template {
+
+    private final char   first;
+    private final char   second;
+    /**
+     * Radix of every bban position: 10 for digits, 26 for letters, 36 for both.
+     */
+    private final byte[] radixes;
+    /**
+     * Value of the country code followed by the check digit 00 in the modulo 97 calculation.
+     */
+    private final int    countryValue;
+
+    private Template(final CountryCode countryCode,
+                     final BbanStructure structure) {
+      final String alpha2 = countryCode.getAlpha2();
+      this.first        = alpha2.charAt(0);
+      this.second       = alpha2.charAt(1);
+      this.radixes      = new byte[structure.getBbanLength()];
+      this.countryValue = ((first - 'A' + 10) * 100 + (second - 'A' + 10)) * 100;
+      for (int position = 0; position < radixes.length; position++) {
+        final EntryCharacterType characterType = structure.getCharacterType(position);
+        radixes[position] = (byte) (characterType == EntryCharacterType.n ?
+                                    10 :
+                                    characterType == EntryCharacterType.a ?
+                                    26 :
+                                    36);
+      }
+    }
+  }
+
+  /**
+   * Configures a generator.
+   */
+  public static final class Builder {
+
+    private final List<CountryCode> countryCodes = new ArrayList<>();
+    private final List<Integer>     weights      = new ArrayList<>();
+
+    private BbanStructureRegistry registry;
+    private Long                  seed;
+
+    private Builder() {
+    }
+
+    /**
+     * Sets the registry to look up the structures. Default: the current registry of the {@link
+     * BbanStructureProvider}.
+     *
+     * @param registry the registry
+     * @return the builder
+     */
+    public Builder registry(final BbanStructureRegistry registry) {
+      this.registry = registry;
+      return this;
+    }
+
+    /**
+     * Adds a country. The share of the ibans of a country is its weight divided by the sum of all
+     * weights. Without any country, all supported countries get the same weight.
+     *
+     * @param countryCode the country
+     * @param weight      the weight
+     * @return the builder
+     */
+    public Builder country(final CountryCode countryCode,
+                           final int weight) {
+      if (weight <= 0) {
+        throw new IllegalArgumentException("weight must be positive: " + weight);
+      }
+      countryCodes.add(countryCode);
+      weights.add(weight);
+      return this;
+    }
+
+    /**
+     * Sets the seed, so the generator returns the same ibans on every run. Default: a random seed.
+     *
+     * @param seed the seed
+     * @return the builder
+     */
+    public Builder seed(final long seed) {
+      this.seed = seed;
+      return this;
+    }
+
+    /**
+     * Creates the generator.
+     *
+     * @return the generator
+     * @throws UnsupportedCountryException if a country is not supported
+     * @throws IllegalArgumentException    if the sum of the weights is too large
+     */
+    public IbanGenerator build()
+        throws UnsupportedCountryException, IllegalArgumentException {
+      final BbanStructureRegistry registry = this.registry == null ?
+                                             BbanStructureProvider.get()
+                                                                  .getRegistry() :
+                                             this.registry;
+      final List<CountryCode> countryCodes = this.countryCodes.isEmpty() ?
+                                             registry.supportedCountries() :
+                                             this.countryCodes;
+      final Template[] templates         = new Template[countryCodes.size()];
+      final int[]      cumulativeWeights = new int[countryCodes.size()];
+      long             sum               = 0;
+      int              maximumLength     = 0;
+      for (int i = 0; i < templates.length; i++) {
+        final BbanStructure structure = registry.forCountry(countryCodes.get(i));
+        if (structure == null) {
+          throw new UnsupportedCountryException(countryCodes.get(i)
+                                                            .toString());
+        }
+        templates[i] = new Template(countryCodes.get(i),
+                                    structure);
+        sum += this.countryCodes.isEmpty() ?
+               1 :
+               weights.get(i);
+        if (sum > Integer.MAX_VALUE) {
+          throw new IllegalArgumentException("sum of the weights is too large: " + sum);
+        }
+        cumulativeWeights[i] = (int) sum;
+        maximumLength        = Math.max(maximumLength,
+                                        BBAN_INDEX + structure.getBbanLength());
+      }
+      if (templates.length == 0) {
+        throw new IllegalArgumentException("no supported country");
+      }
+      return new IbanGenerator(templates,
+                               cumulativeWeights,
+                               maximumLength,
+                               seed == null ?
+                               new SplittableRandom() :
+                               new SplittableRandom(seed));
+    }
+  }
+}
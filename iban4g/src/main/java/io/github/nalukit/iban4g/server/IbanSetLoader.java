@@ -0,0 +1,117 @@
+/*
+ * Copyright © 2020 Frank Hossfeld, Philipp Kohl
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nalukit.iban4g.server;
+
+import io.github.nalukit.iban4g.shared.Iban4gException;
+import io.github.nalukit.iban4g.shared.IbanFormatException;
+import io.github.nalukit.iban4g.shared.IbanSet;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Loads an {@link IbanSet} from a text file containing one iban per line, e.g. a sanctions list.
+ *
+ * <p>Leading and trailing whitespace is ignored, as are the spaces of an iban in print format.
+ * Empty lines and lines starting with <code>#</code> are skipped.
+ */
+@GwtIncompatible
+public final class IbanSetLoader {
+
+  private IbanSetLoader() {
+  }
+
+  /**
+   * Loads the ibans of an UTF-8 encoded file.
+   *
+   * @param file the file
+   * @return set containing the ibans of the file
+   * @throws IOException         if the file can not be read
+   * @throws IbanFormatException if the file contains an invalid iban
+   */
+  public static IbanSet load(final Path file)
+      throws IOException {
+    return load(file,
+                StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Loads the ibans of a file.
+   *
+   * @param file    the file
+   * @param charset the charset of the file
+   * @return set containing the ibans of the file
+   * @throws IOException         if the file can not be read
+   * @throws IbanFormatException if the file contains an invalid iban
+   */
+  public static IbanSet load(final Path file,
+                             final Charset charset)
+      throws IOException {
+    // about 23 bytes per line (iban, line separator), the set grows if the estimate is too low
+    final IbanSet set = new IbanSet((int) Math.min(IbanSet.MAXIMUM_EXPECTED_SIZE,
+                                                   Files.size(file) / 23));
+    try (Reader reader = Files.newBufferedReader(file,
+                                                 charset)) {
+      load(reader,
+           set);
+    }
+    return set;
+  }
+
+  /**
+   * Adds the ibans read from a reader to a set. The reader is not closed.
+   *
+   * @param reader the reader
+   * @param set    the set receiving the ibans
+   * @return the number of ibans read
+   * @throws IOException         if reading fails
+   * @throws IbanFormatException if the content contains an invalid iban
+   */
+  public static int load(final Reader reader,
+                         final IbanSet set)
+      throws IOException {
+    final BufferedReader bufferedReader = reader instanceof BufferedReader ?
+                                          (BufferedReader) reader :
+                                          new BufferedReader(reader);
+    int    count      = 0;
+    int    lineNumber = 0;
+    String line;
+    while ((line = bufferedReader.readLine()) != null) {
+      lineNumber++;
+      String iban = line.trim();
+      if (iban.isEmpty() || iban.charAt(0) == '#') {
+        continue;
+      }
+      if (iban.indexOf(' ') >= 0) {
+        iban = iban.replace(" ",
+                            "");
+      }
+      try {
+        set.add(iban);
+      } catch (Iban4gException e) {
+        throw new IbanFormatException("invalid iban: >>" + line + "<< in line " + lineNumber,
+                                      e);
+      }
+      count++;
+    }
+    return count;
+  }
+}
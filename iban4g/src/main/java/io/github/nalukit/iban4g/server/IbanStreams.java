@@ -0,0 +1,115 @@
+/*
+ * Copyright © 2020 Frank Hossfeld, Philipp Kohl
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nalukit.iban4g.server;
+
+import io.github.nalukit.iban4g.shared.IbanBatchValidator;
+import io.github.nalukit.iban4g.shared.bban.BbanStructureProvider;
+import io.github.nalukit.iban4g.shared.bban.BbanStructureRegistry;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
+
+/**
+ * Validates the ibans of a {@link Stream}, sequential or parallel, and summarizes the result in an
+ * {@link IbanValidationSummary}.
+ *
+ * <p>The ibans are checked without creating exceptions (see {@link IbanBatchValidator}). In a
+ * parallel stream every thread collects into a summary of its own, so the threads share nothing but
+ * the registry snapshot taken when the collector is created. The summaries are merged in encounter
+ * order, so the indexes of the invalid ibans are those of an ordered stream like {@link
+ * Files#lines(Path)} or a list, even if it is processed in parallel. How well a stream scales
+ * depends on its spliterator: lists and the lines of an UTF-8, ISO-8859-1 or US-ASCII file split
+ * evenly.
+ */
+@GwtIncompatible
+public final class IbanStreams {
+
+  private IbanStreams() {
+  }
+
+  /**
+   * Validates the ibans of the stream using the current BBAN structures. Call {@link
+   * Stream#parallel()} before to validate in parallel.
+   *
+   * @param ibans the ibans, may contain null
+   * @return the summary
+   */
+  public static IbanValidationSummary validate(final Stream<? extends CharSequence> ibans) {
+    return ibans.collect(summarizing());
+  }
+
+  /**
+   * Validates the lines of an UTF-8 file in parallel. Every line has to hold exactly one iban in
+   * electronic format, the indexes of the summary are the line numbers starting at 0.
+   *
+   * @param file the file
+   * @return the summary
+   * @throws IOException if the file can not be read
+   */
+  public static IbanValidationSummary validateLines(final Path file)
+      throws IOException {
+    return validateLines(file,
+                         StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Validates the lines of a file in parallel. Every line has to hold exactly one iban in electronic
+   * format, the indexes of the summary are the line numbers starting at 0.
+   *
+   * @param file    the file
+   * @param charset the charset of the file
+   * @return the summary
+   * @throws IOException if the file can not be read
+   */
+  public static IbanValidationSummary validateLines(final Path file,
+                                                    final Charset charset)
+      throws IOException {
+    try (Stream<String> lines = Files.lines(file,
+                                            charset)) {
+      return validate(lines.parallel());
+    }
+  }
+
+  /**
+   * Returns a collector validating the ibans using the current BBAN structures.
+   *
+   * @return the collector
+   */
+  public static Collector<CharSequence, ?, IbanValidationSummary> summarizing() {
+    return summarizing(BbanStructureProvider.get()
+                                            .getRegistry());
+  }
+
+  /**
+   * Returns a collector validating the ibans using the given registry.
+   *
+   * @param registry the registry to look up the structures
+   * @return the collector
+   */
+  public static Collector<CharSequence, ?, IbanValidationSummary> summarizing(final BbanStructureRegistry registry) {
+    return Collector.of(IbanValidationSummary::new,
+                        (summary, iban) -> summary.add(iban,
+                                                       IbanBatchValidator.validate(iban,
+                                                                                   registry)),
+                        IbanValidationSummary::merge,
+                        Collector.Characteristics.IDENTITY_FINISH);
+  }
+}
@@ -0,0 +1,213 @@
+/*
+ * Copyright © 2020 Frank Hossfeld, Philipp Kohl
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nalukit.iban4g.server;
+
+import io.github.nalukit.iban4g.shared.CountryCode;
+import io.github.nalukit.iban4g.shared.IbanBatchValidator;
+import io.github.nalukit.iban4g.shared.IbanFormatException.IbanFormatViolation;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Result of the validation of a stream of ibans, see {@link IbanStreams}: the number of ibans per
+ * violation and per country and the indexes of the invalid ibans.
+ *
+ * <p>While a stream is collected, every thread fills a summary of its own, which are merged in the
+ * encounter order of the stream at the end.
+ */
+@GwtIncompatible
+public final class IbanValidationSummary {
+
+  private static final IbanFormatViolation[] VIOLATIONS    = IbanFormatViolation.values();
+  private static final CountryCode[]         COUNTRY_CODES = CountryCode.values();
+
+  private final long[] violationCounts = new long[VIOLATIONS.length];
+  private final long[] countryCounts   = new long[COUNTRY_CODES.length];
+
+  private long   count;
+  private long[] invalidIndexes = new long[16];
+  private int    invalidCount;
+
+  IbanValidationSummary() {
+  }
+
+  /**
+   * Adds the result of the next iban of the stream.
+   *
+   * @param iban the iban
+   * @param code the violation code of the iban
+   */
+  void add(final CharSequence iban,
+           final byte code) {
+    if (code != IbanBatchValidator.VALID) {
+      violationCounts[code - 1]++;
+      addInvalidIndex(count);
+    }
+    final CountryCode countryCode = countryCodeOf(iban);
+    if (countryCode != null) {
+      countryCounts[countryCode.ordinal()]++;
+    }
+    count++;
+  }
+
+  /**
+   * Appends the ibans of a summary, which follow the ibans of this summary in the stream.
+   *
+   * @param other summary of the following ibans
+   * @return this summary
+   */
+  IbanValidationSummary merge(final IbanValidationSummary other) {
+    for (int i = 0; i < violationCounts.length; i++) {
+      violationCounts[i] += other.violationCounts[i];
+    }
+    for (int i = 0; i < countryCounts.length; i++) {
+      countryCounts[i] += other.countryCounts[i];
+    }
+    for (int i = 0; i < other.invalidCount; i++) {
+      addInvalidIndex(count + other.invalidIndexes[i]);
+    }
+    count += other.count;
+    return this;
+  }
+
+  private void addInvalidIndex(final long index) {
+    if (invalidCount == invalidIndexes.length) {
+      invalidIndexes = Arrays.copyOf(invalidIndexes,
+                                     2 * invalidCount);
+    }
+    invalidIndexes[invalidCount++] = index;
+  }
+
+  /**
+   * Returns the country code of an iban starting with the upper case code of a country, otherwise
+   * null.
+   */
+  private static CountryCode countryCodeOf(final CharSequence iban) {
+    if (iban == null || iban.length() < 2 || !isUpperCaseLetter(iban.charAt(0)) || !isUpperCaseLetter(iban.charAt(1))) {
+      return null;
+    }
+    return CountryCode.getByAlpha2Code(iban,
+                                       0);
+  }
+
+  private static boolean isUpperCaseLetter(final char ch) {
+    return ch >= 'A' && ch <= 'Z';
+  }
+
+  /**
+   * Returns the number of validated ibans.
+   *
+   * @return number of ibans
+   */
+  public long getCount() {
+    return count;
+  }
+
+  /**
+   * Returns the number of valid ibans.
+   *
+   * @return number of valid ibans
+   */
+  public long getValidCount() {
+    return count - invalidCount;
+  }
+
+  /**
+   * Returns the number of invalid ibans.
+   *
+   * @return number of invalid ibans
+   */
+  public long getInvalidCount() {
+    return invalidCount;
+  }
+
+  /**
+   * Returns the number of ibans violating a rule.
+   *
+   * @param violation the violated rule
+   * @return number of ibans
+   */
+  public long getCount(final IbanFormatViolation violation) {
+    return violationCounts[violation.ordinal()];
+  }
+
+  /**
+   * Returns the number of ibans of a country, valid or not. An iban is counted for a country, if it
+   * starts with the upper case code of the country.
+   *
+   * @param countryCode the country
+   * @return number of ibans
+   */
+  public long getCount(final CountryCode countryCode) {
+    return countryCounts[countryCode.ordinal()];
+  }
+
+  /**
+   * Returns the number of ibans per violated rule.
+   *
+   * @return the violations, which occurred at least once, and their number
+   */
+  public Map<IbanFormatViolation, Long> getViolationCounts() {
+    final Map<IbanFormatViolation, Long> counts = new EnumMap<>(IbanFormatViolation.class);
+    for (int i = 0; i < violationCounts.length; i++) {
+      if (violationCounts[i] != 0) {
+        counts.put(VIOLATIONS[i],
+                   violationCounts[i]);
+      }
+    }
+    return Collections.unmodifiableMap(counts);
+  }
+
+  /**
+   * Returns the number of ibans per country.
+   *
+   * @return the countries, which occurred at least once, and their number of ibans
+   */
+  public Map<CountryCode, Long> getCountryCounts() {
+    final Map<CountryCode, Long> counts = new EnumMap<>(CountryCode.class);
+    for (int i = 0; i < countryCounts.length; i++) {
+      if (countryCounts[i] != 0) {
+        counts.put(COUNTRY_CODES[i],
+                   countryCounts[i]);
+      }
+    }
+    return Collections.unmodifiableMap(counts);
+  }
+
+  /**
+   * Returns the indexes of the invalid ibans in ascending order. The indexes count the elements in
+   * the encounter order of the stream, so they are only meaningful for an ordered stream.
+   *
+   * @return the indexes
+   */
+  public long[] getInvalidIndexes() {
+    return Arrays.copyOf(invalidIndexes,
+                         invalidCount);
+  }
+
+  @Override
+  public String toString() {
+    return "IbanValidationSummary{" +
+           "count=" + count +
+           ", invalid=" + invalidCount +
+           ", violations=" + getViolationCounts() +
+           ", countries=" + getCountryCounts() +
+           '}';
+  }
+}
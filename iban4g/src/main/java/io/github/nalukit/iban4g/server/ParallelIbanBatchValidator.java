@@ -0,0 +1,146 @@
+/*
+ * Copyright © 2020 Frank Hossfeld, Philipp Kohl
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nalukit.iban4g.server;
+
+import io.github.nalukit.iban4g.shared.IbanBatchValidator;
+import io.github.nalukit.iban4g.shared.bban.BbanStructureProvider;
+import io.github.nalukit.iban4g.shared.bban.BbanStructureRegistry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Parallel version of {@link IbanBatchValidator}. The batch is split into ranges, which are
+ * validated by the tasks of a {@link ForkJoinPool}. Batches smaller than the threshold are
+ * validated by the calling thread.
+ */
+@GwtIncompatible
+public final class ParallelIbanBatchValidator {
+
+  /**
+   * Number of ibans below which a range is not split any further. Validating an iban takes about
+   * 100-200 ns, so a range of this size keeps the overhead of a task below one percent.
+   */
+  public static final int DEFAULT_THRESHOLD = 8_192;
+
+  private ParallelIbanBatchValidator() {
+  }
+
+  /**
+   * Validates the ibans using the common pool.
+   *
+   * @param ibans the ibans to validate, may contain null
+   * @return the violation code of every iban, see {@link IbanBatchValidator}
+   */
+  public static byte[] validate(final List<? extends CharSequence> ibans) {
+    return validate(ibans,
+                    ForkJoinPool.commonPool(),
+                    DEFAULT_THRESHOLD);
+  }
+
+  /**
+   * Validates the ibans using the given pool.
+   *
+   * @param ibans     the ibans to validate, may contain null
+   * @param pool      the pool executing the validation
+   * @param threshold number of ibans below which a range is validated sequentially
+   * @return the violation code of every iban, see {@link IbanBatchValidator}
+   */
+  public static byte[] validate(final List<? extends CharSequence> ibans,
+                                final ForkJoinPool pool,
+                                final int threshold) {
+    if (threshold < 1) {
+      throw new IllegalArgumentException("threshold must be positive: " + threshold);
+    }
+    // splitting requires indexed access
+    final List<? extends CharSequence> list = ibans instanceof RandomAccess ?
+                                              ibans :
+                                              new ArrayList<>(ibans);
+    final byte[]                codes    = new byte[list.size()];
+    final BbanStructureRegistry registry = BbanStructureProvider.get()
+                                                                .getRegistry();
+    if (list.size() <= threshold) {
+      IbanBatchValidator.validate(list,
+                                  0,
+                                  list.size(),
+                                  codes,
+                                  registry);
+    } else {
+      pool.invoke(new ValidationTask(list,
+                                     0,
+                                     list.size(),
+                                     codes,
+                                     registry,
+                                     threshold));
+    }
+    return codes;
+  }
+
+  private static final class ValidationTask
+      extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    private final List<? extends CharSequence> ibans;
+    private final int                          fromIndex;
+    private final int                          toIndex;
+    private final byte[]                       codes;
+    private final BbanStructureRegistry        registry;
+    private final int                          threshold;
+
+    private ValidationTask(final List<? extends CharSequence> ibans,
+                           final int fromIndex,
+                           final int toIndex,
+                           final byte[] codes,
+                           final BbanStructureRegistry registry,
+                           final int threshold) {
+      this.ibans     = ibans;
+      this.fromIndex = fromIndex;
+      this.toIndex   = toIndex;
+      this.codes     = codes;
+      this.registry  = registry;
+      this.threshold = threshold;
+    }
+
+    @Override
+    protected void compute() {
+      if (toIndex - fromIndex <= threshold) {
+        IbanBatchValidator.validate(ibans,
+                                    fromIndex,
+                                    toIndex,
+                                    codes,
+                                    registry);
+        return;
+      }
+      final int middle = (fromIndex + toIndex) >>> 1;
+      invokeAll(new ValidationTask(ibans,
+                                   fromIndex,
+                                   middle,
+                                   codes,
+                                   registry,
+                                   threshold),
+                new ValidationTask(ibans,
+                                   middle,
+                                   toIndex,
+                                   codes,
+                                   registry,
+                                   threshold));
+    }
+  }
+}
@@ -0,0 +1,509 @@
+/*
+ * Copyright © 2020 Frank Hossfeld, Philipp Kohl
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nalukit.iban4g.server.bank;
+
+import io.github.nalukit.iban4g.server.BicPool;
+import io.github.nalukit.iban4g.server.GwtIncompatible;
+import io.github.nalukit.iban4g.shared.Bic;
+import io.github.nalukit.iban4g.shared.CountryCode;
+import io.github.nalukit.iban4g.shared.Iban;
+import io.github.nalukit.iban4g.shared.bban.BbanEntryType;
+import io.github.nalukit.iban4g.shared.bban.BbanStructure;
+import io.github.nalukit.iban4g.shared.bban.BbanStructureProvider;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Directory of banks, keyed by country code and national bank code, e.g. to look up the bic of the
+ * bank of an iban.
+ *
+ * <p>The directory is a binary table, sorted by country code and bank code, which is read directly
+ * from a {@link ByteBuffer}, usually a file mapped into memory by {@link #open(Path)}. A lookup is a
+ * binary search over the table, comparing the bank code of an {@link Iban} in place, so neither
+ * the lookup nor reading the packed bic (see {@link Bic#toPacked()}) allocates. The {@link Bic}
+ * instances are taken from a {@link BicPool}, so only the first lookup of a bic creates one.
+ *
+ * <p>Table layout (big endian):
+ * <pre>
+ *   header    magic, version, number of banks, offset of the names (4 ints)
+ *   banks     one record of 32 bytes per bank:
+ *               0 -  1  country code (ASCII)
+ *               2       length of the bank code
+ *               3 - 15  bank code (ASCII, padded with 0)
+ *              16 - 23  packed bic, 0 if the bank has no bic
+ *              24 - 27  index of the first character of the name
+ *              28 - 31  length of the name
+ *   names     the characters of all names (UTF-16)
+ * </pre>
+ *
+ * <p>A directory is created by a {@link Builder}, which is filled by a {@link BankDirectoryLoader}
+ * and writes the table into a file once, to be opened by every process afterwards. A directory is
+ * immutable and can be used by any number of threads.
+ */
+@GwtIncompatible
+public final class BankDirectory {
+
+  /**
+   * Maximum length of a bank code.
+   */
+  public static final int MAXIMUM_BANK_CODE_LENGTH = 13;
+
+  private static final int MAGIC   = 0x49424B44;
+  private static final int VERSION = 1;
+
+  private static final int HEADER_SIZE = 16;
+  private static final int RECORD_SIZE = 32;
+
+  private static final int BANK_CODE_LENGTH_OFFSET = 2;
+  private static final int BANK_CODE_OFFSET        = 3;
+  private static final int BIC_OFFSET              = 16;
+  private static final int NAME_OFFSET             = 24;
+  private static final int NAME_LENGTH_OFFSET      = 28;
+
+  private static final int BBAN_INDEX = 4;
+
+  private final ByteBuffer buffer;
+  private final int        size;
+  private final int        namesOffset;
+  private final BicPool    bics;
+
+  private BankDirectory(final ByteBuffer buffer)
+      throws IOException {
+    if (buffer.limit() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+      throw new IOException("not a bank directory");
+    }
+    if (buffer.getInt(4) != VERSION) {
+      throw new IOException("unsupported bank directory version: " + buffer.getInt(4));
+    }
+    this.buffer      = buffer;
+    this.size        = buffer.getInt(8);
+    this.namesOffset = buffer.getInt(12);
+    if (size < 0 || namesOffset != HEADER_SIZE + (long) size * RECORD_SIZE || namesOffset > buffer.limit()) {
+      throw new IOException("corrupt bank directory: " + size + " banks, names at " + namesOffset + ", size " + buffer.limit());
+    }
+    this.bics = new BicPool(size);
+  }
+
+  /**
+   * Opens a directory written by {@link Builder#write(Path)}. The file is mapped into memory, it is
+   * neither read nor copied.
+   *
+   * @param file the file
+   * @return the directory
+   * @throws IOException if the file can not be mapped or is not a bank directory
+   */
+  public static BankDirectory open(final Path file)
+      throws IOException {
+    try (FileChannel channel = FileChannel.open(file,
+                                                StandardOpenOption.READ)) {
+      // the mapping stays valid after the channel is closed
+      return new BankDirectory(channel.map(FileChannel.MapMode.READ_ONLY,
+                                           0,
+                                           channel.size()));
+    }
+  }
+
+  /**
+   * Returns a builder for a directory.
+   *
+   * @return the builder
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Returns the number of banks.
+   *
+   * @return the size
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Looks up the bank of an iban.
+   *
+   * @param iban the iban
+   * @return the index of the bank or -1 if the directory does not contain the bank or the bban of
+   * the country has no bank code
+   */
+  public int indexOf(final Iban iban) {
+    final CountryCode   countryCode = iban.getCountryCode();
+    final BbanStructure structure   = BbanStructureProvider.get()
+                                                           .forCountry(countryCode);
+    if (structure == null) {
+      return -1;
+    }
+    final int offset = structure.getEntryOffset(BbanEntryType.bank_code);
+    if (offset < 0) {
+      return -1;
+    }
+    return indexOf(countryCode,
+                   iban.toString(),
+                   BBAN_INDEX + offset,
+                   structure.getEntryLength(BbanEntryType.bank_code));
+  }
+
+  /**
+   * Looks up a bank.
+   *
+   * @param countryCode the country of the bank
+   * @param bankCode    the national bank code
+   * @return the index of the bank or -1 if the directory does not contain the bank
+   */
+  public int indexOf(final CountryCode countryCode,
+                     final CharSequence bankCode) {
+    return indexOf(countryCode,
+                   bankCode,
+                   0,
+                   bankCode.length());
+  }
+
+  /**
+   * Looks up a bank code at the given position of a value.
+   *
+   * @param countryCode the country of the bank
+   * @param value       the value containing the bank code, e.g. an iban
+   * @param offset      index of the first character of the bank code
+   * @param length      length of the bank code
+   * @return the index of the bank or -1 if the directory does not contain the bank
+   */
+  public int indexOf(final CountryCode countryCode,
+                     final CharSequence value,
+                     final int offset,
+                     final int length) {
+    final String alpha2 = countryCode.getAlpha2();
+    int          low    = 0;
+    int          high   = size - 1;
+    while (low <= high) {
+      final int middle = (low + high) >>> 1;
+      final int cmp    = compare(middle,
+                                 alpha2,
+                                 value,
+                                 offset,
+                                 length);
+      if (cmp < 0) {
+        low = middle + 1;
+      } else if (cmp > 0) {
+        high = middle - 1;
+      } else {
+        return middle;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Compares the key of a record with a country code and a bank code.
+   */
+  private int compare(final int index,
+                      final String alpha2,
+                      final CharSequence value,
+                      final int offset,
+                      final int length) {
+    final int record = recordOf(index);
+    for (int i = 0; i < 2; i++) {
+      final int cmp = (buffer.get(record + i) & 0xFF) - alpha2.charAt(i);
+      if (cmp != 0) {
+        return cmp;
+      }
+    }
+    final int bankCodeLength = buffer.get(record + BANK_CODE_LENGTH_OFFSET);
+    final int common         = Math.min(bankCodeLength,
+                                        length);
+    for (int i = 0; i < common; i++) {
+      final int cmp = (buffer.get(record + BANK_CODE_OFFSET + i) & 0xFF) - value.charAt(offset + i);
+      if (cmp != 0) {
+        return cmp;
+      }
+    }
+    return bankCodeLength - length;
+  }
+
+  private int recordOf(final int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("index: " + index + ", size: " + size);
+    }
+    return HEADER_SIZE + index * RECORD_SIZE;
+  }
+
+  /**
+   * Returns the country of a bank.
+   *
+   * @param index the index of the bank
+   * @return the country code
+   */
+  public CountryCode getCountryCode(final int index) {
+    final int record = recordOf(index);
+    return CountryCode.getByCode(new String(new char[] { (char) buffer.get(record),
+                                                         (char) buffer.get(record + 1) }));
+  }
+
+  /**
+   * Returns the bank code of a bank.
+   *
+   * @param index the index of the bank
+   * @return the bank code
+   */
+  public String getBankCode(final int index) {
+    final int    record = recordOf(index);
+    final char[] chars  = new char[buffer.get(record + BANK_CODE_LENGTH_OFFSET)];
+    for (int i = 0; i < chars.length; i++) {
+      chars[i] = (char) buffer.get(record + BANK_CODE_OFFSET + i);
+    }
+    return new String(chars);
+  }
+
+  /**
+   * Returns the packed bic of a bank, see {@link Bic#toPacked()}.
+   *
+   * @param index the index of the bank
+   * @return the packed bic or 0 if the bank has no bic
+   */
+  public long getPackedBic(final int index) {
+    return buffer.getLong(recordOf(index) + BIC_OFFSET);
+  }
+
+  /**
+   * Returns the bic of a bank.
+   *
+   * @param index the index of the bank
+   * @return the bic or null if the bank has no bic
+   */
+  public Bic getBic(final int index) {
+    final long packed = getPackedBic(index);
+    return packed == 0 ?
+           null :
+           bics.valueOf(packed);
+  }
+
+  /**
+   * Returns the bic of the bank of an iban.
+   *
+   * @param iban the iban
+   * @return the bic or null if the directory does not contain the bank or the bank has no bic
+   */
+  public Bic getBic(final Iban iban) {
+    final int index = indexOf(iban);
+    return index < 0 ?
+           null :
+           getBic(index);
+  }
+
+  /**
+   * Returns the name of a bank.
+   *
+   * @param index the index of the bank
+   * @return the name
+   */
+  public String getBankName(final int index) {
+    final StringBuilder name = new StringBuilder(buffer.getInt(recordOf(index) + NAME_LENGTH_OFFSET));
+    appendBankName(index,
+                   name);
+    return name.toString();
+  }
+
+  /**
+   * Returns the name of the bank of an iban.
+   *
+   * @param iban the iban
+   * @return the name or null if the directory does not contain the bank
+   */
+  public String getBankName(final Iban iban) {
+    final int index = indexOf(iban);
+    return index < 0 ?
+           null :
+           getBankName(index);
+  }
+
+  /**
+   * Appends the name of a bank, e.g. to a reused builder.
+   *
+   * @param index  the index of the bank
+   * @param target the builder receiving the name
+   */
+  public void appendBankName(final int index,
+                             final StringBuilder target) {
+    final int record = recordOf(index);
+    final int start  = namesOffset + 2 * buffer.getInt(record + NAME_OFFSET);
+    final int length = buffer.getInt(record + NAME_LENGTH_OFFSET);
+    for (int i = 0; i < length; i++) {
+      target.append(buffer.getChar(start + 2 * i));
+    }
+  }
+
+  /**
+   * Collects the banks of a directory.
+   */
+  public static final class Builder {
+
+    private final List<Entry> entries = new ArrayList<>();
+    private final Set<String> keys    = new HashSet<>();
+
+    private Builder() {
+    }
+
+    /**
+     * Adds a bank. If the builder already contains a bank of the country with the same bank code,
+     * the bank is ignored.
+     *
+     * @param countryCode the country of the bank
+     * @param bankCode    the national bank code (ASCII letters and digits)
+     * @param bic         the bic of the bank, may be null
+     * @param name        the name of the bank
+     * @return true if the bank was added, false if the builder already contains the bank code
+     * @throws IllegalArgumentException if the bank code is invalid or the bic can not be packed
+     */
+    public boolean add(final CountryCode countryCode,
+                       final String bankCode,
+                       final Bic bic,
+                       final String name) {
+      if (bankCode.isEmpty() || bankCode.length() > MAXIMUM_BANK_CODE_LENGTH) {
+        throw new IllegalArgumentException("invalid length of bank code: " + bankCode);
+      }
+      for (int i = 0; i < bankCode.length(); i++) {
+        final char ch = bankCode.charAt(i);
+        if (!(ch >= '0' && ch <= '9') && !(ch >= 'A' && ch <= 'Z') && !(ch >= 'a' && ch <= 'z')) {
+          throw new IllegalArgumentException("invalid bank code: " + bankCode);
+        }
+      }
+      if (bic != null && !bic.isPackable()) {
+        throw new IllegalArgumentException("bic can not be packed: " + bic);
+      }
+      if (!keys.add(countryCode.getAlpha2() + bankCode)) {
+        return false;
+      }
+      entries.add(new Entry(countryCode.getAlpha2(),
+                            bankCode,
+                            bic == null ?
+                            0 :
+                            bic.toPacked(),
+                            name));
+      return true;
+    }
+
+    /**
+     * Returns the number of banks added so far.
+     *
+     * @return the size
+     */
+    public int size() {
+      return entries.size();
+    }
+
+    /**
+     * Creates a directory held in memory.
+     *
+     * @return the directory
+     */
+    public BankDirectory build() {
+      final ByteBuffer buffer = ByteBuffer.wrap(toBytes());
+      try {
+        return new BankDirectory(buffer);
+      } catch (IOException e) {
+        // the table was just created
+        throw new IllegalStateException(e);
+      }
+    }
+
+    /**
+     * Writes the directory into a file, to be opened by {@link BankDirectory#open(Path)}.
+     *
+     * @param file the file
+     * @throws IOException if the file can not be written
+     */
+    public void write(final Path file)
+        throws IOException {
+      final byte[] bytes = toBytes();
+      try (OutputStream out = Files.newOutputStream(file)) {
+        out.write(bytes);
+      }
+    }
+
+    private byte[] toBytes() {
+      final List<Entry> sorted = new ArrayList<>(entries);
+      sorted.sort((entry1, entry2) -> {
+        final int cmp = entry1.alpha2.compareTo(entry2.alpha2);
+        return cmp != 0 ?
+               cmp :
+               entry1.bankCode.compareTo(entry2.bankCode);
+      });
+      long nameLength = 0;
+      for (Entry entry : sorted) {
+        nameLength += entry.name.length();
+      }
+      final long namesOffset = HEADER_SIZE + (long) sorted.size() * RECORD_SIZE;
+      if (namesOffset + 2 * nameLength > Integer.MAX_VALUE) {
+        throw new IllegalStateException("too many banks: " + sorted.size());
+      }
+      final ByteBuffer buffer = ByteBuffer.allocate((int) (namesOffset + 2 * nameLength));
+      buffer.putInt(MAGIC)
+            .putInt(VERSION)
+            .putInt(sorted.size())
+            .putInt((int) namesOffset);
+      int nameIndex = 0;
+      for (Entry entry : sorted) {
+        final int record = buffer.position();
+        buffer.put((byte) entry.alpha2.charAt(0))
+              .put((byte) entry.alpha2.charAt(1))
+              .put((byte) entry.bankCode.length());
+        for (int i = 0; i < entry.bankCode.length(); i++) {
+          buffer.put((byte) entry.bankCode.charAt(i));
+        }
+        buffer.position(record + BIC_OFFSET);
+        buffer.putLong(entry.packedBic)
+              .putInt(nameIndex)
+              .putInt(entry.name.length());
+        nameIndex += entry.name.length();
+      }
+      for (Entry entry : sorted) {
+        for (int i = 0; i < entry.name.length(); i++) {
+          buffer.putChar(entry.name.charAt(i));
+        }
+      }
+      return buffer.array();
+    }
+  }
+
+  private static final class Entry {
+
+    private final String alpha2;
+    private final String bankCode;
+    private final long   packedBic;
+    private final String name;
+
+    private Entry(final String alpha2,
+                  final String bankCode,
+                  final long packedBic,
+                  final String name) {
+      this.alpha2    = alpha2;
+      this.bankCode  = bankCode;
+      this.packedBic = packedBic;
+      this.name      = name;
+    }
+  }
+}
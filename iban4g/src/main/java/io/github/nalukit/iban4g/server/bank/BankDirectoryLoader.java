@@ -0,0 +1,253 @@
+/*
+ * Copyright © 2020 Frank Hossfeld, Philipp Kohl
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nalukit.iban4g.server.bank;
+
+import io.github.nalukit.iban4g.server.GwtIncompatible;
+import io.github.nalukit.iban4g.shared.Bic;
+import io.github.nalukit.iban4g.shared.CountryCode;
+import io.github.nalukit.iban4g.shared.Iban4gException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Loads bank code files into a {@link BankDirectory.Builder}.
+ *
+ * <p>Two formats are supported:
+ * <ul>
+ *   <li>the <a href="https://www.bundesbank.de/en/tasks/payment-systems/services/bank-sort-codes">bank
+ *   sort code file</a> of the Deutsche Bundesbank (fixed width, ISO-8859-1). Only the records of the
+ *   payment service providers themselves (feature <code>1</code>) are loaded, records marked as
+ *   deleted are skipped.</li>
+ *   <li>a delimited text file holding country code, bank code, bic and name of a bank per line
+ *   (UTF-8), e.g. <code>FR;30004;BNPAFRPP;BNP Paribas</code>. The bic may be empty, the name is
+ *   the rest of the line. Empty lines and lines starting with <code>#</code> are skipped. Other
+ *   directories, like the one of the Banque de France or the SWIFT BIC directory, are converted into
+ *   this format.</li>
+ * </ul>
+ */
+@GwtIncompatible
+public final class BankDirectoryLoader {
+
+  private static final Charset BUNDESBANK_CHARSET = StandardCharsets.ISO_8859_1;
+
+  // columns of the Bundesbank file (0 based, end exclusive)
+  private static final int BUNDESBANK_BANK_CODE_END = 8;
+  private static final int BUNDESBANK_FEATURE       = 8;
+  private static final int BUNDESBANK_NAME_START    = 9;
+  private static final int BUNDESBANK_NAME_END      = 67;
+  private static final int BUNDESBANK_BIC_START     = 139;
+  private static final int BUNDESBANK_BIC_END       = 150;
+  private static final int BUNDESBANK_CHANGE_CODE   = 158;
+
+  private static final char BUNDESBANK_PAYMENT_SERVICE_PROVIDER = '1';
+  private static final char BUNDESBANK_DELETED                  = 'D';
+
+  private BankDirectoryLoader() {
+  }
+
+  /**
+   * Loads the banks of a bank sort code file of the Deutsche Bundesbank.
+   *
+   * @param file      the file
+   * @param directory the builder receiving the banks
+   * @return the number of banks added
+   * @throws IOException              if the file can not be read
+   * @throws IllegalArgumentException if the file contains an invalid line
+   */
+  public static int loadBundesbank(final Path file,
+                                   final BankDirectory.Builder directory)
+      throws IOException {
+    try (Reader reader = Files.newBufferedReader(file,
+                                                 BUNDESBANK_CHARSET)) {
+      return loadBundesbank(reader,
+                            directory);
+    }
+  }
+
+  /**
+   * Loads the banks of a bank sort code file of the Deutsche Bundesbank. The reader is not closed.
+   *
+   * @param reader    the reader
+   * @param directory the builder receiving the banks
+   * @return the number of banks added
+   * @throws IOException              if reading fails
+   * @throws IllegalArgumentException if the content contains an invalid line
+   */
+  public static int loadBundesbank(final Reader reader,
+                                   final BankDirectory.Builder directory)
+      throws IOException {
+    final BufferedReader bufferedReader = bufferedReaderOf(reader);
+    int    count      = 0;
+    int    lineNumber = 0;
+    String line;
+    while ((line = bufferedReader.readLine()) != null) {
+      lineNumber++;
+      if (line.trim()
+              .isEmpty()) {
+        continue;
+      }
+      if (line.length() <= BUNDESBANK_CHANGE_CODE) {
+        throw invalidLine(line,
+                          lineNumber,
+                          null);
+      }
+      if (line.charAt(BUNDESBANK_FEATURE) != BUNDESBANK_PAYMENT_SERVICE_PROVIDER || line.charAt(BUNDESBANK_CHANGE_CODE) == BUNDESBANK_DELETED) {
+        continue;
+      }
+      if (add(directory,
+              CountryCode.DE,
+              line.substring(0,
+                             BUNDESBANK_BANK_CODE_END),
+              line.substring(BUNDESBANK_BIC_START,
+                             BUNDESBANK_BIC_END)
+                  .trim(),
+              line.substring(BUNDESBANK_NAME_START,
+                             BUNDESBANK_NAME_END)
+                  .trim(),
+              line,
+              lineNumber)) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Loads the banks of an UTF-8 encoded delimited file.
+   *
+   * @param file      the file
+   * @param separator the character separating the columns, e.g. <code>;</code> or a tab
+   * @param directory the builder receiving the banks
+   * @return the number of banks added
+   * @throws IOException              if the file can not be read
+   * @throws IllegalArgumentException if the file contains an invalid line
+   */
+  public static int loadDelimited(final Path file,
+                                  final char separator,
+                                  final BankDirectory.Builder directory)
+      throws IOException {
+    try (Reader reader = Files.newBufferedReader(file,
+                                                 StandardCharsets.UTF_8)) {
+      return loadDelimited(reader,
+                           separator,
+                           directory);
+    }
+  }
+
+  /**
+   * Loads the banks of a delimited file. The reader is not closed.
+   *
+   * @param reader    the reader
+   * @param separator the character separating the columns, e.g. <code>;</code> or a tab
+   * @param directory the builder receiving the banks
+   * @return the number of banks added
+   * @throws IOException              if reading fails
+   * @throws IllegalArgumentException if the content contains an invalid line
+   */
+  public static int loadDelimited(final Reader reader,
+                                  final char separator,
+                                  final BankDirectory.Builder directory)
+      throws IOException {
+    final BufferedReader bufferedReader = bufferedReaderOf(reader);
+    int    count      = 0;
+    int    lineNumber = 0;
+    String line;
+    while ((line = bufferedReader.readLine()) != null) {
+      lineNumber++;
+      if (line.trim()
+              .isEmpty() || line.charAt(0) == '#') {
+        continue;
+      }
+      final int bankCodeStart = line.indexOf(separator) + 1;
+      final int bicStart      = bankCodeStart == 0 ?
+                                0 :
+                                line.indexOf(separator,
+                                             bankCodeStart) + 1;
+      final int nameStart     = bicStart == 0 ?
+                                0 :
+                                line.indexOf(separator,
+                                             bicStart) + 1;
+      if (nameStart == 0) {
+        throw invalidLine(line,
+                          lineNumber,
+                          null);
+      }
+      final CountryCode countryCode = CountryCode.getByCode(line.substring(0,
+                                                                           bankCodeStart - 1)
+                                                                .trim());
+      if (countryCode == null) {
+        throw invalidLine(line,
+                          lineNumber,
+                          null);
+      }
+      if (add(directory,
+              countryCode,
+              line.substring(bankCodeStart,
+                             bicStart - 1)
+                  .trim(),
+              line.substring(bicStart,
+                             nameStart - 1)
+                  .trim(),
+              line.substring(nameStart)
+                  .trim(),
+              line,
+              lineNumber)) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  private static boolean add(final BankDirectory.Builder directory,
+                             final CountryCode countryCode,
+                             final String bankCode,
+                             final String bic,
+                             final String name,
+                             final String line,
+                             final int lineNumber) {
+    try {
+      return directory.add(countryCode,
+                           bankCode,
+                           bic.isEmpty() ?
+                           null :
+                           Bic.valueOf(bic),
+                           name);
+    } catch (Iban4gException | IllegalArgumentException e) {
+      throw invalidLine(line,
+                        lineNumber,
+                        e);
+    }
+  }
+
+  private static BufferedReader bufferedReaderOf(final Reader reader) {
+    return reader instanceof BufferedReader ?
+           (BufferedReader) reader :
+           new BufferedReader(reader);
+  }
+
+  private static IllegalArgumentException invalidLine(final String line,
+                                                      final int lineNumber,
+                                                      final Exception cause) {
+    return new IllegalArgumentException("invalid bank: >>" + line + "<< in line " + lineNumber,
+                                        cause);
+  }
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright © 2020 Frank Hossfeld, Philipp Kohl
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nalukit.iban4g.server.bank;
+
+import io.github.nalukit.iban4g.server.GwtIncompatible;
+import io.github.nalukit.iban4g.shared.Bic;
+import io.github.nalukit.iban4g.shared.BicUtil;
+import io.github.nalukit.iban4g.shared.CountryCode;
+import io.github.nalukit.iban4g.shared.Iban;
+import io.github.nalukit.iban4g.shared.IbanUtil;
+import io.github.nalukit.iban4g.shared.bban.BbanEntryType;
+import io.github.nalukit.iban4g.shared.bban.BbanStructure;
+import io.github.nalukit.iban4g.shared.bban.BbanStructureProvider;
+import io.github.nalukit.iban4g.shared.bban.BbanStructureRegistry;
+
+/**
+ * Checks whether an iban and a bic belong together, e.g. the account and the bank of a payment.
+ *
+ * <p>Two rules are checked:
+ * <ul>
+ *   <li>the countries of iban and bic agree. Territories, which share the BBAN structure of their
+ *   country (e.g. GF, GP and MQ with FR, or JE and GG with GB), agree with their country and with
+ *   each other.</li>
+ *   <li>if the matcher has a {@link BankDirectory}, the bank code of the iban maps to a bic with the
+ *   same bank code (the first four characters, the institution) as the given bic. Location and
+ *   branch code may differ. A bank, which the directory does not know or knows without bic, can
+ *   not be checked and is reported as {@link Result#BANK_UNKNOWN}.</li>
+ * </ul>
+ *
+ * <p>The values of {@link #check(CharSequence, CharSequence)} are validated and checked in place
+ * (see {@link IbanUtil#getViolation(CharSequence)} and {@link BicUtil#toPacked(CharSequence)}), so
+ * screening a payment file neither allocates nor needs a separate validation pass. A matcher is
+ * immutable and can be used by any number of threads.
+ */
+@GwtIncompatible
+public final class IbanBicMatcher {
+
+  private static final int BBAN_INDEX        = 4;
+  private static final int BIC_COUNTRY_INDEX = 4;
+
+  private final BbanStructureRegistry registry;
+  private final BankDirectory         directory;
+
+  /**
+   * Creates a matcher checking the countries only, using the current BBAN structures.
+   */
+  public IbanBicMatcher() {
+    this(null);
+  }
+
+  /**
+   * Creates a matcher checking the countries and the bank codes, using the current BBAN
+   * structures.
+   *
+   * @param directory the bank directory, null to check the countries only
+   */
+  public IbanBicMatcher(final BankDirectory directory) {
+    this(BbanStructureProvider.get()
+                              .getRegistry(),
+         directory);
+  }
+
+  /**
+   * Creates a matcher.
+   *
+   * @param registry  the registry to look up the structures
+   * @param directory the bank directory, null to check the countries only
+   */
+  public IbanBicMatcher(final BbanStructureRegistry registry,
+                        final BankDirectory directory) {
+    this.registry  = registry;
+    this.directory = directory;
+  }
+
+  /**
+   * Checks whether iban and bic belong together. A bank, which the directory does not know, is no
+   * mismatch.
+   *
+   * @param iban the iban
+   * @param bic  the bic
+   * @return false if the countries or the banks of iban and bic differ
+   */
+  public boolean matches(final Iban iban,
+                         final Bic bic) {
+    final Result result = check(iban,
+                                bic);
+    return result == Result.MATCH || result == Result.BANK_UNKNOWN;
+  }
+
+  /**
+   * Checks whether iban and bic belong together.
+   *
+   * @param iban the iban
+   * @param bic  the bic
+   * @return the result
+   */
+  public Result check(final Iban iban,
+                      final Bic bic) {
+    final String value = bic.toString();
+    return check(iban.toString(),
+                 iban.getCountryCode(),
+                 value,
+                 CountryCode.getByAlpha2Code(value,
+                                             BIC_COUNTRY_INDEX),
+                 BicUtil.toPacked(value));
+  }
+
+  /**
+   * Validates an iban and a bic and checks whether they belong together.
+   *
+   * @param iban the iban, may be null
+   * @param bic  the bic, may be null
+   * @return the result
+   */
+  public Result check(final CharSequence iban,
+                      final CharSequence bic) {
+    if (IbanUtil.getViolation(iban) != null) {
+      return Result.INVALID_IBAN;
+    }
+    final long packedBic = BicUtil.toPacked(bic);
+    if (packedBic == 0 && !BicUtil.isValid(bic)) {
+      return Result.INVALID_BIC;
+    }
+    return check(iban,
+                 CountryCode.getByAlpha2Code(iban,
+                                             0),
+                 bic,
+                 CountryCode.getByAlpha2Code(bic,
+                                             BIC_COUNTRY_INDEX),
+                 packedBic);
+  }
+
+  /**
+   * Checks a valid iban and a valid bic.
+   *
+   * @param packedBic the packed bic, 0 if the bic can not be packed
+   */
+  private Result check(final CharSequence iban,
+                       final CountryCode ibanCountryCode,
+                       final CharSequence bic,
+                       final CountryCode bicCountryCode,
+                       final long packedBic) {
+    final BbanStructure structure = registry.forCountry(ibanCountryCode);
+    // only territories share the structure of their country
+    if (ibanCountryCode != bicCountryCode && (structure == null || structure != registry.forCountry(bicCountryCode))) {
+      return Result.COUNTRY_MISMATCH;
+    }
+    if (directory == null) {
+      return Result.MATCH;
+    }
+    final int offset = structure == null ?
+                       -1 :
+                       structure.getEntryOffset(BbanEntryType.bank_code);
+    if (offset < 0) {
+      return Result.BANK_UNKNOWN;
+    }
+    final int index = directory.indexOf(ibanCountryCode,
+                                        iban,
+                                        BBAN_INDEX + offset,
+                                        structure.getEntryLength(BbanEntryType.bank_code));
+    final long expected = index < 0 ?
+                          0 :
+                          directory.getPackedBic(index);
+    if (expected == 0) {
+      return Result.BANK_UNKNOWN;
+    }
+    // the bics of the directory are packed, a bic which can not be packed has another bank code
+    return packedBic != 0 && BicUtil.isSameBankCode(expected,
+                                                    packedBic) ?
+           Result.MATCH :
+           Result.BANK_MISMATCH;
+  }
+
+  /**
+   * Result of a check.
+   */
+  public enum Result {
+    /**
+     * Iban and bic belong together.
+     */
+    MATCH,
+    /**
+     * The countries of iban and bic differ.
+     */
+    COUNTRY_MISMATCH,
+    /**
+     * The bank code of the iban maps to a bic of another institution.
+     */
+    BANK_MISMATCH,
+    /**
+     * The countries agree, but the directory does not know the bic of the bank.
+     */
+    BANK_UNKNOWN,
+    /**
+     * The iban is invalid.
+     */
+    INVALID_IBAN,
+    /**
+     * The bic is invalid.
+     */
+    INVALID_BIC
+  }
+}
@@ -0,0 +1,327 @@
+/*
+ * Copyright © 2020 Frank Hossfeld, Philipp Kohl
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nalukit.iban4g.server.bban;
+
+import io.github.nalukit.iban4g.server.GwtIncompatible;
+import io.github.nalukit.iban4g.shared.CountryCode;
+import io.github.nalukit.iban4g.shared.bban.BbanEntryType;
+import io.github.nalukit.iban4g.shared.bban.BbanStructure;
+import io.github.nalukit.iban4g.shared.bban.BbanStructureRegistry;
+import io.github.nalukit.iban4g.shared.bban.loader.DefaultBbanStructureProviderLoader;
+
+import java.nio.charset.Charset;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Compares the BBAN structures of two registries, e.g. the built-in structures with the structures
+ * loaded by {@link SwiftIbanRegistryLoader}.
+ *
+ * <p>Structures are compared by what a validation depends on: the BBAN length, the character type
+ * of every position and the position of the bank and branch code. The remaining entry types are not
+ * compared, as the SWIFT registry does not describe them.
+ *
+ * <p>Run the class with the path of a registry file (and optionally its charset) to print the
+ * differences to the built-in structures.
+ */
+@GwtIncompatible
+public final class BbanStructureRegistryDiff {
+
+  private final List<Difference> differences;
+
+  private BbanStructureRegistryDiff(final List<Difference> differences) {
+    this.differences = Collections.unmodifiableList(differences);
+  }
+
+  /**
+   * Compares two registries.
+   *
+   * @param expected the reference registry, e.g. the built-in structures
+   * @param actual   the registry to check
+   * @return the differences
+   */
+  public static BbanStructureRegistryDiff compare(final BbanStructureRegistry expected,
+                                                  final BbanStructureRegistry actual) {
+    final Set<CountryCode> countryCodes = EnumSet.noneOf(CountryCode.class);
+    countryCodes.addAll(expected.supportedCountries());
+    countryCodes.addAll(actual.supportedCountries());
+
+    final List<Difference> differences = new ArrayList<>();
+    for (CountryCode countryCode : countryCodes) {
+      final BbanStructure expectedStructure = expected.forCountry(countryCode);
+      final BbanStructure actualStructure   = actual.forCountry(countryCode);
+      if (actualStructure == null) {
+        differences.add(new Difference(countryCode,
+                                       Kind.MISSING,
+                                       formatOf(expectedStructure),
+                                       null));
+      } else if (expectedStructure == null) {
+        differences.add(new Difference(countryCode,
+                                       Kind.ADDITIONAL,
+                                       null,
+                                       formatOf(actualStructure)));
+      } else {
+        compare(countryCode,
+                expectedStructure,
+                actualStructure,
+                differences);
+      }
+    }
+    return new BbanStructureRegistryDiff(differences);
+  }
+
+  private static void compare(final CountryCode countryCode,
+                              final BbanStructure expected,
+                              final BbanStructure actual,
+                              final List<Difference> differences) {
+    if (expected.getBbanLength() != actual.getBbanLength()) {
+      differences.add(new Difference(countryCode,
+                                     Kind.BBAN_LENGTH,
+                                     formatOf(expected),
+                                     formatOf(actual)));
+      return;
+    }
+    for (int position = 0; position < expected.getBbanLength(); position++) {
+      if (expected.getCharacterType(position) != actual.getCharacterType(position)) {
+        differences.add(new Difference(countryCode,
+                                       Kind.CHARACTER_TYPE,
+                                       formatOf(expected),
+                                       formatOf(actual)));
+        break;
+      }
+    }
+    compareEntry(countryCode,
+                 BbanEntryType.bank_code,
+                 Kind.BANK_CODE,
+                 expected,
+                 actual,
+                 differences);
+    compareEntry(countryCode,
+                 BbanEntryType.branch_code,
+                 Kind.BRANCH_CODE,
+                 expected,
+                 actual,
+                 differences);
+  }
+
+  private static void compareEntry(final CountryCode countryCode,
+                                   final BbanEntryType entryType,
+                                   final Kind kind,
+                                   final BbanStructure expected,
+                                   final BbanStructure actual,
+                                   final List<Difference> differences) {
+    if (expected.getEntryOffset(entryType) != actual.getEntryOffset(entryType) ||
+        expected.getEntryLength(entryType) != actual.getEntryLength(entryType)) {
+      differences.add(new Difference(countryCode,
+                                     kind,
+                                     positionOf(expected,
+                                                entryType),
+                                     positionOf(actual,
+                                                entryType)));
+    }
+  }
+
+  /**
+   * Returns the structure in the registry notation, e.g. <code>4!n4!n12!c</code>. Adjacent entries
+   * of the same character type are merged.
+   */
+  static String formatOf(final BbanStructure structure) {
+    final StringBuilder sb     = new StringBuilder();
+    int                 start  = 0;
+    final int           length = structure.getBbanLength();
+    for (int position = 1; position <= length; position++) {
+      if (position == length || structure.getCharacterType(position) != structure.getCharacterType(start)) {
+        sb.append(position - start)
+          .append('!')
+          .append(structure.getCharacterType(start));
+        start = position;
+      }
+    }
+    return sb.toString();
+  }
+
+  private static String positionOf(final BbanStructure structure,
+                                   final BbanEntryType entryType) {
+    final int offset = structure.getEntryOffset(entryType);
+    if (offset < 0) {
+      return "N/A";
+    }
+    return (offset + 1) + "-" + (offset + structure.getEntryLength(entryType));
+  }
+
+  /**
+   * Prints the differences of a SWIFT IBAN Registry file to the built-in structures.
+   *
+   * @param args path of the registry file and optionally its charset
+   */
+  public static void main(final String[] args) {
+    if (args.length < 1 || args.length > 2) {
+      System.err.println("usage: BbanStructureRegistryDiff <registry file> [charset]");
+      System.exit(2);
+      return;
+    }
+    final BbanStructureRegistry swift = args.length == 2 ?
+                                        SwiftIbanRegistryLoader.load(Paths.get(args[0]),
+                                                                     Charset.forName(args[1])) :
+                                        SwiftIbanRegistryLoader.load(Paths.get(args[0]));
+    final BbanStructureRegistryDiff diff = compare(DefaultBbanStructureProviderLoader.get()
+                                                                                     .createRegistry(),
+                                                   swift);
+    System.out.println(diff.toReport());
+    System.exit(diff.isEmpty() ?
+                0 :
+                1);
+  }
+
+  /**
+   * Returns the differences in the order of the country codes.
+   *
+   * @return the differences, an empty list if the registries match
+   */
+  public List<Difference> getDifferences() {
+    return differences;
+  }
+
+  /**
+   * Returns true, if the registries match.
+   *
+   * @return true if there are no differences
+   */
+  public boolean isEmpty() {
+    return differences.isEmpty();
+  }
+
+  /**
+   * Returns a report with one line per difference.
+   *
+   * @return the report
+   */
+  public String toReport() {
+    if (differences.isEmpty()) {
+      return "no differences";
+    }
+    final StringBuilder sb = new StringBuilder();
+    sb.append(differences.size())
+      .append(" difference(s)");
+    for (Difference difference : differences) {
+      sb.append(System.lineSeparator())
+        .append(difference);
+    }
+    return sb.toString();
+  }
+
+  @Override
+  public String toString() {
+    return toReport();
+  }
+
+  /**
+   * Kind of a difference.
+   */
+  public enum Kind {
+    /**
+     * The country is only contained in the expected registry.
+     */
+    MISSING,
+    /**
+     * The country is only contained in the actual registry.
+     */
+    ADDITIONAL,
+    /**
+     * The BBAN lengths differ.
+     */
+    BBAN_LENGTH,
+    /**
+     * The character types of the BBAN positions differ.
+     */
+    CHARACTER_TYPE,
+    /**
+     * The bank codes are located at different positions.
+     */
+    BANK_CODE,
+    /**
+     * The branch codes are located at different positions.
+     */
+    BRANCH_CODE
+  }
+
+  /**
+   * A difference of one country.
+   */
+  public static final class Difference {
+
+    private final CountryCode countryCode;
+    private final Kind        kind;
+    private final String      expected;
+    private final String      actual;
+
+    Difference(final CountryCode countryCode,
+               final Kind kind,
+               final String expected,
+               final String actual) {
+      this.countryCode = countryCode;
+      this.kind        = kind;
+      this.expected    = expected;
+      this.actual      = actual;
+    }
+
+    /**
+     * Returns the country whose structures differ.
+     *
+     * @return the country code
+     */
+    public CountryCode getCountryCode() {
+      return countryCode;
+    }
+
+    /**
+     * Returns what differs.
+     *
+     * @return the kind of the difference
+     */
+    public Kind getKind() {
+      return kind;
+    }
+
+    /**
+     * Returns the value of the expected registry: the format of the structure or the position of
+     * the bank or branch code.
+     *
+     * @return the value of the expected registry, null if the country is additional
+     */
+    public String getExpected() {
+      return expected;
+    }
+
+    /**
+     * Returns the value of the actual registry.
+     *
+     * @return the value of the actual registry, null if the country is missing
+     */
+    public String getActual() {
+      return actual;
+    }
+
+    @Override
+    public String toString() {
+      return countryCode.getAlpha2() + " " + kind + ": expected >>" + expected + "<< but was >>" + actual + "<<";
+    }
+  }
+}
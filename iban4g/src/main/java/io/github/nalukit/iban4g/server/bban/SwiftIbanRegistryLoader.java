@@ -0,0 +1,468 @@
+/*
+ * Copyright © 2020 Frank Hossfeld, Philipp Kohl
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nalukit.iban4g.server.bban;
+
+import io.github.nalukit.iban4g.server.GwtIncompatible;
+import io.github.nalukit.iban4g.shared.CountryCode;
+import io.github.nalukit.iban4g.shared.bban.BbanEntryType;
+import io.github.nalukit.iban4g.shared.bban.BbanStructure;
+import io.github.nalukit.iban4g.shared.bban.BbanStructureEntry;
+import io.github.nalukit.iban4g.shared.bban.BbanStructureRegistry;
+import io.github.nalukit.iban4g.shared.bban.loader.BbanStructureLoadException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Loads the BBAN structures from the tab separated text release of the <a
+ * href="https://www.swift.com/resource/iban-registry-txt">SWIFT IBAN Registry</a>.
+ *
+ * <p>The registry file is transposed: every line holds one data element, every column one
+ * country. The file is read once, line by line; only the lines needed to build the structures are
+ * split into columns. The BBAN format (e.g. <code>4!n4!n12!c</code>) is cut into entries at its
+ * own boundaries and at the bank and branch identifier positions. The positions covered by the bank
+ * and branch identifier become {@link BbanEntryType#bank_code} and {@link
+ * BbanEntryType#branch_code}, all other positions {@link BbanEntryType#account_number}, as the
+ * registry does not describe any other entry types. Territories listed in parentheses (e.g.
+ * <code>French Guyana (GF)</code>) get the structure of their country, unless the registry contains
+ * a column of their own.
+ *
+ * <p>Use {@link BbanStructureRegistryDiff} to compare the loaded structures with the built-in ones
+ * and {@link io.github.nalukit.iban4g.shared.bban.BbanStructureProvider#reload(BbanStructureRegistry)}
+ * to activate them.
+ */
+@GwtIncompatible
+public final class SwiftIbanRegistryLoader {
+
+  static final String ROW_COUNTRY_CODE     = "IBAN prefix country code (ISO 3166)";
+  static final String ROW_TERRITORIES      = "Country code includes other countries/territories";
+  static final String ROW_BBAN_STRUCTURE   = "BBAN structure";
+  static final String ROW_BBAN_LENGTH      = "BBAN length";
+  static final String ROW_BANK_POSITION    = "Bank identifier position within the BBAN";
+  static final String ROW_BRANCH_POSITION  = "Branch identifier position within the BBAN";
+
+  /**
+   * The registry release is not published as UTF-8. Only the ASCII content of the file is used,
+   * which ISO-8859-1 decodes correctly in any case.
+   */
+  private static final Charset DEFAULT_CHARSET = StandardCharsets.ISO_8859_1;
+
+  private static final char SEPARATOR = '\t';
+
+  private SwiftIbanRegistryLoader() {
+  }
+
+  /**
+   * Loads the structures from a registry file.
+   *
+   * @param file the registry file
+   * @return registry containing the structures of the file
+   * @throws BbanStructureLoadException if the file can not be read or contains an invalid structure
+   */
+  public static BbanStructureRegistry load(final Path file) {
+    return load(file,
+                DEFAULT_CHARSET);
+  }
+
+  /**
+   * Loads the structures from a registry file.
+   *
+   * @param file    the registry file
+   * @param charset the charset of the file
+   * @return registry containing the structures of the file
+   * @throws BbanStructureLoadException if the file can not be read or contains an invalid structure
+   */
+  public static BbanStructureRegistry load(final Path file,
+                                           final Charset charset) {
+    try (Reader reader = Files.newBufferedReader(file,
+                                                 charset)) {
+      return load(reader);
+    } catch (IOException e) {
+      throw new BbanStructureLoadException("unable to read IBAN registry: >>" + file + "<<",
+                                           e);
+    }
+  }
+
+  /**
+   * Loads the structures from a registry file on the classpath.
+   *
+   * @param resourceName name of the resource
+   * @return registry containing the structures of the resource
+   * @throws BbanStructureLoadException if the resource does not exist, can not be read or contains
+   *                                    an invalid structure
+   */
+  public static BbanStructureRegistry loadResource(final String resourceName) {
+    ClassLoader classLoader = Thread.currentThread()
+                                    .getContextClassLoader();
+    if (classLoader == null) {
+      classLoader = SwiftIbanRegistryLoader.class.getClassLoader();
+    }
+    try (InputStream stream = classLoader.getResourceAsStream(resourceName)) {
+      if (stream == null) {
+        throw new BbanStructureLoadException("IBAN registry resource: >>" + resourceName + "<< not found!");
+      }
+      return load(new InputStreamReader(stream,
+                                        DEFAULT_CHARSET));
+    } catch (IOException e) {
+      throw new BbanStructureLoadException("unable to read IBAN registry resource: >>" + resourceName + "<<",
+                                           e);
+    }
+  }
+
+  /**
+   * Loads the structures from a reader providing the content of a registry file. The reader is not
+   * closed.
+   *
+   * @param reader the reader
+   * @return registry containing the structures
+   * @throws IOException                if reading fails
+   * @throws BbanStructureLoadException if the content contains an invalid structure
+   */
+  public static BbanStructureRegistry load(final Reader reader)
+      throws IOException {
+    final BufferedReader bufferedReader = reader instanceof BufferedReader ?
+                                          (BufferedReader) reader :
+                                          new BufferedReader(reader);
+    List<String> countryCodes     = null;
+    List<String> territories      = Collections.emptyList();
+    List<String> bbanStructures   = null;
+    List<String> bbanLengths      = Collections.emptyList();
+    List<String> bankPositions    = Collections.emptyList();
+    List<String> branchPositions  = Collections.emptyList();
+
+    String line;
+    while ((line = bufferedReader.readLine()) != null) {
+      if (isRow(line,
+                ROW_COUNTRY_CODE)) {
+        countryCodes = columns(line);
+      } else if (isRow(line,
+                       ROW_TERRITORIES)) {
+        territories = columns(line);
+      } else if (isRow(line,
+                       ROW_BBAN_STRUCTURE)) {
+        bbanStructures = columns(line);
+      } else if (isRow(line,
+                       ROW_BBAN_LENGTH)) {
+        bbanLengths = columns(line);
+      } else if (isRow(line,
+                       ROW_BANK_POSITION)) {
+        bankPositions = columns(line);
+      } else if (isRow(line,
+                       ROW_BRANCH_POSITION)) {
+        branchPositions = columns(line);
+      }
+    }
+
+    if (countryCodes == null || bbanStructures == null) {
+      throw new BbanStructureLoadException("IBAN registry does not contain the rows >>" + ROW_COUNTRY_CODE + "<< and >>" + ROW_BBAN_STRUCTURE + "<<");
+    }
+
+    final BbanStructureRegistry.Builder registry = BbanStructureRegistry.builder();
+    final List<CountryCode>             loaded   = new ArrayList<>();
+    final List<BbanStructure>           created  = new ArrayList<>();
+    for (int column = 0; column < countryCodes.size(); column++) {
+      final String code = countryCodes.get(column);
+      if (code.isEmpty()) {
+        continue;
+      }
+      final CountryCode countryCode = CountryCode.getByCode(code);
+      if (countryCode == null) {
+        throw new BbanStructureLoadException("unknown country code: >>" + code + "<< in IBAN registry");
+      }
+      final BbanStructure structure = createStructure(countryCode,
+                                                      column(bbanStructures,
+                                                             column),
+                                                      column(bbanLengths,
+                                                             column),
+                                                      column(bankPositions,
+                                                             column),
+                                                      column(branchPositions,
+                                                             column));
+      registry.addBbanStructure(countryCode,
+                                structure);
+      loaded.add(countryCode);
+      created.add(structure);
+    }
+
+    // territories share the structure of their country
+    for (int column = 0; column < countryCodes.size(); column++) {
+      final int index = loaded.indexOf(CountryCode.getByCode(countryCodes.get(column)));
+      if (index < 0) {
+        continue;
+      }
+      for (CountryCode territory : parseTerritories(column(territories,
+                                                           column))) {
+        if (!loaded.contains(territory)) {
+          registry.addBbanStructure(territory,
+                                    created.get(index));
+          loaded.add(territory);
+          created.add(created.get(index));
+        }
+      }
+    }
+    return registry.build();
+  }
+
+  /**
+   * Creates the structure of one country.
+   *
+   * @param countryCode    the country
+   * @param format         BBAN format, e.g. <code>4!n4!n12!c</code>
+   * @param length         BBAN length as stated in the registry, may be empty
+   * @param bankPosition   position of the bank identifier, e.g. <code>1-4</code>, may be empty
+   * @param branchPosition position of the branch identifier, may be empty
+   * @return the structure
+   */
+  static BbanStructure createStructure(final CountryCode countryCode,
+                                       final String format,
+                                       final String length,
+                                       final String bankPosition,
+                                       final String branchPosition) {
+    final char[] characterTypes = parseFormat(countryCode,
+                                              format);
+    // boundaries of the format elements are marked with true
+    final boolean[] boundaries = new boolean[characterTypes.length + 1];
+    markFormatBoundaries(format,
+                         boundaries);
+
+    final int statedLength = parseNumber(length);
+    if (statedLength >= 0 && statedLength != characterTypes.length) {
+      throw new BbanStructureLoadException("BBAN length of country: >>" + countryCode.getAlpha2() + "<< is " + statedLength + ", but format >>" + format + "<< has " + characterTypes.length + " characters");
+    }
+
+    final int[] bank   = parsePosition(countryCode,
+                                       bankPosition,
+                                       characterTypes.length);
+    final int[] branch = parsePosition(countryCode,
+                                       branchPosition,
+                                       characterTypes.length);
+    markRange(bank,
+              boundaries);
+    markRange(branch,
+              boundaries);
+
+    final List<BbanStructureEntry> entries = new ArrayList<>();
+    int                            start   = 0;
+    for (int position = 1; position <= characterTypes.length; position++) {
+      if (boundaries[position] || characterTypes[position - 1] != characterTypes[start]) {
+        entries.add(createEntry(entryTypeOf(start,
+                                            bank,
+                                            branch),
+                                position - start,
+                                characterTypes[start]));
+        start = position;
+      }
+    }
+    return new BbanStructure(entries.toArray(new BbanStructureEntry[0]));
+  }
+
+  private static boolean isRow(final String line,
+                               final String row) {
+    if (!line.regionMatches(true,
+                            0,
+                            row,
+                            0,
+                            row.length())) {
+      return false;
+    }
+    // the label may be followed by blanks before the first column
+    for (int i = row.length(); i < line.length(); i++) {
+      final char ch = line.charAt(i);
+      if (ch == SEPARATOR) {
+        return true;
+      }
+      if (ch != ' ') {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns the trimmed values of the line without the row label.
+   */
+  private static List<String> columns(final String line) {
+    final List<String> columns = new ArrayList<>();
+    int                start   = line.indexOf(SEPARATOR);
+    while (start >= 0) {
+      final int end = line.indexOf(SEPARATOR,
+                                   start + 1);
+      columns.add(line.substring(start + 1,
+                                 end < 0 ?
+                                 line.length() :
+                                 end)
+                      .trim());
+      start = end;
+    }
+    return columns;
+  }
+
+  private static String column(final List<String> columns,
+                               final int column) {
+    return column < columns.size() ?
+           columns.get(column) :
+           "";
+  }
+
+  /**
+   * Returns the character type for every position of the format.
+   */
+  private static char[] parseFormat(final CountryCode countryCode,
+                                    final String format) {
+    final StringBuilder characterTypes = new StringBuilder();
+    int                 length         = 0;
+    for (int i = 0; i < format.length(); i++) {
+      final char ch = format.charAt(i);
+      if (ch >= '0' && ch <= '9') {
+        length = length * 10 + (ch - '0');
+      } else if (ch == '!' || ch == ' ') {
+        // fixed length marker, all bban entries have a fixed length
+      } else if ((ch == 'n' || ch == 'a' || ch == 'c') && length > 0) {
+        for (int j = 0; j < length; j++) {
+          characterTypes.append(ch);
+        }
+        length = 0;
+      } else {
+        throw new BbanStructureLoadException("invalid BBAN format: >>" + format + "<< of country: >>" + countryCode.getAlpha2() + "<<");
+      }
+    }
+    if (length > 0 || characterTypes.length() == 0) {
+      throw new BbanStructureLoadException("invalid BBAN format: >>" + format + "<< of country: >>" + countryCode.getAlpha2() + "<<");
+    }
+    return characterTypes.toString()
+                         .toCharArray();
+  }
+
+  private static void markFormatBoundaries(final String format,
+                                           final boolean[] boundaries) {
+    int position = 0;
+    int length   = 0;
+    for (int i = 0; i < format.length(); i++) {
+      final char ch = format.charAt(i);
+      if (ch >= '0' && ch <= '9') {
+        length = length * 10 + (ch - '0');
+      } else if (ch == 'n' || ch == 'a' || ch == 'c') {
+        position += length;
+        length = 0;
+        boundaries[position] = true;
+      }
+    }
+  }
+
+  /**
+   * Parses a position like <code>1-4</code> into the zero based start (inclusive) and end
+   * (exclusive). Returns null if the value does not contain a position (e.g. <code>N/A</code>).
+   */
+  private static int[] parsePosition(final CountryCode countryCode,
+                                     final String position,
+                                     final int bbanLength) {
+    final int separator = position.indexOf('-');
+    final int from      = parseNumber(separator < 0 ?
+                                      position :
+                                      position.substring(0,
+                                                         separator));
+    final int to        = separator < 0 ?
+                          from :
+                          parseNumber(position.substring(separator + 1));
+    if (from < 0 || to < 0) {
+      return null;
+    }
+    if (from < 1 || to < from || to > bbanLength) {
+      throw new BbanStructureLoadException("invalid position: >>" + position + "<< of country: >>" + countryCode.getAlpha2() + "<<");
+    }
+    return new int[] { from - 1,
+                       to };
+  }
+
+  /**
+   * Parses a positive number, ignoring blanks. Returns -1 if the value is not a number.
+   */
+  private static int parseNumber(final String value) {
+    int     number = 0;
+    boolean digits = false;
+    for (int i = 0; i < value.length(); i++) {
+      final char ch = value.charAt(i);
+      if (ch >= '0' && ch <= '9') {
+        number = number * 10 + (ch - '0');
+        digits = true;
+      } else if (ch != ' ') {
+        return -1;
+      }
+    }
+    return digits ?
+           number :
+           -1;
+  }
+
+  private static void markRange(final int[] range,
+                                final boolean[] boundaries) {
+    if (range != null) {
+      boundaries[range[0]] = true;
+      boundaries[range[1]] = true;
+    }
+  }
+
+  private static BbanEntryType entryTypeOf(final int position,
+                                           final int[] bank,
+                                           final int[] branch) {
+    if (bank != null && position >= bank[0] && position < bank[1]) {
+      return BbanEntryType.bank_code;
+    }
+    if (branch != null && position >= branch[0] && position < branch[1]) {
+      return BbanEntryType.branch_code;
+    }
+    return BbanEntryType.account_number;
+  }
+
+  private static BbanStructureEntry createEntry(final BbanEntryType entryType,
+                                                final int length,
+                                                final char characterType) {
+    return BbanStructureEntry.of(entryType,
+                                 BbanStructureEntry.EntryCharacterType.of(characterType),
+                                 length);
+  }
+
+  /**
+   * Returns the country codes in parentheses, e.g. <code>GF</code> of <code>French Guyana
+   * (GF)</code>.
+   */
+  static List<CountryCode> parseTerritories(final String value) {
+    final List<CountryCode> territories = new ArrayList<>();
+    int                     start       = value.indexOf('(');
+    while (start >= 0) {
+      if (start + 3 < value.length() && value.charAt(start + 3) == ')') {
+        final CountryCode countryCode = CountryCode.getByCode(value.substring(start + 1,
+                                                                              start + 3));
+        if (countryCode != null && !territories.contains(countryCode)) {
+          territories.add(countryCode);
+        }
+      }
+      start = value.indexOf('(',
+                            start + 1);
+    }
+    return territories;
+  }
+}
@@ -0,0 +1,263 @@
+/*
+ * Copyright © 2020 Frank Hossfeld, Philipp Kohl
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nalukit.iban4g.server.iso20022;
+
+import io.github.nalukit.iban4g.server.GwtIncompatible;
+import io.github.nalukit.iban4g.shared.BicUtil;
+import io.github.nalukit.iban4g.shared.Iban4gException;
+import io.github.nalukit.iban4g.shared.IbanUtil;
+
+import javax.xml.stream.Location;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Validates the ibans and bics of an ISO 20022 XML message, e.g. a pain.001 credit transfer, a
+ * pain.008 direct debit or a camt.053 statement.
+ *
+ * <p>The message is read with StAX, one element at a time, so the memory needed does not depend on
+ * the size of the file. Every element named <code>IBAN</code> is validated by {@link IbanUtil},
+ * every element named <code>BIC</code>, <code>BICFI</code>, <code>BICOrBEI</code> or
+ * <code>AnyBIC</code> by {@link BicUtil}. The elements are matched by their local name, so the
+ * version of the message and the namespace prefixes do not matter. Every invalid element is passed
+ * to the listener together with its path and line.
+ *
+ * <p>DTDs and external entities are not processed.
+ */
+@GwtIncompatible
+public final class Iso20022Validator {
+
+  private static final String IBAN = "IBAN";
+
+  private static final List<String> BIC_ELEMENTS = Arrays.asList("BIC",
+                                                                 "BICFI",
+                                                                 "BICOrBEI",
+                                                                 "AnyBIC");
+
+  private Iso20022Validator() {
+  }
+
+  /**
+   * Validates the ibans and bics of a message file. The encoding is taken from the XML declaration.
+   *
+   * @param file     the message file
+   * @param listener receives every invalid element
+   * @return number of validated elements
+   * @throws IOException        if the file can not be read
+   * @throws XMLStreamException if the file is not well-formed XML
+   */
+  public static long validate(final Path file,
+                              final Listener listener)
+      throws IOException, XMLStreamException {
+    try (InputStream inputStream = new BufferedInputStream(Files.newInputStream(file))) {
+      return validate(inputStream,
+                      listener);
+    }
+  }
+
+  /**
+   * Validates the ibans and bics of a message. The stream is not closed.
+   *
+   * @param inputStream the message
+   * @param listener    receives every invalid element
+   * @return number of validated elements
+   * @throws XMLStreamException if the message is not well-formed XML
+   */
+  public static long validate(final InputStream inputStream,
+                              final Listener listener)
+      throws XMLStreamException {
+    final XMLStreamReader reader = newInputFactory().createXMLStreamReader(inputStream);
+    try {
+      return validate(reader,
+                      listener);
+    } finally {
+      reader.close();
+    }
+  }
+
+  /**
+   * Validates the ibans and bics read from the current position of the reader up to the end of the
+   * document. The paths are relative to the element containing the current position.
+   *
+   * @param reader   the reader
+   * @param listener receives every invalid element
+   * @return number of validated elements
+   * @throws XMLStreamException if the message is not well-formed XML
+   */
+  public static long validate(final XMLStreamReader reader,
+                              final Listener listener)
+      throws XMLStreamException {
+    final ElementPath path  = new ElementPath();
+    long              count = 0;
+    while (reader.hasNext()) {
+      final int event = reader.next();
+      if (event == XMLStreamConstants.START_ELEMENT) {
+        final String name = reader.getLocalName();
+        path.push(name);
+        final boolean iban = IBAN.equals(name);
+        if (iban || BIC_ELEMENTS.contains(name)) {
+          final Location location = reader.getLocation();
+          final int      line     = location.getLineNumber();
+          final int      column   = location.getColumnNumber();
+          // moves the reader to the end element
+          final String          value     = reader.getElementText();
+          final Iban4gException exception = iban ?
+                                            validateIban(value) :
+                                            validateBic(value);
+          if (exception != null) {
+            listener.onViolation(new Iso20022Violation(path.toString(),
+                                                       line,
+                                                       column,
+                                                       value,
+                                                       exception));
+          }
+          path.pop();
+          count++;
+        }
+      } else if (event == XMLStreamConstants.END_ELEMENT) {
+        path.pop();
+      }
+    }
+    return count;
+  }
+
+  private static XMLInputFactory newInputFactory() {
+    final XMLInputFactory factory = XMLInputFactory.newInstance();
+    factory.setProperty(XMLInputFactory.SUPPORT_DTD,
+                        false);
+    factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES,
+                        false);
+    factory.setProperty(XMLInputFactory.IS_COALESCING,
+                        true);
+    return factory;
+  }
+
+  /**
+   * Returns the exception describing the violation or null, if the iban is valid. A valid iban is
+   * checked without creating an exception.
+   */
+  private static Iban4gException validateIban(final String value) {
+    if (IbanUtil.isValid(value)) {
+      return null;
+    }
+    try {
+      IbanUtil.validate(value);
+      return null;
+    } catch (Iban4gException e) {
+      return e;
+    }
+  }
+
+  /**
+   * Returns the exception describing the violation or null, if the bic is valid.
+   */
+  private static Iban4gException validateBic(final String value) {
+    try {
+      BicUtil.validate(value);
+      return null;
+    } catch (Iban4gException e) {
+      return e;
+    }
+  }
+
+  /**
+   * Receives the invalid elements found by a validation.
+   */
+  @FunctionalInterface
+  public interface Listener {
+
+    /**
+     * Called for every invalid iban or bic element.
+     *
+     * @param violation the violation
+     */
+    void onViolation(Iso20022Violation violation);
+  }
+
+  /**
+   * Path of the current element. Counts the children of every open element by name, to know the
+   * position of an element among its siblings of the same name.
+   */
+  private static final class ElementPath {
+
+    private final List<Map<String, int[]>> siblings = new ArrayList<>();
+
+    private String[] names     = new String[16];
+    private int[]    positions = new int[16];
+    private int      depth;
+
+    private void push(final String name) {
+      if (depth == names.length) {
+        names     = Arrays.copyOf(names,
+                                  2 * depth);
+        positions = Arrays.copyOf(positions,
+                                  2 * depth);
+      }
+      if (siblings.size() == depth) {
+        siblings.add(new HashMap<>());
+      }
+      int[] counter = siblings.get(depth)
+                              .get(name);
+      if (counter == null) {
+        counter = new int[1];
+        siblings.get(depth)
+                .put(name,
+                     counter);
+      }
+      counter[0]++;
+      names[depth]     = name;
+      positions[depth] = counter[0];
+      depth++;
+      // the children of the new element are counted from the start
+      if (siblings.size() > depth) {
+        siblings.get(depth)
+                .clear();
+      }
+    }
+
+    private void pop() {
+      // the end of the element containing the start position of the reader is not matched by a push
+      if (depth > 0) {
+        depth--;
+      }
+    }
+
+    @Override
+    public String toString() {
+      final StringBuilder path = new StringBuilder();
+      for (int i = 0; i < depth; i++) {
+        path.append('/')
+            .append(names[i])
+            .append('[')
+            .append(positions[i])
+            .append(']');
+      }
+      return path.toString();
+    }
+  }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright © 2020 Frank Hossfeld, Philipp Kohl
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nalukit.iban4g.server.iso20022;
+
+import io.github.nalukit.iban4g.server.GwtIncompatible;
+import io.github.nalukit.iban4g.shared.Iban4gException;
+
+/**
+ * An invalid iban or bic element of an ISO 20022 message.
+ */
+@GwtIncompatible
+public final class Iso20022Violation {
+
+  private final String          path;
+  private final int             line;
+  private final int             column;
+  private final String          value;
+  private final Iban4gException exception;
+
+  Iso20022Violation(final String path,
+                    final int line,
+                    final int column,
+                    final String value,
+                    final Iban4gException exception) {
+    this.path      = path;
+    this.line      = line;
+    this.column    = column;
+    this.value     = value;
+    this.exception = exception;
+  }
+
+  /**
+   * Returns the XPath of the element, using the local names and the position among the siblings of
+   * the same name, e.g. <code>/Document[1]/CstmrCdtTrfInitn[1]/PmtInf[2]/DbtrAcct[1]/Id[1]/IBAN[1]</code>.
+   *
+   * @return the path of the element
+   */
+  public String getPath() {
+    return path;
+  }
+
+  /**
+   * Returns the line of the start tag of the element.
+   *
+   * @return the line (starting at 1), or -1 if not known
+   */
+  public int getLine() {
+    return line;
+  }
+
+  /**
+   * Returns the column of the start tag of the element.
+   *
+   * @return the column (starting at 1), or -1 if not known
+   */
+  public int getColumn() {
+    return column;
+  }
+
+  /**
+   * Returns the local name of the element, e.g. <code>IBAN</code> or <code>BICFI</code>.
+   *
+   * @return the name of the element
+   */
+  public String getElementName() {
+    return path.substring(path.lastIndexOf('/') + 1,
+                          path.lastIndexOf('['));
+  }
+
+  /**
+   * Returns the text of the element.
+   *
+   * @return the invalid value
+   */
+  public String getValue() {
+    return value;
+  }
+
+  /**
+   * Returns the exception thrown by the validation of the value. The type and the format violation
+   * of the exception tell, which rule is violated.
+   *
+   * @return the exception
+   */
+  public Iban4gException getException() {
+    return exception;
+  }
+
+  @Override
+  public String toString() {
+    return path + " (line " + line + "): >>" + value + "<< " + exception.getMessage();
+  }
+}
@@ -0,0 +1,21 @@
+/*
+ * Copyright © 2020 Frank Hossfeld, Philipp Kohl
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/**
+ * JVM only extensions of iban4g (file access, NIO, concurrency). The classes of this package are
+ * not part of the GWT module and are marked with {@link
+ * io.github.nalukit.iban4g.server.GwtIncompatible}, so J2CL skips them as well.
+ */
+package io.github.nalukit.iban4g.server;
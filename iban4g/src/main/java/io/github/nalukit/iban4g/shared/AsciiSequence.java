@@ -0,0 +1,76 @@
+/*
+ * Copyright © 2020 Frank Hossfeld, Philipp Kohl
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nalukit.iban4g.shared;
+
+/**
+ * A view of ASCII characters stored in a byte array, e.g. a field of a network buffer. The bytes
+ * are not copied, so the view must not be used after the array has been changed.
+ *
+ * <p>Every byte is read as the character with the same unsigned value (ISO-8859-1). Bytes above 127
+ * are therefore never valid in an iban or a bic, but are reported the same way as the characters
+ * of a String.
+ */
+final class AsciiSequence
+    implements CharSequence {
+
+  private final byte[] bytes;
+  private final int    offset;
+  private final int    length;
+
+  AsciiSequence(final byte[] bytes,
+                final int offset,
+                final int length) {
+    if (offset < 0 || length < 0 || offset > bytes.length - length) {
+      throw new IndexOutOfBoundsException("offset: " + offset + ", length: " + length + ", size: " + bytes.length);
+    }
+    this.bytes  = bytes;
+    this.offset = offset;
+    this.length = length;
+  }
+
+  @Override
+  public int length() {
+    return length;
+  }
+
+  @Override
+  public char charAt(final int index) {
+    if (index < 0 || index >= length) {
+      throw new IndexOutOfBoundsException("index: " + index + ", length: " + length);
+    }
+    return (char) (bytes[offset + index] & 0xFF);
+  }
+
+  @Override
+  public CharSequence subSequence(final int start,
+                                  final int end) {
+    if (start < 0 || start > end || end > length) {
+      throw new IndexOutOfBoundsException("start: " + start + ", end: " + end + ", length: " + length);
+    }
+    return new AsciiSequence(bytes,
+                             offset + start,
+                             end - start);
+  }
+
+  @Override
+  public String toString() {
+    final char[] chars = new char[length];
+    for (int i = 0; i < length; i++) {
+      chars[i] = (char) (bytes[offset + i] & 0xFF);
+    }
+    return new String(chars);
+  }
+}
@@ -90,6 +90,50 @@ public final class Bic {
     return null;
   }
 
+  /**
+   * Returns true, if the bic can be packed into a long. Bics containing letters or digits other than
+   * ASCII upper case letters and digits can not be packed.
+   *
+   * @return true if {@link #toPacked()} succeeds
+   */
+  public boolean isPackable() {
+    return BicPacking.pack(value) != 0;
+  }
+
+  /**
+   * Returns the bic packed into a long: the characters read as a number of radix 36 and a flag
+   * telling whether the bic has a branch code. Two bics are equal, if their packed values are equal.
+   * A packed bic is never 0.
+   *
+   * @return the packed bic
+   * @throws IllegalStateException if the bic can not be packed
+   * @see #isPackable()
+   * @see #fromPacked(long)
+   */
+  public long toPacked() {
+    final long packed = BicPacking.pack(value);
+    if (packed == 0) {
+      throw new IllegalStateException("bic can not be packed: " + value);
+    }
+    return packed;
+  }
+
+  /**
+   * Returns the bic of a packed value created by {@link #toPacked()}.
+   *
+   * @param packed the packed bic
+   * @return the bic
+   * @throws IllegalArgumentException if the value is not a packed bic
+   */
+  public static Bic fromPacked(final long packed)
+      throws IllegalArgumentException {
+    final String bic = BicPacking.unpack(packed);
+    if (!BicUtil.isValid(bic)) {
+      throw new IllegalArgumentException("invalid packed bic: " + bic);
+    }
+    return new Bic(bic);
+  }
+
   @Override
   public int hashCode() {
     return value.hashCode();
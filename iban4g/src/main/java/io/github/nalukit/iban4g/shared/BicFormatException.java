@@ -136,6 +136,7 @@ public class BicFormatException
     BRANCH_CODE_ONLY_LETTERS_OR_DIGITS,
     LOCATION_CODE_ONLY_LETTERS_OR_DIGITS,
     BANK_CODE_ONLY_LETTERS,
-    COUNTRY_CODE_ONLY_UPPER_CASE_LETTERS
+    COUNTRY_CODE_ONLY_UPPER_CASE_LETTERS,
+    COUNTRY_CODE_EXISTS
   }
 }
@@ -0,0 +1,123 @@
+/*
+ * Copyright © 2020 Frank Hossfeld, Philipp Kohl
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nalukit.iban4g.shared;
+
+/**
+ * Packs a bic into a long.
+ *
+ * <p>The eleven characters of a bic are read as a number of radix 36 (digits 0-9, letters 10-35).
+ * A bic without branch code is packed as if its branch code were <code>000</code>, the branch code
+ * flag tells both apart.
+ *
+ * <p>Layout:
+ * <pre>
+ *   63 - 58  always 0
+ *   57       branch code flag
+ *   56 -  0  the characters (36^11 &lt; 2^57)
+ * </pre>
+ *
+ * <p>The country code consists of letters, so a packed bic is never 0. Only bics containing ASCII
+ * upper case letters and digits can be packed. Bics with other letters or digits are valid, too,
+ * but very rare.
+ */
+final class BicPacking {
+
+  private static final int BIC8_LENGTH  = 8;
+  private static final int BIC11_LENGTH = 11;
+
+  private static final int BANK_CODE_LENGTH = 4;
+
+  private static final int  RADIX              = 36;
+  private static final long BRANCH_CODE_FACTOR = RADIX * RADIX * RADIX;
+  private static final long LIMIT              = pow(BIC11_LENGTH);
+  private static final long BRANCH_CODE_FLAG   = 1L << 57;
+  private static final long BANK_CODE_DIVISOR  = pow(BIC11_LENGTH - BANK_CODE_LENGTH);
+
+  private BicPacking() {
+  }
+
+  private static long pow(final int exponent) {
+    long value = 1;
+    for (int i = 0; i < exponent; i++) {
+      value *= RADIX;
+    }
+    return value;
+  }
+
+  /**
+   * Packs a valid bic.
+   *
+   * @param bic the bic, has to be valid
+   * @return the packed bic or 0 if the bic contains characters which can not be packed
+   */
+  static long pack(final CharSequence bic) {
+    final int length = bic.length();
+    long      value  = 0;
+    for (int index = 0; index < length; index++) {
+      final char ch = bic.charAt(index);
+      final int  digit;
+      if (ch >= '0' && ch <= '9') {
+        digit = ch - '0';
+      } else if (ch >= 'A' && ch <= 'Z') {
+        digit = ch - 'A' + 10;
+      } else {
+        return 0;
+      }
+      value = value * RADIX + digit;
+    }
+    return length == BIC11_LENGTH ?
+           value | BRANCH_CODE_FLAG :
+           value * BRANCH_CODE_FACTOR;
+  }
+
+  /**
+   * Returns the bank code (the first four characters) of a packed bic as a number.
+   *
+   * @param packed the packed bic
+   * @return the bank code
+   */
+  static long bankCodeOf(final long packed) {
+    return (packed & ~BRANCH_CODE_FLAG) / BANK_CODE_DIVISOR;
+  }
+
+  /**
+   * Unpacks a bic.
+   *
+   * @param packed the packed bic
+   * @return the bic, not validated yet
+   * @throws IllegalArgumentException if the value is not a packed bic
+   */
+  static String unpack(final long packed) {
+    final boolean branchCode = (packed & BRANCH_CODE_FLAG) != 0;
+    long          value      = packed & ~BRANCH_CODE_FLAG;
+    if (value <= 0 || value >= LIMIT || (!branchCode && value % BRANCH_CODE_FACTOR != 0)) {
+      throw new IllegalArgumentException("invalid packed bic: " + packed);
+    }
+    final char[] chars = new char[BIC11_LENGTH];
+    for (int index = BIC11_LENGTH - 1; index >= 0; index--) {
+      final int digit = (int) (value % RADIX);
+      chars[index] = (char) (digit < 10 ?
+                             '0' + digit :
+                             'A' + digit - 10);
+      value /= RADIX;
+    }
+    return new String(chars,
+                      0,
+                      branchCode ?
+                      BIC11_LENGTH :
+                      BIC8_LENGTH);
+  }
+}
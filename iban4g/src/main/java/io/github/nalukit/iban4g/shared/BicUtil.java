@@ -15,11 +15,17 @@
  */
 package io.github.nalukit.iban4g.shared;
 
+import io.github.nalukit.iban4g.shared.BicFormatException.BicFormatViolation;
+
+import static io.github.nalukit.iban4g.shared.BicFormatException.BicFormatViolation.BANK_CODE_ONLY_LETTERS;
 import static io.github.nalukit.iban4g.shared.BicFormatException.BicFormatViolation.BIC_LENGTH_8_OR_11;
 import static io.github.nalukit.iban4g.shared.BicFormatException.BicFormatViolation.BIC_NOT_EMPTY;
 import static io.github.nalukit.iban4g.shared.BicFormatException.BicFormatViolation.BIC_NOT_NULL;
 import static io.github.nalukit.iban4g.shared.BicFormatException.BicFormatViolation.BIC_ONLY_UPPER_CASE_LETTERS;
+import static io.github.nalukit.iban4g.shared.BicFormatException.BicFormatViolation.BRANCH_CODE_ONLY_LETTERS_OR_DIGITS;
+import static io.github.nalukit.iban4g.shared.BicFormatException.BicFormatViolation.COUNTRY_CODE_EXISTS;
 import static io.github.nalukit.iban4g.shared.BicFormatException.BicFormatViolation.COUNTRY_CODE_ONLY_UPPER_CASE_LETTERS;
+import static io.github.nalukit.iban4g.shared.BicFormatException.BicFormatViolation.LOCATION_CODE_ONLY_LETTERS_OR_DIGITS;
 import static io.github.nalukit.iban4g.shared.BicFormatException.BicFormatViolation.UNKNOWN;
 
 /**
@@ -39,6 +45,11 @@ public class BicUtil {
   private static final int BRANCH_CODE_INDEX    = LOCATION_CODE_INDEX + BicUtil.LOCATION_CODE_LENGTH;
   private static final int BRANCH_CODE_LENGTH   = 3;
 
+  /**
+   * First character, which is not ASCII.
+   */
+  private static final char NON_ASCII = 0x80;
+
   /**
    * Validates bic.
    *
@@ -48,6 +59,10 @@ public class BicUtil {
    */
   public static void validate(final String bic)
       throws BicFormatException, UnsupportedCountryException {
+    if (isValid(bic)) {
+      return;
+    }
+    // only an invalid bic is checked rule by rule, to throw the exception with its message
     try {
       validateEmpty(bic);
       validateLength(bic);
@@ -67,6 +82,152 @@ public class BicUtil {
     }
   }
 
+  /**
+   * Validates a bic stored as ASCII bytes, e.g. a field of a network buffer. Same rules and
+   * exceptions as {@link #validate(String)}, but a valid bic is checked on the bytes without
+   * decoding them into a String.
+   *
+   * @param bytes  the bytes holding the bic.
+   * @param offset index of the first byte of the bic.
+   * @param length number of bytes of the bic.
+   * @throws BicFormatException          if bic is invalid.
+   * @throws UnsupportedCountryException if bic's country is not supported.
+   * @throws IndexOutOfBoundsException   if the range is not inside the array.
+   */
+  public static void validate(final byte[] bytes,
+                              final int offset,
+                              final int length)
+      throws BicFormatException, UnsupportedCountryException {
+    if (bytes == null) {
+      validate((String) null);
+      return;
+    }
+    final AsciiSequence bic = new AsciiSequence(bytes,
+                                                offset,
+                                                length);
+    if (!isValid(bic)) {
+      // only an invalid bic is decoded, to throw the same exception as for a String
+      validate(bic.toString());
+    }
+  }
+
+  /**
+   * Checks whether the bic is valid. Same rules as {@link #validate(String)}, but the check
+   * neither throws nor allocates.
+   *
+   * @param bic to be checked.
+   * @return true if the bic is valid, false otherwise.
+   */
+  public static boolean isValid(final CharSequence bic) {
+    return getViolation(bic) == null;
+  }
+
+  /**
+   * Checks the bic and returns the first violated rule. Same rules and order as {@link
+   * #validate(String)}, but the bic is walked once by index, no exception is created and nothing
+   * gets allocated. Only a bic containing non ASCII characters is converted into a String, to check
+   * its case exactly as {@link #validate(String)} does.
+   *
+   * <p>A country code, which does not exist, is reported as {@link
+   * BicFormatViolation#COUNTRY_CODE_EXISTS}.
+   *
+   * @param bic to be checked.
+   * @return the violation or null if the bic is valid.
+   */
+  public static BicFormatViolation getViolation(final CharSequence bic) {
+    if (bic == null) {
+      return BIC_NOT_NULL;
+    }
+    final int length = bic.length();
+    if (length == 0) {
+      return BIC_NOT_EMPTY;
+    }
+    if (length != BIC8_LENGTH && length != BIC11_LENGTH) {
+      return BIC_LENGTH_8_OR_11;
+    }
+    // the case of the whole bic is checked before the parts, so the scan goes on after the first
+    // violation of a part
+    BicFormatViolation violation = null;
+    boolean            nonAscii  = false;
+    for (int index = 0; index < length; index++) {
+      final char ch = bic.charAt(index);
+      if (ch >= 'a' && ch <= 'z') {
+        return BIC_ONLY_UPPER_CASE_LETTERS;
+      }
+      if (ch >= NON_ASCII) {
+        nonAscii = true;
+      }
+      if (violation == null) {
+        violation = getViolation(bic,
+                                 index,
+                                 ch);
+      }
+    }
+    if (nonAscii) {
+      final String value = bic.toString();
+      if (!value.equals(value.toUpperCase())) {
+        return BIC_ONLY_UPPER_CASE_LETTERS;
+      }
+    }
+    return violation;
+  }
+
+  /**
+   * Packs a bic into a long without creating a {@link Bic}, e.g. to look up a bic read from a
+   * message. See {@link Bic#toPacked()}.
+   *
+   * @param bic to be packed.
+   * @return the packed bic or 0 if the bic is invalid or can not be packed.
+   */
+  public static long toPacked(final CharSequence bic) {
+    if (!isValid(bic)) {
+      return 0;
+    }
+    return BicPacking.pack(bic);
+  }
+
+  /**
+   * Checks whether two packed bics (see {@link Bic#toPacked()}) have the same bank code, i.e.
+   * belong to the same institution, regardless of their country, location and branch code.
+   *
+   * @param packed1 a packed bic.
+   * @param packed2 another packed bic.
+   * @return true if the bank codes are equal.
+   */
+  public static boolean isSameBankCode(final long packed1,
+                                       final long packed2) {
+    return BicPacking.bankCodeOf(packed1) == BicPacking.bankCodeOf(packed2);
+  }
+
+  /**
+   * Checks a character against the rule of the part of the bic containing it.
+   */
+  private static BicFormatViolation getViolation(final CharSequence bic,
+                                                 final int index,
+                                                 final char ch) {
+    if (index < COUNTRY_CODE_INDEX) {
+      return Character.isLetter(ch) ?
+             null :
+             BANK_CODE_ONLY_LETTERS;
+    }
+    if (index < LOCATION_CODE_INDEX) {
+      if (!Character.isLetter(ch)) {
+        return COUNTRY_CODE_ONLY_UPPER_CASE_LETTERS;
+      }
+      if (index == LOCATION_CODE_INDEX - 1 && CountryCode.getByAlpha2Code(bic,
+                                                                          COUNTRY_CODE_INDEX) == null) {
+        return COUNTRY_CODE_EXISTS;
+      }
+      return null;
+    }
+    if (Character.isLetterOrDigit(ch)) {
+      return null;
+    }
+    return index < BRANCH_CODE_INDEX ?
+           LOCATION_CODE_ONLY_LETTERS_OR_DIGITS :
+           BRANCH_CODE_ONLY_LETTERS_OR_DIGITS;
+  }
+
   private static void validateEmpty(final String bic) {
     if (bic == null) {
       throw new BicFormatException(BIC_NOT_NULL,
@@ -15,9 +15,6 @@
  */
 package io.github.nalukit.iban4g.shared;
 
-import java.util.HashMap;
-import java.util.Map;
-
 /**
  * Country Code Enum
  *
@@ -775,15 +772,25 @@ public enum CountryCode {
      "ZWE");
 
   /**
-   * Country alpha3 code map, maps alpha3 codes to country codes <a
-   * href="http://en.wikipedia.org/wiki/ISO_3166-1_alpha-3">ISO 3166-3 alpha-3</a> code.
+   * Country alpha2 code index, maps the two upper case letters of an alpha2 code to the country
+   * code. The index of a code is (first - 'A') * 26 + (second - 'A').
+   */
+  private static final CountryCode[] alpha2Index = new CountryCode[26 * 26];
+
+  /**
+   * Country alpha3 code index, maps the three upper case letters of an alpha3 code to the country
+   * code. The index of a code is ((first - 'A') * 26 + (second - 'A')) * 26 + (third - 'A').
    */
-  private static final Map<String, CountryCode> alpha3Map = new HashMap<>();
+  private static final CountryCode[] alpha3Index = new CountryCode[26 * 26 * 26];
 
   static {
     for (final CountryCode cc : values()) {
-      alpha3Map.put(cc.getAlpha3(),
-                    cc);
+      alpha2Index[letterIndexOf(cc.name(),
+                                0,
+                                2)] = cc;
+      alpha3Index[letterIndexOf(cc.getAlpha3(),
+                                0,
+                                3)] = cc;
     }
   }
 
@@ -817,45 +824,119 @@ public enum CountryCode {
     if (code == null) {
       return null;
     }
+    return getByCode(code,
+                     0,
+                     code.length());
+  }
 
-    switch (code.length()) {
+  /**
+   * Get a CountryCode that corresponds to the ISO 3166-1 <a
+   * href="http://en.wikipedia.org/wiki/ISO_3166-1_alpha-2">alpha-2</a> or <a
+   * href="http://en.wikipedia.org/wiki/ISO_3166-1_alpha-3">alpha-3</a> code at the given position
+   * of a value, e.g. the country code of an iban. The letters are matched case-insensitive. Neither
+   * allocates nor throws for unknown codes.
+   *
+   * @param value  the value containing the code
+   * @param offset index of the first letter of the code
+   * @param length length of the code: 2 for alpha-2, 3 for alpha-3
+   * @return A CountryCode instance, or null if not found.
+   */
+  public static CountryCode getByCode(final CharSequence value,
+                                      final int offset,
+                                      final int length) {
+    switch (length) {
       case 2:
-        return getByAlpha2Code(code.toUpperCase());
-
+        return getByAlpha2Code(value,
+                               offset);
       case 3:
-        return getByAlpha3Code(code.toUpperCase());
-
+        return getByAlpha3Code(value,
+                               offset);
       default:
         return null;
     }
   }
 
   /**
-   * Get a CountryCode that corresponds to the given ISO 3166-1 <a
-   * href="http://en.wikipedia.org/wiki/ISO_3166-1_alpha-2">alpha-2</a> code.
+   * Get a CountryCode that corresponds to the ISO 3166-1 <a
+   * href="http://en.wikipedia.org/wiki/ISO_3166-1_alpha-2">alpha-2</a> code at the given position
+   * of a value. The letters are matched case-insensitive. Neither allocates nor throws for unknown
+   * codes.
    *
-   * @param code An ISO 3166-1 <a href="http://en.wikipedia.org/wiki/ISO_3166-1_alpha-2">alpha-2</a>
-   *             code.
+   * @param value  the value containing the code
+   * @param offset index of the first letter of the code
    * @return A CountryCode instance, or null if not found.
    */
-  private static CountryCode getByAlpha2Code(final String code) {
-    try {
-      return CountryCode.valueOf(code);
-    } catch (IllegalArgumentException e) {
-      return null;
-    }
+  public static CountryCode getByAlpha2Code(final CharSequence value,
+                                            final int offset) {
+    final int index = letterIndexOf(value,
+                                    offset,
+                                    2);
+    return index < 0 ?
+           null :
+           alpha2Index[index];
   }
 
   /**
-   * Get a CountryCode that corresponds to the given ISO 3166-1 <a
-   * href="http://en.wikipedia.org/wiki/ISO_3166-1_alpha-3">alpha-3</a> code.
+   * Get a CountryCode that corresponds to the ISO 3166-1 <a
+   * href="http://en.wikipedia.org/wiki/ISO_3166-1_alpha-3">alpha-3</a> code at the given position
+   * of a value. The letters are matched case-insensitive. Neither allocates nor throws for unknown
+   * codes.
+   *
+   * @param value  the value containing the code
+   * @param offset index of the first letter of the code
+   * @return A CountryCode instance, or null if not found.
+   */
+  public static CountryCode getByAlpha3Code(final CharSequence value,
+                                            final int offset) {
+    final int index = letterIndexOf(value,
+                                    offset,
+                                    3);
+    return index < 0 ?
+           null :
+           alpha3Index[index];
+  }
+
+  /**
+   * Get a CountryCode that corresponds to the given upper case ISO 3166-1 <a
+   * href="http://en.wikipedia.org/wiki/ISO_3166-1_alpha-2">alpha-2</a> letters. Neither allocates
+   * nor throws.
    *
-   * @param code An ISO 3166-1 <a href="http://en.wikipedia.org/wiki/ISO_3166-1_alpha-3">alpha-3</a>
-   *             code.
+   * @param first  first letter of the alpha-2 code.
+   * @param second second letter of the alpha-2 code.
    * @return A CountryCode instance, or null if not found.
    */
-  private static CountryCode getByAlpha3Code(final String code) {
-    return alpha3Map.get(code);
+  static CountryCode getByAlpha2Code(final char first,
+                                     final char second) {
+    if (first < 'A' || first > 'Z' || second < 'A' || second > 'Z') {
+      return null;
+    }
+    return alpha2Index[(first - 'A') * 26 + (second - 'A')];
+  }
+
+  /**
+   * Packs the letters of a code into an index (base 26). Returns -1 if the value is too short or
+   * contains a character that is not an ASCII letter.
+   */
+  private static int letterIndexOf(final CharSequence value,
+                                   final int offset,
+                                   final int length) {
+    if (value == null || offset < 0 || offset + length > value.length()) {
+      return -1;
+    }
+    int index = 0;
+    for (int i = offset; i < offset + length; i++) {
+      final char ch = value.charAt(i);
+      int        letter;
+      if (ch >= 'A' && ch <= 'Z') {
+        letter = ch - 'A';
+      } else if (ch >= 'a' && ch <= 'z') {
+        letter = ch - 'a';
+      } else {
+        return -1;
+      }
+      index = index * 26 + letter;
+    }
+    return index;
   }
 
   /**
@@ -15,9 +15,11 @@
  */
 package io.github.nalukit.iban4g.shared;
 
+import io.github.nalukit.iban4g.shared.bban.BbanEntryType;
 import io.github.nalukit.iban4g.shared.bban.BbanStructure;
 import io.github.nalukit.iban4g.shared.bban.BbanStructureEntry;
 import io.github.nalukit.iban4g.shared.bban.BbanStructureProvider;
+import io.github.nalukit.iban4g.shared.bban.BbanStructureRegistry;
 
 import java.util.List;
 import java.util.Random;
@@ -41,9 +43,17 @@ public final class Iban {
 
   static final String DEFAULT_CHECK_DIGIT = "00";
 
+  private static final int CHECK_DIGIT_INDEX = 2;
+  private static final int BBAN_INDEX        = 4;
+
   // Cache string value of the iban
   private final String value;
 
+  // Country code and structure, resolved on first use. Both are immutable, so a racy
+  // initialization only results in a repeated lookup.
+  private CountryCode   countryCode;
+  private BbanStructure structure;
+
   /**
    * Creates iban instance.
    */
@@ -56,10 +66,21 @@ public final class Iban {
    *
    * @param value IBAN value
    */
-  private Iban(final String value) {
+  Iban(final String value) {
     this.value = value;
   }
 
+  /**
+   * Creates iban instance for a given IBAN, which is known to match the structure.
+   */
+  Iban(final String value,
+       final CountryCode countryCode,
+       final BbanStructure structure) {
+    this.value       = value;
+    this.countryCode = countryCode;
+    this.structure   = structure;
+  }
+
   /**
    * Returns an Iban object holding the value of the specified String.
    *
@@ -74,17 +95,18 @@ public final class Iban {
                              final IbanFormat format)
       throws IbanFormatException, InvalidCheckDigitException, UnsupportedCountryException {
     if (format == IbanFormat.Default) {
+      // a correctly grouped iban is copied without the spaces in one pass
+      if (iban != null && IbanUtil.isFormatted(iban)) {
+        return valueOf(new UngroupedIbanSequence(iban).toString());
+      }
       final String ibanWithoutSpaces = iban.replace(" ",
                                                     "");
       final Iban   ibanObj           = valueOf(ibanWithoutSpaces);
-      if (ibanObj.toFormattedString()
-                 .equals(iban)) {
-        return ibanObj;
-      }
       throw new IbanFormatException(IBAN_FORMATTING,
-                                    StringUtils.format("Iban must be formatted using 4 characters and space combination (0002). " + "Expected: [%s] - Instead of [%s]",
-                                                       ibanObj.toFormattedString(),
-                                                       iban));
+                                    null,
+                                    null,
+                                    "Iban must be formatted using 4 characters and space combination (0002). Expected: [%s] - Instead of [%s]",
+                                    new Object[] { ibanObj.toFormattedString(), iban });
     }
     return valueOf(iban);
   }
@@ -100,8 +122,11 @@ public final class Iban {
    */
   public static Iban valueOf(final String iban)
       throws IbanFormatException, InvalidCheckDigitException, UnsupportedCountryException {
-    IbanUtil.validate(iban);
-    return new Iban(iban);
+    final BbanStructure structure = IbanUtil.validateAndGetStructure(iban);
+    return new Iban(iban,
+                    CountryCode.getByAlpha2Code(iban.charAt(0),
+                                                iban.charAt(1)),
+                    structure);
   }
 
   public static Iban random() {
@@ -140,7 +165,13 @@ public final class Iban {
    * @return countryCode CountryCode
    */
   public CountryCode getCountryCode() {
-    return CountryCode.getByCode(IbanUtil.getCountryCode(value));
+    CountryCode countryCode = this.countryCode;
+    if (countryCode == null) {
+      countryCode      = CountryCode.getByAlpha2Code(value.charAt(0),
+                                                     value.charAt(1));
+      this.countryCode = countryCode;
+    }
+    return countryCode;
   }
 
   /**
@@ -158,7 +189,7 @@ public final class Iban {
    * @return accountNumber String
    */
   public String getAccountNumber() {
-    return IbanUtil.getAccountNumber(value);
+    return getBbanEntry(BbanEntryType.account_number);
   }
 
   /**
@@ -167,7 +198,7 @@ public final class Iban {
    * @return bankCode String
    */
   public String getBankCode() {
-    return IbanUtil.getBankCode(value);
+    return getBbanEntry(BbanEntryType.bank_code);
   }
 
   /**
@@ -176,7 +207,7 @@ public final class Iban {
    * @return branchCode String
    */
   public String getBranchCode() {
-    return IbanUtil.getBranchCode(value);
+    return getBbanEntry(BbanEntryType.branch_code);
   }
 
   /**
@@ -185,7 +216,7 @@ public final class Iban {
    * @return nationalCheckDigit String
    */
   public String getNationalCheckDigit() {
-    return IbanUtil.getNationalCheckDigit(value);
+    return getBbanEntry(BbanEntryType.national_check_digit);
   }
 
   /**
@@ -194,7 +225,7 @@ public final class Iban {
    * @return accountType String
    */
   public String getAccountType() {
-    return IbanUtil.getAccountType(value);
+    return getBbanEntry(BbanEntryType.account_type);
   }
 
   /**
@@ -203,7 +234,7 @@ public final class Iban {
    * @return ownerAccountType String
    */
   public String getOwnerAccountType() {
-    return IbanUtil.getOwnerAccountType(value);
+    return getBbanEntry(BbanEntryType.owner_account_number);
   }
 
   /**
@@ -212,7 +243,7 @@ public final class Iban {
    * @return identificationNumber String
    */
   public String getIdentificationNumber() {
-    return IbanUtil.getIdentificationNumber(value);
+    return getBbanEntry(BbanEntryType.identification_number);
   }
 
   /**
@@ -224,6 +255,118 @@ public final class Iban {
     return IbanUtil.getBban(value);
   }
 
+  /**
+   * Returns true, if the iban can be packed into two longs. Ibans, whose bban contains letters in
+   * an alphanumeric position, can not be packed for some countries with long bbans (e.g. MT).
+   *
+   * @return true if {@link #toPacked()} succeeds
+   */
+  public boolean isPackable() {
+    return IbanPacking.pack(value,
+                            getCountryCode(),
+                            getStructure(),
+                            null,
+                            0);
+  }
+
+  /**
+   * Returns the iban packed into two longs: the country code, followed by the bban, stored as a
+   * number according to the bban structure of the country. Two ibans are equal, if their packed
+   * values are equal.
+   *
+   * <p>The packed value depends on the bban structure of the country, it can only be unpacked
+   * using the same structures.
+   *
+   * @return the high and the low long
+   * @throws IllegalStateException if the iban can not be packed
+   * @see #isPackable()
+   * @see #fromPacked(long, long)
+   */
+  public long[] toPacked() {
+    final long[] packed = new long[2];
+    toPacked(packed,
+             0);
+    return packed;
+  }
+
+  /**
+   * Packs the iban into two longs, see {@link #toPacked()}.
+   *
+   * @param target receives the high long at offset and the low long at offset + 1
+   * @param offset index of the high long inside target
+   * @throws IllegalStateException if the iban can not be packed
+   */
+  public void toPacked(final long[] target,
+                       final int offset) {
+    if (!IbanPacking.pack(value,
+                          getCountryCode(),
+                          getStructure(),
+                          target,
+                          offset)) {
+      throw new IllegalStateException("iban can not be packed: " + value);
+    }
+  }
+
+  /**
+   * Returns the iban of a packed value created by {@link #toPacked()}.
+   *
+   * @param high the high long
+   * @param low  the low long
+   * @return the iban
+   * @throws IllegalArgumentException    if the value is not a packed iban
+   * @throws UnsupportedCountryException if the country of the packed iban is not supported
+   */
+  public static Iban fromPacked(final long high,
+                                final long low)
+      throws IllegalArgumentException, UnsupportedCountryException {
+    final CountryCode   countryCode = IbanPacking.countryCodeOf(high);
+    final BbanStructure structure   = BbanStructureProvider.get()
+                                                           .forCountry(countryCode);
+    if (structure == null) {
+      throw new UnsupportedCountryException(countryCode.toString());
+    }
+    return new Iban(IbanPacking.unpack(high,
+                                       low,
+                                       countryCode,
+                                       structure),
+                    countryCode,
+                    structure);
+  }
+
+  /**
+   * Returns a hash code of a packed iban, e.g. for hash tables keyed by the packed value. The hash
+   * code differs from {@link #hashCode()}.
+   *
+   * @param high the high long
+   * @param low  the low long
+   * @return the hash code
+   */
+  public static int packedHashCode(final long high,
+                                   final long low) {
+    return IbanPacking.hashCode(high,
+                                low);
+  }
+
+  private String getBbanEntry(final BbanEntryType entryType) {
+    final BbanStructure structure = getStructure();
+    final int           offset    = structure.getEntryOffset(entryType);
+    if (offset < 0) {
+      return null;
+    }
+    return value.substring(BBAN_INDEX + offset,
+                           BBAN_INDEX + offset + structure.getEntryLength(entryType));
+  }
+
+  private BbanStructure getStructure() {
+    BbanStructure structure = this.structure;
+    if (structure == null) {
+      structure      = BbanStructureProvider.get()
+                                            .forCountry(getCountryCode());
+      this.structure = structure;
+    }
+    return structure;
+  }
+
   @Override
   public int hashCode() {
     return value.hashCode();
@@ -363,13 +506,16 @@ public final class Iban {
       if (random == null) {
         random = new Random();
       }
+      // use the same registry for all steps, even if the structures are reloaded meanwhile
+      final BbanStructureRegistry registry = BbanStructureProvider.get()
+                                                                  .getRegistry();
       if (countryCode == null) {
-        List<CountryCode> countryCodes = BbanStructureProvider.get()
-                                                              .supportedCountries();
+        List<CountryCode> countryCodes = registry.supportedCountries();
         this.countryCode(countryCodes.get(random.nextInt(countryCodes.size())));
       }
-      fillMissingFieldsRandomly();
-      return build();
+      fillMissingFieldsRandomly(registry);
+      return build(registry,
+                   true);
     }
 
     /**
@@ -383,9 +529,8 @@ public final class Iban {
       return this;
     }
 
-    private void fillMissingFieldsRandomly() {
-      final BbanStructure structure = BbanStructureProvider.get()
-                                                           .forCountry(countryCode);
+    private void fillMissingFieldsRandomly(final BbanStructureRegistry registry) {
+      final BbanStructure structure = registry.forCountry(countryCode);
 
       if (structure == null) {
         throw new UnsupportedCountryException(countryCode.toString());
@@ -457,34 +602,46 @@ public final class Iban {
      */
     public Iban build(boolean validate)
         throws IbanFormatException, IllegalArgumentException, UnsupportedCountryException {
+      return build(BbanStructureProvider.get()
+                                        .getRegistry(),
+                   validate);
+    }
+
+    private Iban build(final BbanStructureRegistry registry,
+                       final boolean validate)
+        throws IbanFormatException, IllegalArgumentException, UnsupportedCountryException {
 
       // null checks
-      checkRequiredFields();
+      final BbanStructure structure = checkRequiredFields(registry);
 
       // iban is formatted with default check digit.
-      final String formattedIban = formatIban();
+      final StringBuilder formattedIban = formatIban(structure);
 
-      final String checkDigit = IbanUtil.calculateCheckDigit(formattedIban);
+      final int checkDigit = IbanUtil.calculateCheckDigitValue(formattedIban);
 
       // replace default check digit with calculated check digit
-      final String ibanValue = IbanUtil.replaceCheckDigit(formattedIban,
-                                                          checkDigit);
+      formattedIban.setCharAt(CHECK_DIGIT_INDEX,
+                              (char) ('0' + checkDigit / 10));
+      formattedIban.setCharAt(CHECK_DIGIT_INDEX + 1,
+                              (char) ('0' + checkDigit % 10));
+      final String ibanValue = formattedIban.toString();
 
       if (validate) {
         IbanUtil.validate(ibanValue);
       }
-      return new Iban(ibanValue);
+      return new Iban(ibanValue,
+                      countryCode,
+                      structure);
     }
 
-    private void checkRequiredFields()
+    private BbanStructure checkRequiredFields(final BbanStructureRegistry registry)
         throws IbanFormatException {
       if (countryCode == null) {
         throw new IbanFormatException(COUNTRY_CODE_NOT_NULL,
                                       "countryCode is required; it cannot be null");
       }
 
-      final BbanStructure structure = BbanStructureProvider.get()
-                                                           .forCountry(countryCode);
+      final BbanStructure structure = registry.forCountry(countryCode);
       if (structure == null) {
         throw new UnsupportedCountryException(countryCode.toString());
       }
@@ -535,27 +692,26 @@ public final class Iban {
             break;
         }
       }
+      return structure;
     }
 
     /**
-     * Returns formatted iban string with default check digit.
+     * Returns formatted iban with default check digit.
      */
-    private String formatIban() {
-      return countryCode.getAlpha2() + DEFAULT_CHECK_DIGIT + formatBban();
+    private StringBuilder formatIban(final BbanStructure structure) {
+      final StringBuilder sb = new StringBuilder(34);
+      sb.append(countryCode.getAlpha2())
+        .append(DEFAULT_CHECK_DIGIT);
+      formatBban(sb,
+                 structure);
+      return sb;
     }
 
     /**
-     * Returns formatted bban string.
+     * Appends the formatted bban.
      */
-    private String formatBban() {
-      final StringBuilder sb        = new StringBuilder();
-      final BbanStructure structure = BbanStructureProvider.get()
-                                                           .forCountry(countryCode);
-
-      if (structure == null) {
-        throw new UnsupportedCountryException(countryCode.toString());
-      }
-
+    private void formatBban(final StringBuilder sb,
+                            final BbanStructure structure) {
       for (final BbanStructureEntry entry : structure.getEntries()) {
         switch (entry.getEntryType()) {
           case bank_code:
@@ -581,7 +737,6 @@ public final class Iban {
             break;
         }
       }
-      return sb.toString();
     }
   }
 }
@@ -0,0 +1,60 @@
+/*
+ * Copyright © 2020 Frank Hossfeld, Philipp Kohl
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nalukit.iban4g.shared;
+
+/**
+ * Global settings of the library.
+ *
+ * <p>By default every {@link Iban4gException} records the stack trace of the throwing thread, like
+ * any other exception. Applications validating lots of invalid values with the throwing API (e.g.
+ * {@link IbanUtil#validate(String)}) can switch this off: the exceptions are then created without a
+ * stack trace, which is the expensive part of creating an exception. The type, the violation, the
+ * values and the message of the exceptions stay the same.
+ *
+ * <p>The initial value is read from the system property {@value #STACK_TRACE_PROPERTY}
+ * (<code>-Diban4g.exception.stackTrace=false</code>).
+ */
+public final class Iban4gConfig {
+
+  /**
+   * Name of the system property holding the initial value of {@link #isStackTraceEnabled()}.
+   */
+  public static final String STACK_TRACE_PROPERTY = "iban4g.exception.stackTrace";
+
+  private static volatile boolean stackTraceEnabled = !"false".equalsIgnoreCase(System.getProperty(STACK_TRACE_PROPERTY,
+                                                                                                   "true"));
+
+  private Iban4gConfig() {
+  }
+
+  /**
+   * Returns true, if the exceptions of the library record a stack trace.
+   *
+   * @return true if stack traces are recorded
+   */
+  public static boolean isStackTraceEnabled() {
+    return stackTraceEnabled;
+  }
+
+  /**
+   * Switches the stack traces of the exceptions created from now on.
+   *
+   * @param enabled false to create the exceptions without stack trace
+   */
+  public static void setStackTraceEnabled(final boolean enabled) {
+    stackTraceEnabled = enabled;
+  }
+}
@@ -18,6 +18,10 @@ package io.github.nalukit.iban4g.shared;
 /**
  * Base Runtime Exception Class for the library exceptions.
  *
+ * <p>The exceptions thrown by the validations store the format of their message together with the
+ * values to insert. The message is only built, if it is requested. The stack trace is not recorded,
+ * if it is switched off by {@link Iban4gConfig#setStackTraceEnabled(boolean)}.
+ *
  * @see IbanFormatException
  * @see InvalidCheckDigitException
  * @see UnsupportedCountryException
@@ -27,6 +31,10 @@ package io.github.nalukit.iban4g.shared;
 public abstract class Iban4gException
     extends RuntimeException {
 
+  private String   messageFormat;
+  private Object[] messageArguments;
+  private String   formattedMessage;
+
   public Iban4gException() {
     super();
   }
@@ -44,4 +52,47 @@ public abstract class Iban4gException
   public Iban4gException(final Throwable cause) {
     super(cause);
   }
+
+  /**
+   * Constructs an exception, whose message is built from the format and the arguments (see {@link
+   * StringUtils#format(String, Object...)}) on the first call of {@link #getMessage()}.
+   *
+   * @param messageFormat    the format of the message
+   * @param messageArguments the values inserted into the format
+   */
+  Iban4gException(final String messageFormat,
+                  final Object[] messageArguments) {
+    super();
+    this.messageFormat    = messageFormat;
+    this.messageArguments = messageArguments;
+  }
+
+  /**
+   * Returns the values inserted into the format of the message.
+   *
+   * @return the arguments of the message
+   */
+  Object[] getMessageArguments() {
+    return messageArguments;
+  }
+
+  @Override
+  public String getMessage() {
+    if (messageFormat == null) {
+      return super.getMessage();
+    }
+    if (formattedMessage == null) {
+      formattedMessage = StringUtils.format(messageFormat,
+                                            getMessageArguments());
+    }
+    return formattedMessage;
+  }
+
+  @Override
+  public Throwable fillInStackTrace() {
+    if (!Iban4gConfig.isStackTraceEnabled()) {
+      return this;
+    }
+    return super.fillInStackTrace();
+  }
 }
@@ -0,0 +1,148 @@
+/*
+ * Copyright © 2020 Frank Hossfeld, Philipp Kohl
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nalukit.iban4g.shared;
+
+import io.github.nalukit.iban4g.shared.IbanFormatException.IbanFormatViolation;
+import io.github.nalukit.iban4g.shared.bban.BbanStructureProvider;
+import io.github.nalukit.iban4g.shared.bban.BbanStructureRegistry;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Validates many ibans at once, e.g. the ibans of a payment file.
+ *
+ * <p>The result is a byte array holding one violation code per iban: {@link #VALID} for a valid
+ * iban, otherwise the code of the first violated rule (see {@link #toViolation(byte)}). The rules
+ * are the same as of {@link IbanUtil#getViolation(CharSequence)}: no exception is created and no
+ * memory is allocated per iban. All ibans of a batch are checked against the same registry
+ * snapshot, even if the structures are reloaded while the batch is running.
+ */
+public final class IbanBatchValidator {
+
+  /**
+   * Code of a valid iban.
+   */
+  public static final byte VALID = 0;
+
+  private static final IbanFormatViolation[] VIOLATIONS = IbanFormatViolation.values();
+
+  private IbanBatchValidator() {
+  }
+
+  /**
+   * Validates the ibans.
+   *
+   * @param ibans the ibans to validate, may contain null
+   * @return the violation code of every iban, {@link #VALID} for a valid iban
+   */
+  public static byte[] validate(final List<? extends CharSequence> ibans) {
+    final byte[] codes = new byte[ibans.size()];
+    validate(ibans,
+             0,
+             ibans.size(),
+             codes,
+             BbanStructureProvider.get()
+                                  .getRegistry());
+    return codes;
+  }
+
+  /**
+   * Validates a range of the ibans and stores the violation codes at the same index in
+   * <code>codes</code>. Ranges of the same list can be validated concurrently.
+   *
+   * @param ibans     the ibans to validate, may contain null
+   * @param fromIndex index of the first iban to validate (inclusive)
+   * @param toIndex   index of the last iban to validate (exclusive)
+   * @param codes     array receiving the codes, at least as long as <code>toIndex</code>
+   * @param registry  the registry to look up the structures
+   */
+  public static void validate(final List<? extends CharSequence> ibans,
+                              final int fromIndex,
+                              final int toIndex,
+                              final byte[] codes,
+                              final BbanStructureRegistry registry) {
+    if (fromIndex < 0 || fromIndex > toIndex || toIndex > ibans.size() || toIndex > codes.length) {
+      throw new IndexOutOfBoundsException("fromIndex: " + fromIndex + ", toIndex: " + toIndex + ", size: " + ibans.size() + ", codes: " + codes.length);
+    }
+    if (ibans instanceof RandomAccess) {
+      for (int i = fromIndex; i < toIndex; i++) {
+        codes[i] = codeOf(IbanUtil.getViolation(ibans.get(i),
+                                                registry));
+      }
+    } else {
+      final Iterator<? extends CharSequence> iterator = ibans.listIterator(fromIndex);
+      for (int i = fromIndex; i < toIndex; i++) {
+        codes[i] = codeOf(IbanUtil.getViolation(iterator.next(),
+                                                registry));
+      }
+    }
+  }
+
+  /**
+   * Validates a single iban of a batch, e.g. a value found by a scanner.
+   *
+   * @param iban     the iban to validate, may be null
+   * @param registry the registry to look up the structures
+   * @return the violation code, {@link #VALID} for a valid iban
+   */
+  public static byte validate(final CharSequence iban,
+                              final BbanStructureRegistry registry) {
+    return codeOf(IbanUtil.getViolation(iban,
+                                        registry));
+  }
+
+  /**
+   * Returns the code of a violation.
+   *
+   * @param violation the violation, null for a valid iban
+   * @return the code
+   */
+  public static byte codeOf(final IbanFormatViolation violation) {
+    return violation == null ?
+           VALID :
+           (byte) (violation.ordinal() + 1);
+  }
+
+  /**
+   * Returns the violation of a code.
+   *
+   * @param code the code
+   * @return the violation, null if the code is {@link #VALID}
+   */
+  public static IbanFormatViolation toViolation(final byte code) {
+    return code == VALID ?
+           null :
+           VIOLATIONS[code - 1];
+  }
+
+  /**
+   * Counts the invalid ibans of a result.
+   *
+   * @param codes result of a batch validation
+   * @return number of codes which are not {@link #VALID}
+   */
+  public static int countInvalid(final byte[] codes) {
+    int count = 0;
+    for (byte code : codes) {
+      if (code != VALID) {
+        count++;
+      }
+    }
+    return count;
+  }
+}
@@ -126,6 +126,53 @@ public class IbanFormatException
     this.invalidCharacter = invalidCharacter;
   }
 
+  /**
+   * Constructs a <code>IbanFormatException</code> with the specified violation, actual value and
+   * expected value. The message is built on first use.
+   *
+   * @param violation        the violation.
+   * @param actual           the actual value.
+   * @param expected         the expected value.
+   * @param messageFormat    the format of the detail message.
+   * @param messageArguments the values inserted into the format.
+   */
+  IbanFormatException(final IbanFormatViolation violation,
+                      final String actual,
+                      final String expected,
+                      final String messageFormat,
+                      final Object[] messageArguments) {
+    super(messageFormat,
+          messageArguments);
+    this.expected        = expected;
+    this.actual          = actual;
+    this.formatViolation = violation;
+  }
+
+  /**
+   * Constructs a <code>IbanFormatException</code> with the specified violation, entryType, actual
+   * value and invalidCharacter. The message is built on first use.
+   *
+   * @param violation        the violation.
+   * @param entryType        the bban entry type.
+   * @param actual           the actual value.
+   * @param invalidCharacter the invalid character.
+   * @param messageFormat    the format of the detail message.
+   * @param messageArguments the values inserted into the format.
+   */
+  IbanFormatException(final IbanFormatViolation violation,
+                      final BbanEntryType entryType,
+                      final String actual,
+                      final char invalidCharacter,
+                      final String messageFormat,
+                      final Object[] messageArguments) {
+    super(messageFormat,
+          messageArguments);
+    this.actual           = actual;
+    this.formatViolation  = violation;
+    this.bbanEntryType    = entryType;
+    this.invalidCharacter = invalidCharacter;
+  }
+
   /**
    * Constructs a <code>IbanFormatException</code> with the specified violation and detail message.
    *
@@ -158,6 +205,10 @@ public class IbanFormatException
     return bbanEntryType;
   }
 
+  /**
+   * Violations of the iban format. The ordinal is part of the violation codes of {@link
+   * IbanBatchValidator}, so new constants are only appended.
+   */
   public enum IbanFormatViolation {
     UNKNOWN,
 
@@ -185,6 +236,9 @@ public class IbanFormatException
     NATIONAL_CHECK_DIGIT_NOT_NULL,
     ACCOUNT_TYPE_NOT_NULL,
     OWNER_ACCOUNT_NUMBER_NOT_NULL,
-    IDENTIFICATION_NUMBER_NOT_NULL
+    IDENTIFICATION_NUMBER_NOT_NULL,
+
+    CHECK_DIGIT_VALID,
+    COUNTRY_CODE_SUPPORTED
   }
 }
@@ -0,0 +1,173 @@
+/*
+ * Copyright © 2020 Frank Hossfeld, Philipp Kohl
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nalukit.iban4g.shared;
+
+import io.github.nalukit.iban4g.shared.bban.BbanStructureProvider;
+import io.github.nalukit.iban4g.shared.bban.BbanStructureRegistry;
+
+import java.util.function.BiConsumer;
+
+/**
+ * A map keyed by ibans, e.g. to attach the screening result or the list entry to an iban.
+ *
+ * <p>The ibans are stored packed into two longs (see {@link Iban#toPacked()}) in a single long
+ * array and the values in a parallel object array, see {@link IbanSet}. Values are looked up by
+ * any character sequence without creating an Iban.
+ *
+ * <p>The map is not synchronized. Any number of threads can read the map concurrently, as long as
+ * no thread modifies it.
+ *
+ * @param <V> the type of the values
+ */
+public final class IbanMap<V> {
+
+  private final PackedIbanTable table;
+
+  /**
+   * Creates an empty map.
+   */
+  public IbanMap() {
+    this(0);
+  }
+
+  /**
+   * Creates an empty map, which holds the expected number of ibans without resizing.
+   *
+   * @param expectedSize the expected number of ibans
+   */
+  public IbanMap(final int expectedSize) {
+    this(expectedSize,
+         BbanStructureProvider.get()
+                              .getRegistry());
+  }
+
+  /**
+   * Creates an empty map using the given registry to pack the ibans.
+   *
+   * @param expectedSize the expected number of ibans
+   * @param registry     the BBAN structures
+   */
+  public IbanMap(final int expectedSize,
+                 final BbanStructureRegistry registry) {
+    this.table = new PackedIbanTable(expectedSize,
+                                     true,
+                                     registry);
+  }
+
+  /**
+   * Associates the value with the iban.
+   *
+   * @param iban  the iban
+   * @param value the value
+   * @return the previous value or null if the map did not contain the iban
+   */
+  @SuppressWarnings("unchecked")
+  public V put(final Iban iban,
+               final V value) {
+    return (V) table.put(iban.toString(),
+                         value);
+  }
+
+  /**
+   * Validates the iban and associates the value with it.
+   *
+   * @param iban  the iban
+   * @param value the value
+   * @return the previous value or null if the map did not contain the iban
+   * @throws IbanFormatException         if the iban is invalid
+   * @throws InvalidCheckDigitException  if the iban has an invalid check digit
+   * @throws UnsupportedCountryException if the country of the iban is not supported
+   */
+  @SuppressWarnings("unchecked")
+  public V put(final String iban,
+               final V value)
+      throws IbanFormatException, InvalidCheckDigitException, UnsupportedCountryException {
+    IbanUtil.validate(iban);
+    return (V) table.put(iban,
+                         value);
+  }
+
+  /**
+   * Returns the value of the iban.
+   *
+   * @param iban the iban, may be null
+   * @return the value or null if the map does not contain the iban
+   */
+  public V get(final Iban iban) {
+    return iban == null ?
+           null :
+           get(iban.toString());
+  }
+
+  /**
+   * Returns the value of the iban. No Iban object is created. Invalid values are not contained.
+   *
+   * @param iban the iban, may be null
+   * @return the value or null if the map does not contain the iban
+   */
+  @SuppressWarnings("unchecked")
+  public V get(final CharSequence iban) {
+    return (V) table.get(iban);
+  }
+
+  /**
+   * Returns true, if the map contains the iban. No Iban object is created.
+   *
+   * @param iban the iban, may be null
+   * @return true if the map contains the iban
+   */
+  public boolean containsKey(final CharSequence iban) {
+    return table.contains(iban);
+  }
+
+  /**
+   * Removes an iban.
+   *
+   * @param iban the iban, may be null
+   * @return the value or null if the map did not contain the iban
+   */
+  @SuppressWarnings("unchecked")
+  public V remove(final CharSequence iban) {
+    return (V) table.remove(iban);
+  }
+
+  public int size() {
+    return table.size();
+  }
+
+  public boolean isEmpty() {
+    return table.size() == 0;
+  }
+
+  public void clear() {
+    table.clear();
+  }
+
+  /**
+   * Passes every iban and its value to the action. The packed ibans are unpacked one at a time.
+   *
+   * @param action the action
+   */
+  @SuppressWarnings("unchecked")
+  public void forEach(final BiConsumer<? super Iban, ? super V> action) {
+    final PackedIbanTable.Cursor cursor = table.cursor();
+    while (cursor.hasNext()) {
+      cursor.next();
+      action.accept(cursor.iban(),
+                    (V) cursor.value());
+    }
+  }
+}
@@ -0,0 +1,315 @@
+/*
+ * Copyright © 2020 Frank Hossfeld, Philipp Kohl
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nalukit.iban4g.shared;
+
+import io.github.nalukit.iban4g.shared.bban.BbanStructure;
+import io.github.nalukit.iban4g.shared.bban.BbanStructureEntry.EntryCharacterType;
+
+/**
+ * Packs an iban into two longs.
+ *
+ * <p>The bban is read as a mixed radix number: every position contributes a digit of radix 10
+ * (<code>n</code>), 26 (<code>a</code>) or 36 (<code>c</code>) as defined by the bban structure.
+ * If all <code>c</code> positions of the bban hold digits, which is the common case, these
+ * positions are packed with radix 10 as well and the numeric flag is set. The check digit is not
+ * stored, it is calculated again on unpacking.
+ *
+ * <p>Layout (bit 127 is the highest bit of the high long):
+ * <pre>
+ *   127 - 120  country code ordinal + 1 (never 0, so (0, 0) is never a packed iban)
+ *   119        numeric flag
+ *   118 -   0  bban
+ * </pre>
+ *
+ * <p>The bban of some countries (e.g. MT or LC) needs more than 119 bits, if it contains letters in
+ * a <code>c</code> position. Ibans containing lower case letters or non ASCII characters can not be
+ * packed either, nor can ibans using the alternative check digit 01 or 99 (instead of 98 or 02).
+ */
+final class IbanPacking {
+
+  private static final int  COUNTRY_SHIFT = 56;
+  private static final long NUMERIC_FLAG  = 1L << 55;
+  private static final long HIGH_MASK     = NUMERIC_FLAG - 1;
+
+  /**
+   * While packing and unpacking, the bban number is split into a low limb of 56 bits and a high
+   * limb of 63 bits. Multiplying the low limb with a radix (at most 36) does not overflow a long.
+   */
+  private static final int  LIMB_BITS = 56;
+  private static final long LIMB_MASK = (1L << LIMB_BITS) - 1;
+
+  /**
+   * Multiplying a high limb below this limit with a radix and adding a carry can not overflow.
+   */
+  private static final long SAFE_HIGH_LIMB = Long.MAX_VALUE / 37;
+
+  private static final int BBAN_INDEX = 4;
+
+  private static final CountryCode[] COUNTRY_CODES = CountryCode.values();
+
+  private IbanPacking() {
+  }
+
+  /**
+   * Packs the iban.
+   *
+   * @param iban        the iban
+   * @param countryCode country code of the iban
+   * @param structure   bban structure of the country, null if the country is not supported
+   * @param target      receives the high and the low long, may be null to only check the iban
+   * @param offset      index of the high long inside target
+   * @return true if the iban is packed, false if the iban is invalid or can not be packed
+   */
+  static boolean pack(final CharSequence iban,
+                      final CountryCode countryCode,
+                      final BbanStructure structure,
+                      final long[] target,
+                      final int offset) {
+    final long high = packHigh(iban,
+                               countryCode,
+                               structure);
+    if (high == 0) {
+      return false;
+    }
+    if (target != null) {
+      target[offset]     = high;
+      target[offset + 1] = packLow(iban,
+                                   structure,
+                                   high);
+    }
+    return true;
+  }
+
+  /**
+   * Returns the high long of the packed iban. Together with {@link #packLow(CharSequence,
+   * BbanStructure, long)} an iban is packed without allocating an array.
+   *
+   * @param iban        the iban
+   * @param countryCode country code of the iban
+   * @param structure   bban structure of the country, null if the country is not supported
+   * @return the high long, 0 if the iban is invalid or can not be packed
+   */
+  static long packHigh(final CharSequence iban,
+                       final CountryCode countryCode,
+                       final BbanStructure structure) {
+    if (structure == null || iban.length() != BBAN_INDEX + structure.getBbanLength()) {
+      return 0;
+    }
+    final int     length  = structure.getBbanLength();
+    final boolean numeric = isNumeric(iban,
+                                      structure);
+    long high = 0;
+    long low  = 0;
+    for (int position = 0; position < length; position++) {
+      final EntryCharacterType characterType = structure.getCharacterType(position);
+      final int                radix         = radixOf(characterType,
+                                                       numeric);
+      final int                value         = valueOf(characterType,
+                                                       numeric,
+                                                       iban.charAt(BBAN_INDEX + position));
+      if (value < 0) {
+        return 0;
+      }
+      final long product = low * radix + value;
+      final long carry   = product >>> LIMB_BITS;
+      if (high >= SAFE_HIGH_LIMB && high > (Long.MAX_VALUE - carry) / radix) {
+        return 0;
+      }
+      high = high * radix + carry;
+      low  = product & LIMB_MASK;
+    }
+    // the check digit is not stored, so only the calculated check digit is accepted. An iban with
+    // the check digit 01 or 99 instead of 98 or 02 is valid, too, but would be unpacked differently.
+    final int checkDigit = Mod97.calculateCheckDigit(iban);
+    if (iban.charAt(2) != '0' + checkDigit / 10 || iban.charAt(3) != '0' + checkDigit % 10) {
+      return 0;
+    }
+    return ((long) (countryCode.ordinal() + 1) << COUNTRY_SHIFT) |
+           (numeric ?
+            NUMERIC_FLAG :
+            0) |
+           (high >>> (64 - LIMB_BITS));
+  }
+
+  /**
+   * Returns the low long of the packed iban, which is the bban number modulo 2^64. The overflow of
+   * the multiplications drops the higher bits, so no limbs are needed.
+   *
+   * @param iban      the iban
+   * @param structure bban structure of the country
+   * @param high      the high long returned by {@link #packHigh(CharSequence, CountryCode,
+   *                  BbanStructure)} for the iban
+   * @return the low long
+   */
+  static long packLow(final CharSequence iban,
+                      final BbanStructure structure,
+                      final long high) {
+    final boolean numeric = (high & NUMERIC_FLAG) != 0;
+    long          low     = 0;
+    for (int position = 0; position < structure.getBbanLength(); position++) {
+      final EntryCharacterType characterType = structure.getCharacterType(position);
+      final int                radix         = radixOf(characterType,
+                                                       numeric);
+      final int                value         = valueOf(characterType,
+                                                       numeric,
+                                                       iban.charAt(BBAN_INDEX + position));
+      low = low * radix + value;
+    }
+    return low;
+  }
+
+  /**
+   * Returns the country code of a packed iban.
+   *
+   * @param high high long of the packed iban
+   * @return the country code
+   * @throws IllegalArgumentException if the value does not contain a country code
+   */
+  static CountryCode countryCodeOf(final long high) {
+    final int ordinal = (int) (high >>> COUNTRY_SHIFT) - 1;
+    if (ordinal < 0 || ordinal >= COUNTRY_CODES.length) {
+      throw new IllegalArgumentException("invalid packed iban: unknown country");
+    }
+    return COUNTRY_CODES[ordinal];
+  }
+
+  /**
+   * Unpacks an iban.
+   *
+   * @param high        high long of the packed iban
+   * @param low         low long of the packed iban
+   * @param countryCode country code of the iban
+   * @param structure   bban structure of the country
+   * @return the iban
+   * @throws IllegalArgumentException if the value is not a packed iban of the structure
+   */
+  static String unpack(final long high,
+                       final long low,
+                       final CountryCode countryCode,
+                       final BbanStructure structure) {
+    final boolean       numeric = (high & NUMERIC_FLAG) != 0;
+    final int           length  = structure.getBbanLength();
+    final StringBuilder iban    = new StringBuilder(BBAN_INDEX + length);
+    iban.setLength(BBAN_INDEX + length);
+
+    long    highLimb = ((high & HIGH_MASK) << (64 - LIMB_BITS)) | (low >>> LIMB_BITS);
+    long    lowLimb  = low & LIMB_MASK;
+    boolean letter   = false;
+    for (int position = length - 1; position >= 0; position--) {
+      final EntryCharacterType characterType = structure.getCharacterType(position);
+      final int                radix         = radixOf(characterType,
+                                                       numeric);
+      long                     dividend      = lowLimb;
+      if (highLimb != 0) {
+        final long quotient = highLimb / radix;
+        dividend = ((highLimb - quotient * radix) << LIMB_BITS) | lowLimb;
+        highLimb = quotient;
+      }
+      lowLimb = dividend / radix;
+      final int value = (int) (dividend - lowLimb * radix);
+      if (characterType == EntryCharacterType.a) {
+        iban.setCharAt(BBAN_INDEX + position,
+                       (char) ('A' + value));
+      } else if (value < 10) {
+        iban.setCharAt(BBAN_INDEX + position,
+                       (char) ('0' + value));
+      } else {
+        iban.setCharAt(BBAN_INDEX + position,
+                       (char) ('A' + value - 10));
+        letter = true;
+      }
+    }
+    // a bban without letters in c positions is always packed with the numeric flag
+    if (highLimb != 0 || lowLimb != 0 || (!numeric && !letter)) {
+      throw new IllegalArgumentException("invalid packed iban: value does not match the structure of " + countryCode.getAlpha2());
+    }
+
+    final String alpha2 = countryCode.getAlpha2();
+    iban.setCharAt(0,
+                   alpha2.charAt(0));
+    iban.setCharAt(1,
+                   alpha2.charAt(1));
+    final int checkDigit = Mod97.calculateCheckDigit(iban);
+    iban.setCharAt(2,
+                   (char) ('0' + checkDigit / 10));
+    iban.setCharAt(3,
+                   (char) ('0' + checkDigit % 10));
+    return iban.toString();
+  }
+
+  /**
+   * Returns a hash code of a packed iban. All bits of both longs are mixed into the result.
+   *
+   * @param high high long of the packed iban
+   * @param low  low long of the packed iban
+   * @return the hash code
+   */
+  static int hashCode(final long high,
+                      final long low) {
+    long hash = high * 0x9E3779B97F4A7C15L + low;
+    hash = (hash ^ (hash >>> 32)) * 0xD6E8FEB86659FD93L;
+    return (int) (hash ^ (hash >>> 32));
+  }
+
+  /**
+   * Returns true, if all <code>c</code> positions of the bban contain a digit.
+   */
+  private static boolean isNumeric(final CharSequence iban,
+                                   final BbanStructure structure) {
+    for (int position = 0; position < structure.getBbanLength(); position++) {
+      if (structure.getCharacterType(position) == EntryCharacterType.c) {
+        final char ch = iban.charAt(BBAN_INDEX + position);
+        if (ch < '0' || ch > '9') {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+
+  // the character types are compared instead of switched over, as a switch over an enum reads
+  // the ordinal and a lookup table on every call
+
+  private static int radixOf(final EntryCharacterType characterType,
+                             final boolean numeric) {
+    if (characterType == EntryCharacterType.a) {
+      return 26;
+    }
+    return numeric || characterType == EntryCharacterType.n ?
+           10 :
+           36;
+  }
+
+  /**
+   * Returns the digit of a character or -1 if the character can not be packed.
+   */
+  private static int valueOf(final EntryCharacterType characterType,
+                             final boolean numeric,
+                             final char ch) {
+    if (characterType == EntryCharacterType.a) {
+      return ch >= 'A' && ch <= 'Z' ?
+             ch - 'A' :
+             -1;
+    }
+    if (ch >= '0' && ch <= '9') {
+      return ch - '0';
+    }
+    if (characterType == EntryCharacterType.c && !numeric && ch >= 'A' && ch <= 'Z') {
+      return ch - 'A' + 10;
+    }
+    return -1;
+  }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright © 2020 Frank Hossfeld, Philipp Kohl
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nalukit.iban4g.shared;
+
+import io.github.nalukit.iban4g.shared.bban.BbanStructureProvider;
+import io.github.nalukit.iban4g.shared.bban.BbanStructureRegistry;
+
+import java.util.Iterator;
+
+/**
+ * A set of ibans, e.g. for sanctions or duplicate screening.
+ *
+ * <p>The ibans are stored packed into two longs (see {@link Iban#toPacked()}) in a single long
+ * array, which takes 16 bytes per slot instead of the about 100 bytes of an Iban held in a
+ * HashSet. As the array does not contain references, it does not have to be traced by the garbage
+ * collector. The few ibans, which can not be packed, are kept as Strings.
+ *
+ * <p>{@link #contains(CharSequence)} checks a value without creating an Iban, so any character
+ * sequence (e.g. a field of a parsed payment file) can be checked directly.
+ *
+ * <p>The set is not synchronized. Any number of threads can read the set concurrently, as long as
+ * no thread modifies it.
+ */
+public final class IbanSet
+    implements Iterable<Iban> {
+
+  /**
+   * Largest expected size a set can be created with.
+   */
+  public static final int MAXIMUM_EXPECTED_SIZE = PackedIbanTable.MAXIMUM_EXPECTED_SIZE;
+
+  private final PackedIbanTable table;
+
+  /**
+   * Creates an empty set.
+   */
+  public IbanSet() {
+    this(0);
+  }
+
+  /**
+   * Creates an empty set, which holds the expected number of ibans without resizing.
+   *
+   * @param expectedSize the expected number of ibans, at most {@link #MAXIMUM_EXPECTED_SIZE}
+   */
+  public IbanSet(final int expectedSize) {
+    this(expectedSize,
+         BbanStructureProvider.get()
+                              .getRegistry());
+  }
+
+  /**
+   * Creates an empty set using the given registry to pack the ibans.
+   *
+   * @param expectedSize the expected number of ibans, at most {@link #MAXIMUM_EXPECTED_SIZE}
+   * @param registry     the BBAN structures
+   */
+  public IbanSet(final int expectedSize,
+                 final BbanStructureRegistry registry) {
+    this.table = new PackedIbanTable(expectedSize,
+                                     false,
+                                     registry);
+  }
+
+  /**
+   * Adds an iban.
+   *
+   * @param iban the iban
+   * @return true if the set did not contain the iban
+   */
+  public boolean add(final Iban iban) {
+    return table.put(iban.toString(),
+                     PackedIbanTable.PRESENT) == null;
+  }
+
+  /**
+   * Validates and adds an iban.
+   *
+   * @param iban the iban
+   * @return true if the set did not contain the iban
+   * @throws IbanFormatException         if the iban is invalid
+   * @throws InvalidCheckDigitException  if the iban has an invalid check digit
+   * @throws UnsupportedCountryException if the country of the iban is not supported
+   */
+  public boolean add(final String iban)
+      throws IbanFormatException, InvalidCheckDigitException, UnsupportedCountryException {
+    IbanUtil.validate(iban);
+    return table.put(iban,
+                     PackedIbanTable.PRESENT) == null;
+  }
+
+  /**
+   * Returns true, if the set contains the iban.
+   *
+   * @param iban the iban
+   * @return true if the set contains the iban
+   */
+  public boolean contains(final Iban iban) {
+    return iban != null && table.contains(iban.toString());
+  }
+
+  /**
+   * Returns true, if the set contains the iban. No Iban object is created. Invalid values are not
+   * contained.
+   *
+   * @param iban the iban, may be null
+   * @return true if the set contains the iban
+   */
+  public boolean contains(final CharSequence iban) {
+    return table.contains(iban);
+  }
+
+  /**
+   * Removes an iban.
+   *
+   * @param iban the iban, may be null
+   * @return true if the set contained the iban
+   */
+  public boolean remove(final CharSequence iban) {
+    return table.remove(iban) != null;
+  }
+
+  public int size() {
+    return table.size();
+  }
+
+  public boolean isEmpty() {
+    return table.size() == 0;
+  }
+
+  public void clear() {
+    table.clear();
+  }
+
+  /**
+   * Returns an iterator over the ibans. The packed ibans are unpacked one at a time. The result is
+   * undefined, if the set is modified while iterating.
+   *
+   * @return the iterator
+   */
+  @Override
+  public Iterator<Iban> iterator() {
+    final PackedIbanTable.Cursor cursor = table.cursor();
+    return new Iterator<Iban>() {
+
+      @Override
+      public boolean hasNext() {
+        return cursor.hasNext();
+      }
+
+      @Override
+      public Iban next() {
+        cursor.next();
+        return cursor.iban();
+      }
+    };
+  }
+}
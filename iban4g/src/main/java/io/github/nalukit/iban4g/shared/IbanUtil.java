@@ -15,10 +15,15 @@
  */
 package io.github.nalukit.iban4g.shared;
 
+import io.github.nalukit.iban4g.shared.IbanFormatException.IbanFormatViolation;
 import io.github.nalukit.iban4g.shared.bban.BbanEntryType;
 import io.github.nalukit.iban4g.shared.bban.BbanStructure;
 import io.github.nalukit.iban4g.shared.bban.BbanStructureEntry;
 import io.github.nalukit.iban4g.shared.bban.BbanStructureProvider;
+import io.github.nalukit.iban4g.shared.bban.BbanStructureRegistry;
+
+import java.io.IOException;
+import java.util.List;
 
 import static io.github.nalukit.iban4g.shared.IbanFormatException.IbanFormatViolation.BBAN_LENGTH;
 import static io.github.nalukit.iban4g.shared.IbanFormatException.IbanFormatViolation.BBAN_ONLY_DIGITS;
@@ -26,7 +31,9 @@ import static io.github.nalukit.iban4g.shared.IbanFormatException.IbanFormatViol
 import static io.github.nalukit.iban4g.shared.IbanFormatException.IbanFormatViolation.BBAN_ONLY_UPPER_CASE_LETTERS;
 import static io.github.nalukit.iban4g.shared.IbanFormatException.IbanFormatViolation.CHECK_DIGIT_ONLY_DIGITS;
 import static io.github.nalukit.iban4g.shared.IbanFormatException.IbanFormatViolation.CHECK_DIGIT_TWO_DIGITS;
+import static io.github.nalukit.iban4g.shared.IbanFormatException.IbanFormatViolation.CHECK_DIGIT_VALID;
 import static io.github.nalukit.iban4g.shared.IbanFormatException.IbanFormatViolation.COUNTRY_CODE_EXISTS;
+import static io.github.nalukit.iban4g.shared.IbanFormatException.IbanFormatViolation.COUNTRY_CODE_SUPPORTED;
 import static io.github.nalukit.iban4g.shared.IbanFormatException.IbanFormatViolation.COUNTRY_CODE_TWO_LETTERS;
 import static io.github.nalukit.iban4g.shared.IbanFormatException.IbanFormatViolation.COUNTRY_CODE_UPPER_CASE_LETTERS;
 import static io.github.nalukit.iban4g.shared.IbanFormatException.IbanFormatViolation.IBAN_FORMATTING;
@@ -40,9 +47,6 @@ import static io.github.nalukit.iban4g.shared.IbanFormatException.IbanFormatViol
  */
 public final class IbanUtil {
 
-  private static final int  MOD = 97;
-  private static final long MAX = 999999999;
-
   private static final int    COUNTRY_CODE_INDEX        = 0;
   private static final int    COUNTRY_CODE_LENGTH       = 2;
   private static final int    CHECK_DIGIT_INDEX         = COUNTRY_CODE_LENGTH;
@@ -68,14 +72,20 @@ public final class IbanUtil {
                               final IbanFormat format)
       throws IbanFormatException, InvalidCheckDigitException, UnsupportedCountryException {
     if (format == IbanFormat.Default) {
+      // a correctly grouped, valid iban is checked in place
+      if (iban != null && isFormatted(iban) && getViolation(new UngroupedIbanSequence(iban)) == null) {
+        return;
+      }
       final String ibanWithoutSpaces = iban.replace(" ",
                                                     "");
       validate(ibanWithoutSpaces);
-      if (!toFormattedString(ibanWithoutSpaces).equals(iban)) {
+      final String formattedIban = toFormattedString(ibanWithoutSpaces);
+      if (!formattedIban.equals(iban)) {
         throw new IbanFormatException(IBAN_FORMATTING,
-                                      StringUtils.format("Iban must be formatted using 4 characters and space combination (0001). " + "Expected: [%s] - Instead of [%s]",
-                                                         toFormattedString(ibanWithoutSpaces),
-                                                         iban));
+                                      null,
+                                      null,
+                                      "Iban must be formatted using 4 characters and space combination (0001). Expected: [%s] - Instead of [%s]",
+                                      new Object[] { formattedIban, iban });
       }
     } else {
       validate(iban);
@@ -92,19 +102,34 @@ public final class IbanUtil {
    */
   public static void validate(final String iban)
       throws IbanFormatException, InvalidCheckDigitException, UnsupportedCountryException {
+    validateAndGetStructure(iban);
+  }
+
+  /**
+   * Validates the iban like {@link #validate(String)} and returns the bban structure the iban has
+   * been validated against, so an {@link Iban} keeps using it even if the structures are reloaded.
+   *
+   * @param iban to be validated.
+   * @return the bban structure of the country of the iban
+   * @throws IbanFormatException         if iban is invalid.
+   * @throws UnsupportedCountryException if iban's country is not supported.
+   * @throws InvalidCheckDigitException  if iban has invalid check digit.
+   */
+  static BbanStructure validateAndGetStructure(final String iban)
+      throws IbanFormatException, InvalidCheckDigitException, UnsupportedCountryException {
     try {
       validateEmpty(iban);
-      validateCountryCode(iban);
+      // look up the structure once, a reload must not change it during the validation
+      final BbanStructure structure = validateCountryCode(iban);
       validateCheckDigitPresence(iban);
 
-      final BbanStructure structure = getBbanStructure(iban);
-
       validateBbanLength(iban,
                          structure);
       validateBbanEntries(iban,
                           structure);
 
       validateCheckDigit(iban);
+      return structure;
     } catch (Iban4gException e) {
       throw e;
     } catch (RuntimeException e) {
@@ -114,21 +139,352 @@ public final class IbanUtil {
   }
 
   /**
-   * Returns formatted version of Iban.
+   * Checks whether the iban is valid. Same rules as {@link #validate(String)}, but the check
+   * neither throws nor allocates.
    *
-   * @return A string representing formatted Iban for printing.
+   * @param iban to be checked.
+   * @return true if the iban is valid, false otherwise.
    */
-  static String toFormattedString(final String iban) {
-    final StringBuilder ibanBuffer = new StringBuilder(iban);
-    final int           length     = ibanBuffer.length();
+  public static boolean isValid(final CharSequence iban) {
+    return getViolation(iban) == null;
+  }
+
+  /**
+   * Checks the iban and returns the first violated rule. Same rules and order as {@link
+   * #validate(String)}, but the iban is walked once by index, no exception is created and nothing
+   * gets allocated, neither for valid nor for invalid ibans.
+   *
+   * <p>A non supported country is reported as {@link IbanFormatViolation#COUNTRY_CODE_SUPPORTED},
+   * an invalid check digit as {@link IbanFormatViolation#CHECK_DIGIT_VALID}.
+   *
+   * @param iban to be checked.
+   * @return the violation or null if the iban is valid.
+   */
+  public static IbanFormatViolation getViolation(final CharSequence iban) {
+    return getViolation(iban,
+                        BbanStructureProvider.get()
+                                             .getRegistry());
+  }
+
+  /**
+   * Same as {@link #getViolation(CharSequence)}, but looks up the structures in the given registry.
+   * Used by batch validations, which check all ibans against the same registry.
+   */
+  static IbanFormatViolation getViolation(final CharSequence iban,
+                                          final BbanStructureRegistry registry) {
+    if (iban == null) {
+      return IBAN_NOT_NULL;
+    }
+    final int length = iban.length();
+    if (length == 0) {
+      return IBAN_NOT_EMPTY;
+    }
+    if (length < COUNTRY_CODE_LENGTH) {
+      return COUNTRY_CODE_TWO_LETTERS;
+    }
+
+    final char first  = iban.charAt(COUNTRY_CODE_INDEX);
+    final char second = iban.charAt(COUNTRY_CODE_INDEX + 1);
+    if (!isUpperCaseLetter(first) || !isUpperCaseLetter(second)) {
+      return COUNTRY_CODE_UPPER_CASE_LETTERS;
+    }
+    final CountryCode countryCode = CountryCode.getByAlpha2Code(first,
+                                                                second);
+    if (countryCode == null) {
+      return COUNTRY_CODE_EXISTS;
+    }
+    final BbanStructure structure = registry.forCountry(countryCode);
+    if (structure == null) {
+      return COUNTRY_CODE_SUPPORTED;
+    }
+
+    if (length < COUNTRY_CODE_LENGTH + CHECK_DIGIT_LENGTH) {
+      return CHECK_DIGIT_TWO_DIGITS;
+    }
+    if (!Character.isDigit(iban.charAt(CHECK_DIGIT_INDEX)) || !Character.isDigit(iban.charAt(CHECK_DIGIT_INDEX + 1))) {
+      return CHECK_DIGIT_ONLY_DIGITS;
+    }
+
+    if (length - BBAN_INDEX != structure.getBbanLength()) {
+      return BBAN_LENGTH;
+    }
+    final int position = structure.indexOfInvalidCharacter(iban,
+                                                           BBAN_INDEX);
+    if (position >= 0) {
+      switch (structure.getCharacterType(position)) {
+        case a:
+          return BBAN_ONLY_UPPER_CASE_LETTERS;
+        case n:
+          return BBAN_ONLY_DIGITS;
+        default:
+          return BBAN_ONLY_DIGITS_OR_LETTERS;
+      }
+    }
+
+    final int mod = Mod97.calculate(iban);
+    if (mod < 0) {
+      return IBAN_VALID_CHARACTERS;
+    }
+    if (mod != 1) {
+      return CHECK_DIGIT_VALID;
+    }
+    return null;
+  }
+
+  /**
+   * Validates an iban stored as ASCII bytes, e.g. a field of a network buffer. Same rules and
+   * exceptions as {@link #validate(String)}, but a valid iban is checked on the bytes without
+   * decoding them into a String.
+   *
+   * @param bytes  the bytes holding the iban.
+   * @param offset index of the first byte of the iban.
+   * @param length number of bytes of the iban.
+   * @throws IbanFormatException         if iban is invalid.
+   * @throws UnsupportedCountryException if iban's country is not supported.
+   * @throws InvalidCheckDigitException  if iban has invalid check digit.
+   * @throws IndexOutOfBoundsException   if the range is not inside the array.
+   */
+  public static void validate(final byte[] bytes,
+                              final int offset,
+                              final int length)
+      throws IbanFormatException, InvalidCheckDigitException, UnsupportedCountryException {
+    if (bytes == null) {
+      validate((String) null);
+      return;
+    }
+    final AsciiSequence iban = new AsciiSequence(bytes,
+                                                 offset,
+                                                 length);
+    if (getViolation(iban) != null) {
+      // only an invalid iban is decoded, to throw the same exception as for a String
+      validate(iban.toString());
+    }
+  }
+
+  /**
+   * Checks whether the iban stored as ASCII bytes is valid. Same rules as {@link
+   * #isValid(CharSequence)}.
+   *
+   * @param bytes  the bytes holding the iban.
+   * @param offset index of the first byte of the iban.
+   * @param length number of bytes of the iban.
+   * @return true if the iban is valid, false otherwise.
+   * @throws IndexOutOfBoundsException if the range is not inside the array.
+   */
+  public static boolean isValid(final byte[] bytes,
+                                final int offset,
+                                final int length) {
+    return getViolation(bytes,
+                        offset,
+                        length) == null;
+  }
+
+  /**
+   * Checks the iban stored as ASCII bytes and returns the first violated rule. Same rules as {@link
+   * #getViolation(CharSequence)}.
+   *
+   * @param bytes  the bytes holding the iban.
+   * @param offset index of the first byte of the iban.
+   * @param length number of bytes of the iban.
+   * @return the violation or null if the iban is valid.
+   * @throws IndexOutOfBoundsException if the range is not inside the array.
+   */
+  public static IbanFormatViolation getViolation(final byte[] bytes,
+                                                 final int offset,
+                                                 final int length) {
+    if (bytes == null) {
+      return IBAN_NOT_NULL;
+    }
+    return getViolation(new AsciiSequence(bytes,
+                                          offset,
+                                          length));
+  }
+
+  /**
+   * Checks the iban in the given format and returns the first violated rule. For {@link
+   * IbanFormat#Default} the grouping is checked first, then the characters are checked in place, as
+   * by {@link #getViolation(CharSequence)}. Nothing gets allocated for a correctly grouped iban.
+   *
+   * <p>The rules are checked in the same order as by {@link #validate(String, IbanFormat)}: an iban,
+   * which is not grouped correctly, is reported as {@link IbanFormatViolation#IBAN_FORMATTING} only
+   * if its characters are valid.
+   *
+   * @param iban   to be checked.
+   * @param format the expected format.
+   * @return the violation or null if the iban is valid.
+   */
+  public static IbanFormatViolation getViolation(final CharSequence iban,
+                                                 final IbanFormat format) {
+    if (format != IbanFormat.Default || iban == null) {
+      return getViolation(iban);
+    }
+    if (isFormatted(iban)) {
+      return getViolation(new UngroupedIbanSequence(iban));
+    }
+    final StringBuilder ibanWithoutSpaces = new StringBuilder(iban.length());
+    for (int i = 0; i < iban.length(); i++) {
+      if (iban.charAt(i) != ' ') {
+        ibanWithoutSpaces.append(iban.charAt(i));
+      }
+    }
+    final IbanFormatViolation violation = getViolation(ibanWithoutSpaces);
+    return violation != null ?
+           violation :
+           IBAN_FORMATTING;
+  }
+
+  /**
+   * Checks whether the iban is valid in the given format. Same rules as {@link
+   * #validate(String, IbanFormat)}.
+   *
+   * @param iban   to be checked.
+   * @param format the expected format.
+   * @return true if the iban is valid, false otherwise.
+   */
+  public static boolean isValid(final CharSequence iban,
+                                final IbanFormat format) {
+    return getViolation(iban,
+                        format) == null;
+  }
+
+  /**
+   * Checks whether the value is grouped as defined by {@link IbanFormat#Default}: groups of four
+   * characters separated by a single space, the last group may be shorter. The characters of the
+   * groups are not checked.
+   *
+   * @param iban to be checked.
+   * @return true if the value is grouped correctly.
+   */
+  public static boolean isFormatted(final CharSequence iban) {
+    final int length = iban.length();
+    if (length == 0 || iban.charAt(length - 1) == ' ') {
+      return false;
+    }
+    int group = 0;
+    for (int i = 0; i < length; i++) {
+      final boolean space = iban.charAt(i) == ' ';
+      if (group == 4) {
+        if (!space) {
+          return false;
+        }
+        group = 0;
+      } else if (space) {
+        return false;
+      } else {
+        group++;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns the length of an iban in {@link IbanFormat#Default}.
+   *
+   * @param length the length of the iban in electronic format.
+   * @return the length including the spaces.
+   */
+  public static int getFormattedLength(final int length) {
+    return length == 0 ?
+           0 :
+           length + (length - 1) / 4;
+  }
+
+  /**
+   * Writes the iban in {@link IbanFormat#Default} into the array.
+   *
+   * @param iban   the iban in electronic format.
+   * @param target the array, needs room for {@link #getFormattedLength(int)} characters.
+   * @param offset the index of the first character to write.
+   * @return the number of characters written.
+   * @throws IndexOutOfBoundsException if the array is too small.
+   */
+  public static int formatTo(final CharSequence iban,
+                             final char[] target,
+                             final int offset) {
+    final int length = iban.length();
+    int       index  = offset;
+    for (int i = 0; i < length; i++) {
+      if (i > 0 && (i & 3) == 0) {
+        target[index++] = ' ';
+      }
+      target[index++] = iban.charAt(i);
+    }
+    return index - offset;
+  }
 
-    for (int i = 0; i < length / 4; i++) {
-      ibanBuffer.insert((i + 1) * 4 + i,
-                        ' ');
+  /**
+   * Appends the iban in {@link IbanFormat#Default} to the builder.
+   *
+   * @param iban   the iban in electronic format.
+   * @param target the builder.
+   * @return the builder.
+   */
+  public static StringBuilder appendFormatted(final CharSequence iban,
+                                              final StringBuilder target) {
+    final int length = iban.length();
+    target.ensureCapacity(target.length() + getFormattedLength(length));
+    for (int start = 0; start < length; start += 4) {
+      if (start > 0) {
+        target.append(' ');
+      }
+      target.append(iban,
+                    start,
+                    Math.min(length,
+                             start + 4));
+    }
+    return target;
+  }
+
+  /**
+   * Appends the iban in {@link IbanFormat#Default}, e.g. to a writer.
+   *
+   * @param iban   the iban in electronic format.
+   * @param target the target.
+   * @return the target.
+   * @throws IOException if the target throws an IOException.
+   */
+  public static Appendable appendFormatted(final CharSequence iban,
+                                           final Appendable target)
+      throws IOException {
+    final int length = iban.length();
+    for (int start = 0; start < length; start += 4) {
+      if (start > 0) {
+        target.append(' ');
+      }
+      target.append(iban,
+                    start,
+                    Math.min(length,
+                             start + 4));
     }
+    return target;
+  }
 
-    return ibanBuffer.toString()
-                     .trim();
+  /**
+   * Validates all ibans without creating exceptions. See {@link IbanBatchValidator}.
+   *
+   * @param ibans the ibans to validate, may contain null
+   * @return the violation code of every iban, {@link IbanBatchValidator#VALID} for a valid iban. Use
+   *     {@link IbanBatchValidator#toViolation(byte)} to get the violation of a code.
+   */
+  public static byte[] validateAll(final List<? extends CharSequence> ibans) {
+    return IbanBatchValidator.validate(ibans);
+  }
+
+  static boolean isUpperCaseLetter(final char ch) {
+    return Character.isLetter(ch) && Character.toUpperCase(ch) == ch;
+  }
+
+  /**
+   * Returns formatted version of Iban.
+   *
+   * @return A string representing formatted Iban for printing.
+   */
+  static String toFormattedString(final String iban) {
+    final char[] formatted = new char[getFormattedLength(iban.length())];
+    formatTo(iban,
+             formatted,
+             0);
+    return new String(formatted);
   }
 
   private static void validateEmpty(final String iban) {
@@ -143,7 +499,7 @@ public final class IbanUtil {
     }
   }
 
-  private static void validateCountryCode(final String iban) {
+  private static BbanStructure validateCountryCode(final String iban) {
     // check if iban contains 2 char country code
     if (iban.length() < COUNTRY_CODE_LENGTH) {
       throw new IbanFormatException(COUNTRY_CODE_TWO_LETTERS,
@@ -172,6 +528,7 @@ public final class IbanUtil {
     if (structure == null) {
       throw new UnsupportedCountryException(countryCode);
     }
+    return structure;
   }
 
   private static void validateCheckDigitPresence(final String iban) {
@@ -206,40 +563,40 @@ public final class IbanUtil {
       throw new IbanFormatException(BBAN_LENGTH,
                                     Integer.toString(bbanLength),
                                     Integer.toString(expectedBbanLength),
-                                    StringUtils.format("[%s] length is %s, expected BBAN length is: %s",
-                                                       bban,
-                                                       bbanLength,
-                                                       expectedBbanLength));
+                                    "[%s] length is %s, expected BBAN length is: %s",
+                                    new Object[] { bban, bbanLength, expectedBbanLength });
     }
   }
 
   private static void validateBbanEntries(final String iban,
                                           final BbanStructure structure) {
-    final String bban            = getBban(iban);
-    int          bbanEntryOffset = 0;
-    for (final BbanStructureEntry entry : structure.getEntries()) {
-      final int    entryLength = entry.getLength();
-      final String entryValue  = bban.substring(bbanEntryOffset,
-                                                bbanEntryOffset + entryLength);
+    final int position = structure.indexOfInvalidCharacter(iban,
+                                                           BBAN_INDEX);
+    if (position < 0) {
+      return;
+    }
 
+    // find the entry containing the invalid character to report it
+    int bbanEntryOffset = 0;
+    for (final BbanStructureEntry entry : structure.getEntries()) {
+      final int entryLength = entry.getLength();
+      if (position < bbanEntryOffset + entryLength) {
+        validateBbanEntryCharacterType(entry,
+                                       iban.substring(BBAN_INDEX + bbanEntryOffset,
+                                                      BBAN_INDEX + bbanEntryOffset + entryLength));
+      }
       bbanEntryOffset = bbanEntryOffset + entryLength;
-
-      // validate character type
-      validateBbanEntryCharacterType(entry,
-                                     entryValue);
     }
   }
 
   private static void validateCheckDigit(final String iban) {
-    if (calculateMod(iban) != 1) {
-      final String checkDigit         = getCheckDigit(iban);
-      final String expectedCheckDigit = calculateCheckDigit(iban);
-      throw new InvalidCheckDigitException(checkDigit,
-                                           expectedCheckDigit,
-                                           StringUtils.format("[%s] has invalid check digit: %s, " + "expected check digit is: %s",
-                                                              iban,
-                                                              checkDigit,
-                                                              expectedCheckDigit));
+    final int mod = Mod97.calculate(iban);
+    if (mod < 0) {
+      throw invalidCharacter(iban);
+    }
+    if (mod != 1) {
+      // the expected check digit is only calculated, if it is requested
+      throw InvalidCheckDigitException.forIban(iban);
     }
   }
 
@@ -290,8 +647,8 @@ public final class IbanUtil {
                                           entry.getEntryType(),
                                           entryValue,
                                           ch,
-                                          StringUtils.format(ASSERT_UPPER_LETTERS,
-                                                             entryValue));
+                                          ASSERT_UPPER_LETTERS,
+                                          new Object[] { entryValue });
           }
         }
         break;
@@ -302,8 +659,8 @@ public final class IbanUtil {
                                           entry.getEntryType(),
                                           entryValue,
                                           ch,
-                                          StringUtils.format(ASSERT_DIGITS_AND_LETTERS,
-                                                             entryValue));
+                                          ASSERT_DIGITS_AND_LETTERS,
+                                          new Object[] { entryValue });
           }
         }
         break;
@@ -314,52 +671,14 @@ public final class IbanUtil {
                                           entry.getEntryType(),
                                           entryValue,
                                           ch,
-                                          StringUtils.format(ASSERT_DIGITS,
-                                                             entryValue));
+                                          ASSERT_DIGITS,
+                                          new Object[] { entryValue });
           }
         }
         break;
     }
   }
 
-  /**
-   * Calculates <a href="http://en.wikipedia.org/wiki/ISO_13616#Modulo_operation_on_IBAN">Iban
-   * Modulo</a>.
-   *
-   * @param iban String value
-   * @return modulo 97
-   */
-  private static int calculateMod(final String iban) {
-    final String reformattedIban = getBban(iban) + getCountryCodeAndCheckDigit(iban);
-    long         total           = 0;
-    for (int i = 0; i < reformattedIban.length(); i++) {
-      try {
-        final int numericValue = Integer.parseInt("" + reformattedIban.charAt(i),
-                                                  36);
-        if (numericValue < 0 || numericValue > 35) {
-          throw new IbanFormatException(IBAN_VALID_CHARACTERS,
-                                        null,
-                                        null,
-                                        reformattedIban.charAt(i),
-                                        StringUtils.format("Invalid Character[%s] = '%s'",
-                                                           i,
-                                                           numericValue));
-        }
-        total = (numericValue > 9 ?
-                 total * 100 :
-                 total * 10) + numericValue;
-
-        if (total > MAX) {
-          total = (total % MOD);
-        }
-      } catch (NumberFormatException e) {
-        throw new IbanFormatException(e.getMessage(),
-                                      e);
-      }
-    }
-    return (int) (total % MOD);
-  }
-
   /**
    * Calculates Iban <a
    * href="http://en.wikipedia.org/wiki/ISO_13616#Generating_IBAN_check_digits">Check Digit</a>.
@@ -370,16 +689,40 @@ public final class IbanUtil {
    */
   public static String calculateCheckDigit(final String iban)
       throws IbanFormatException {
-    final String reformattedIban    = replaceCheckDigit(iban,
-                                                        Iban.DEFAULT_CHECK_DIGIT);
-    final int    modResult          = calculateMod(reformattedIban);
-    final int    checkDigitIntValue = (98 - modResult);
+    final int    checkDigitIntValue = calculateCheckDigitValue(iban);
     final String checkDigit         = Integer.toString(checkDigitIntValue);
     return checkDigitIntValue > 9 ?
            checkDigit :
            "0" + checkDigit;
   }
 
+  /**
+   * Calculates the numeric value of the Iban check digit. The check digit of the iban is ignored.
+   *
+   * @param iban iban value
+   * @return check digit as int (2 - 98)
+   * @throws IbanFormatException if iban contains invalid character.
+   */
+  static int calculateCheckDigitValue(final CharSequence iban)
+      throws IbanFormatException {
+    final int checkDigit = Mod97.calculateCheckDigit(iban);
+    if (checkDigit < 0) {
+      throw invalidCharacter(iban);
+    }
+    return checkDigit;
+  }
+
+  private static IbanFormatException invalidCharacter(final CharSequence iban) {
+    final int  index = Mod97.indexOfInvalidCharacter(iban);
+    final char ch    = iban.charAt(index);
+    return new IbanFormatException(IBAN_VALID_CHARACTERS,
+                                   null,
+                                   null,
+                                   ch,
+                                   "Invalid Character[%s] = '%s'",
+                                   new Object[] { index, ch });
+  }
+
   /**
    * Returns iban's country code and check digit.
    *
@@ -391,17 +734,6 @@ public final class IbanUtil {
                           COUNTRY_CODE_INDEX + COUNTRY_CODE_LENGTH + CHECK_DIGIT_LENGTH);
   }
 
-  /**
-   * Returns an iban with replaced check digit.
-   *
-   * @param iban The iban
-   * @return The iban without the check digit
-   */
-  static String replaceCheckDigit(final String iban,
-                                  final String checkDigit) {
-    return getCountryCode(iban) + checkDigit + getBban(iban);
-  }
-
   /**
    * Checks whether country is supporting iban.
    *
@@ -437,20 +769,13 @@ public final class IbanUtil {
 
   private static String extractBbanEntry(final String iban,
                                          final BbanEntryType entryType) {
-    final String        bban            = getBban(iban);
-    final BbanStructure structure       = getBbanStructure(iban);
-    int                 bbanEntryOffset = 0;
-    for (final BbanStructureEntry entry : structure.getEntries()) {
-      final int    entryLength = entry.getLength();
-      final String entryValue  = bban.substring(bbanEntryOffset,
-                                                bbanEntryOffset + entryLength);
-
-      bbanEntryOffset = bbanEntryOffset + entryLength;
-      if (entry.getEntryType() == entryType) {
-        return entryValue;
-      }
+    final BbanStructure structure = getBbanStructure(iban);
+    final int           offset    = structure.getEntryOffset(entryType);
+    if (offset < 0) {
+      return null;
     }
-    return null;
+    return iban.substring(BBAN_INDEX + offset,
+                          BBAN_INDEX + offset + structure.getEntryLength(entryType));
   }
 
   /**
@@ -464,61 +789,6 @@ public final class IbanUtil {
                             BbanEntryType.bank_code);
   }
 
-  /**
-   * Returns iban's branch code.
-   *
-   * @param iban String
-   * @return branchCode String
-   */
-  static String getBranchCode(final String iban) {
-    return extractBbanEntry(iban,
-                            BbanEntryType.branch_code);
-  }
-
-  /**
-   * Returns iban's national check digit.
-   *
-   * @param iban String
-   * @return nationalCheckDigit String
-   */
-  static String getNationalCheckDigit(final String iban) {
-    return extractBbanEntry(iban,
-                            BbanEntryType.national_check_digit);
-  }
-
-  /**
-   * Returns iban's account type.
-   *
-   * @param iban String
-   * @return accountType String
-   */
-  static String getAccountType(final String iban) {
-    return extractBbanEntry(iban,
-                            BbanEntryType.account_type);
-  }
-
-  /**
-   * Returns iban's owner account type.
-   *
-   * @param iban String
-   * @return ownerAccountType String
-   */
-  static String getOwnerAccountType(final String iban) {
-    return extractBbanEntry(iban,
-                            BbanEntryType.owner_account_number);
-  }
-
-  /**
-   * Returns iban's identification number.
-   *
-   * @param iban String
-   * @return identificationNumber String
-   */
-  static String getIdentificationNumber(final String iban) {
-    return extractBbanEntry(iban,
-                            BbanEntryType.identification_number);
-  }
-
   static String calculateCheckDigit(final Iban iban) {
     return calculateCheckDigit(iban.toString());
   }
@@ -0,0 +1,406 @@
+/*
+ * Copyright © 2020 Frank Hossfeld, Philipp Kohl
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nalukit.iban4g.shared;
+
+import io.github.nalukit.iban4g.shared.IbanFormatException.IbanFormatViolation;
+import io.github.nalukit.iban4g.shared.bban.BbanStructure;
+import io.github.nalukit.iban4g.shared.bban.BbanStructureEntry.EntryCharacterType;
+import io.github.nalukit.iban4g.shared.bban.BbanStructureProvider;
+import io.github.nalukit.iban4g.shared.bban.BbanStructureRegistry;
+
+import static io.github.nalukit.iban4g.shared.IbanFormatException.IbanFormatViolation.BBAN_LENGTH;
+import static io.github.nalukit.iban4g.shared.IbanFormatException.IbanFormatViolation.BBAN_ONLY_DIGITS;
+import static io.github.nalukit.iban4g.shared.IbanFormatException.IbanFormatViolation.BBAN_ONLY_DIGITS_OR_LETTERS;
+import static io.github.nalukit.iban4g.shared.IbanFormatException.IbanFormatViolation.BBAN_ONLY_UPPER_CASE_LETTERS;
+import static io.github.nalukit.iban4g.shared.IbanFormatException.IbanFormatViolation.CHECK_DIGIT_ONLY_DIGITS;
+import static io.github.nalukit.iban4g.shared.IbanFormatException.IbanFormatViolation.CHECK_DIGIT_VALID;
+import static io.github.nalukit.iban4g.shared.IbanFormatException.IbanFormatViolation.COUNTRY_CODE_EXISTS;
+import static io.github.nalukit.iban4g.shared.IbanFormatException.IbanFormatViolation.COUNTRY_CODE_SUPPORTED;
+import static io.github.nalukit.iban4g.shared.IbanFormatException.IbanFormatViolation.COUNTRY_CODE_UPPER_CASE_LETTERS;
+import static io.github.nalukit.iban4g.shared.IbanFormatException.IbanFormatViolation.IBAN_VALID_CHARACTERS;
+
+/**
+ * Validates an iban while it is typed, e.g. in the text box of a GWT or J2CL client.
+ *
+ * <p>Every appended character is checked against the rules of its position (country code, check
+ * digit or bban structure) and folded into a running modulo 97 remainder of the bban, so appending
+ * and deleting the last character take constant time, independent of the length of the iban. Once
+ * the iban is complete, only the country code and the check digit are added to the remainder.
+ *
+ * <p>The result is the same as of {@link IbanUtil#getViolation(CharSequence)} for the complete
+ * iban: {@link Status#VALID} is reported exactly for the values, which {@link
+ * IbanUtil#isValid(CharSequence)} accepts. For an incomplete value the validator reports, whether
+ * the characters typed so far can still be completed to a valid iban, and if not, which rule is
+ * violated at which position. Spaces are ignored, so the iban can be typed in {@link
+ * IbanFormat#Default} as well.
+ *
+ * <p>The structures are looked up in the registry passed to the constructor. Instances are not
+ * thread safe.
+ */
+public final class IncrementalIbanValidator {
+
+  private static final int COUNTRY_CODE_INDEX = 0;
+  private static final int CHECK_DIGIT_INDEX  = 2;
+  private static final int BBAN_INDEX         = 4;
+
+  private static final int INITIAL_CAPACITY = 34;
+
+  private final BbanStructureRegistry registry;
+
+  /**
+   * The characters typed so far, without spaces.
+   */
+  private char[] chars      = new char[INITIAL_CAPACITY];
+  /**
+   * Modulo 97 remainder of the bban up to and including the character at the same index. Only
+   * used for the bban positions.
+   */
+  private int[]  remainders = new int[INITIAL_CAPACITY];
+  private int    length;
+
+  private CountryCode   countryCode;
+  private BbanStructure structure;
+
+  private IbanFormatViolation violation;
+  /**
+   * Index of the character, whose append detected the violation. Deleting this character makes the
+   * value valid again.
+   */
+  private int                 invalidFrom     = -1;
+  private int                 invalidPosition = -1;
+
+  /**
+   * Creates a validator using the structures of the {@link BbanStructureProvider}.
+   */
+  public IncrementalIbanValidator() {
+    this(BbanStructureProvider.get()
+                              .getRegistry());
+  }
+
+  /**
+   * Creates a validator using the structures of the registry.
+   *
+   * @param registry the registry to look up the structures
+   */
+  public IncrementalIbanValidator(final BbanStructureRegistry registry) {
+    this.registry = registry;
+  }
+
+  /**
+   * Appends a character. Spaces are ignored.
+   *
+   * @param ch the character
+   * @return the status after appending the character
+   */
+  public Status append(final char ch) {
+    if (ch == ' ') {
+      return getStatus();
+    }
+    if (length == chars.length) {
+      grow();
+    }
+    final int index = length;
+    chars[length++] = ch;
+    if (violation == null) {
+      check(index,
+            ch);
+    }
+    return getStatus();
+  }
+
+  /**
+   * Appends characters. Spaces are ignored.
+   *
+   * @param value the characters
+   * @return the status after appending the characters
+   */
+  public Status append(final CharSequence value) {
+    for (int i = 0; i < value.length(); i++) {
+      append(value.charAt(i));
+    }
+    return getStatus();
+  }
+
+  /**
+   * Deletes the last character, e.g. on backspace. Does nothing if the value is empty.
+   *
+   * @return the status after deleting the character
+   */
+  public Status deleteLast() {
+    if (length > 0) {
+      length--;
+      if (length <= invalidFrom) {
+        violation       = null;
+        invalidFrom     = -1;
+        invalidPosition = -1;
+      }
+      if (length <= COUNTRY_CODE_INDEX + 1) {
+        countryCode = null;
+        structure   = null;
+      }
+    }
+    return getStatus();
+  }
+
+  /**
+   * Replaces the value, e.g. after the text was edited in the middle or pasted. Spaces are ignored.
+   *
+   * @param value the new value
+   * @return the status of the new value
+   */
+  public Status set(final CharSequence value) {
+    clear();
+    return append(value);
+  }
+
+  /**
+   * Removes all characters.
+   */
+  public void clear() {
+    length          = 0;
+    countryCode     = null;
+    structure       = null;
+    violation       = null;
+    invalidFrom     = -1;
+    invalidPosition = -1;
+  }
+
+  /**
+   * Returns the status of the characters typed so far.
+   *
+   * @return the status
+   */
+  public Status getStatus() {
+    if (length == 0) {
+      return Status.EMPTY;
+    }
+    if (violation != null) {
+      return Status.INVALID;
+    }
+    return length == getExpectedLength() ?
+           Status.VALID :
+           Status.INCOMPLETE;
+  }
+
+  /**
+   * Returns the violated rule.
+   *
+   * @return the violation or null if the status is not {@link Status#INVALID}
+   */
+  public IbanFormatViolation getViolation() {
+    return violation;
+  }
+
+  /**
+   * Returns the position of the first invalid character, not counting spaces. An unknown or not
+   * supported country is reported at position 0, an invalid check digit at position 2.
+   *
+   * @return the position or -1 if the status is not {@link Status#INVALID}
+   */
+  public int getInvalidPosition() {
+    return invalidPosition;
+  }
+
+  /**
+   * Returns the number of characters typed so far, not counting spaces.
+   *
+   * @return the length
+   */
+  public int getLength() {
+    return length;
+  }
+
+  /**
+   * Returns the length of a complete iban of the country.
+   *
+   * @return the length or -1 if the country is not known yet
+   */
+  public int getExpectedLength() {
+    return structure == null ?
+           -1 :
+           BBAN_INDEX + structure.getBbanLength();
+  }
+
+  /**
+   * Returns the country of the iban.
+   *
+   * @return the country code or null if the country is not known yet
+   */
+  public CountryCode getCountryCode() {
+    return countryCode;
+  }
+
+  /**
+   * Returns the characters typed so far, without spaces.
+   */
+  @Override
+  public String toString() {
+    return new String(chars,
+                      0,
+                      length);
+  }
+
+  private void grow() {
+    final char[] newChars      = new char[2 * chars.length];
+    final int[]  newRemainders = new int[2 * remainders.length];
+    System.arraycopy(chars,
+                     0,
+                     newChars,
+                     0,
+                     length);
+    System.arraycopy(remainders,
+                     0,
+                     newRemainders,
+                     0,
+                     length);
+    chars      = newChars;
+    remainders = newRemainders;
+  }
+
+  /**
+   * Checks the character at the index, which is the last one.
+   */
+  private void check(final int index,
+                     final char ch) {
+    if (index < CHECK_DIGIT_INDEX) {
+      if (!IbanUtil.isUpperCaseLetter(ch)) {
+        invalid(COUNTRY_CODE_UPPER_CASE_LETTERS,
+                index,
+                index);
+      } else if (index == COUNTRY_CODE_INDEX + 1) {
+        countryCode = CountryCode.getByAlpha2Code(chars[COUNTRY_CODE_INDEX],
+                                                  ch);
+        if (countryCode == null) {
+          invalid(COUNTRY_CODE_EXISTS,
+                  index,
+                  COUNTRY_CODE_INDEX);
+          return;
+        }
+        structure = registry.forCountry(countryCode);
+        if (structure == null) {
+          invalid(COUNTRY_CODE_SUPPORTED,
+                  index,
+                  COUNTRY_CODE_INDEX);
+        }
+      }
+    } else if (index < BBAN_INDEX) {
+      if (!Character.isDigit(ch)) {
+        invalid(CHECK_DIGIT_ONLY_DIGITS,
+                index,
+                index);
+      }
+    } else {
+      checkBban(index,
+                ch);
+    }
+  }
+
+  private void checkBban(final int index,
+                         final char ch) {
+    final int position = index - BBAN_INDEX;
+    if (position >= structure.getBbanLength()) {
+      invalid(BBAN_LENGTH,
+              index,
+              index);
+      return;
+    }
+    if (!structure.isValidCharacter(position,
+                                    ch)) {
+      final EntryCharacterType characterType = structure.getCharacterType(position);
+      if (characterType == EntryCharacterType.a) {
+        invalid(BBAN_ONLY_UPPER_CASE_LETTERS,
+                index,
+                index);
+      } else if (characterType == EntryCharacterType.n) {
+        invalid(BBAN_ONLY_DIGITS,
+                index,
+                index);
+      } else {
+        invalid(BBAN_ONLY_DIGITS_OR_LETTERS,
+                index,
+                index);
+      }
+      return;
+    }
+    final int value = Mod97.valueOf(ch);
+    if (value < 0) {
+      invalid(IBAN_VALID_CHARACTERS,
+              index,
+              index);
+      return;
+    }
+    final int previous = position == 0 ?
+                         0 :
+                         remainders[index - 1];
+    remainders[index] = append(previous,
+                               value);
+    if (position == structure.getBbanLength() - 1 && remainderOf(remainders[index]) != 1) {
+      invalid(CHECK_DIGIT_VALID,
+              index,
+              CHECK_DIGIT_INDEX);
+    }
+  }
+
+  /**
+   * Appends the country code and the check digit to the remainder of the bban, as done by the
+   * rearranged iban of the modulo 97 check.
+   */
+  private int remainderOf(final int bbanRemainder) {
+    int remainder = bbanRemainder;
+    for (int index = COUNTRY_CODE_INDEX; index < BBAN_INDEX; index++) {
+      remainder = append(remainder,
+                         Mod97.valueOf(chars[index]));
+    }
+    return remainder;
+  }
+
+  private static int append(final int remainder,
+                            final int value) {
+    return value < 10 ?
+           (remainder * 10 + value) % 97 :
+           (remainder * 100 + value) % 97;
+  }
+
+  private void invalid(final IbanFormatViolation violation,
+                       final int index,
+                       final int position) {
+    this.violation       = violation;
+    this.invalidFrom     = index;
+    this.invalidPosition = position;
+  }
+
+  /**
+   * Status of the characters typed so far.
+   */
+  public enum Status {
+    /**
+     * Nothing typed yet.
+     */
+    EMPTY,
+    /**
+     * The characters typed so far are valid, but the iban is not complete yet.
+     */
+    INCOMPLETE,
+    /**
+     * The iban is complete and valid.
+     */
+    VALID,
+    /**
+     * A rule is violated. Appending further characters does not make the iban valid.
+     */
+    INVALID
+  }
+}
@@ -23,8 +23,11 @@ public class InvalidCheckDigitException
 
   private static final long serialVersionUID = -9222165415290480187L;
 
+  private static final String MESSAGE_FORMAT = "[%s] has invalid check digit: %s, expected check digit is: %s";
+
   private String actual;
   private String expected;
+  private String iban;
 
   /**
    * Constructs a <code>InvalidCheckDigitException</code> with no detail message.
@@ -80,11 +83,47 @@ public class InvalidCheckDigitException
     super(t);
   }
 
+  /**
+   * Constructs a <code>InvalidCheckDigitException</code> for an iban with an invalid check digit.
+   * The expected check digit and the message are calculated on first use.
+   *
+   * @param iban   the iban.
+   * @param actual the actual check digit.
+   */
+  private InvalidCheckDigitException(final String iban,
+                                     final String actual) {
+    // the arguments are provided by getMessageArguments()
+    super(MESSAGE_FORMAT,
+          (Object[]) null);
+    this.iban   = iban;
+    this.actual = actual;
+  }
+
+  /**
+   * Creates the exception for an iban, which contains only valid characters, but has an invalid
+   * check digit.
+   *
+   * @param iban the iban.
+   * @return the exception.
+   */
+  static InvalidCheckDigitException forIban(final String iban) {
+    return new InvalidCheckDigitException(iban,
+                                          IbanUtil.getCheckDigit(iban));
+  }
+
+  @Override
+  Object[] getMessageArguments() {
+    return new Object[] { iban, actual, getExpected() };
+  }
+
   public String getActual() {
     return actual;
   }
 
   public String getExpected() {
+    if (expected == null && iban != null) {
+      expected = IbanUtil.calculateCheckDigit(iban);
+    }
     return expected;
   }
 }
@@ -0,0 +1,181 @@
+/*
+ * Copyright © 2020 Frank Hossfeld, Philipp Kohl
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nalukit.iban4g.shared;
+
+/**
+ * Calculates the <a href="http://en.wikipedia.org/wiki/ISO_13616#Modulo_operation_on_IBAN">Iban
+ * Modulo</a>.
+ *
+ * <p>The iban is read in its rearranged order (bban, country code, check digit) by index, so the
+ * rearranged string is never built. Characters are mapped through a lookup table and the digits are
+ * folded into a long, which is only reduced once it would overflow on the next character.
+ */
+public final class Mod97 {
+
+  private static final int MOD = 97;
+
+  /**
+   * Accumulator limit. Appending a letter (two digits) to a value below this limit still fits into
+   * a long.
+   */
+  private static final long MAX = 999_999_999_999_999L;
+
+  private static final int COUNTRY_CODE_INDEX = 0;
+  private static final int CHECK_DIGIT_INDEX  = 2;
+  private static final int BBAN_INDEX         = 4;
+
+  /**
+   * Numeric values of the ASCII characters: 0-9 for digits, 10-35 for upper and lower case letters,
+   * -1 for everything else.
+   */
+  private static final byte[] VALUES = new byte[128];
+
+  static {
+    for (int ch = 0; ch < VALUES.length; ch++) {
+      VALUES[ch] = -1;
+    }
+    for (char ch = '0'; ch <= '9'; ch++) {
+      VALUES[ch] = (byte) (ch - '0');
+    }
+    for (char ch = 'A'; ch <= 'Z'; ch++) {
+      VALUES[ch]             = (byte) (ch - 'A' + 10);
+      VALUES[ch - 'A' + 'a'] = (byte) (ch - 'A' + 10);
+    }
+  }
+
+  private Mod97() {
+  }
+
+  /**
+   * Returns the numeric value of a character in the modulo calculation.
+   *
+   * @param ch the character
+   * @return the value (0 - 35) or -1 if the character can not be part of an iban
+   */
+  public static int valueOf(final char ch) {
+    if (ch < VALUES.length) {
+      return VALUES[ch];
+    }
+    return Character.digit(ch,
+                           36);
+  }
+
+  /**
+   * Calculates the modulo 97 of the iban. The iban has to contain at least the country code and the
+   * check digit.
+   *
+   * @param iban the iban
+   * @return modulo 97 or -1 if the iban contains an invalid character
+   */
+  public static int calculate(final CharSequence iban) {
+    return calculate(iban,
+                     iban.charAt(CHECK_DIGIT_INDEX),
+                     iban.charAt(CHECK_DIGIT_INDEX + 1));
+  }
+
+  /**
+   * Calculates the modulo 97 of the iban using the given check digit instead of the check digit of
+   * the iban. The iban has to contain at least the country code and the check digit.
+   *
+   * @param iban        the iban
+   * @param checkDigit0 first character of the check digit to use
+   * @param checkDigit1 second character of the check digit to use
+   * @return modulo 97 or -1 if the iban contains an invalid character
+   */
+  public static int calculate(final CharSequence iban,
+                              final char checkDigit0,
+                              final char checkDigit1) {
+    final int length = iban.length();
+    long      total  = 0;
+    for (int i = BBAN_INDEX; i < length; i++) {
+      total = append(total,
+                     iban.charAt(i));
+      if (total < 0) {
+        return -1;
+      }
+    }
+    total = append(total,
+                   iban.charAt(COUNTRY_CODE_INDEX));
+    if (total < 0) {
+      return -1;
+    }
+    total = append(total,
+                   iban.charAt(COUNTRY_CODE_INDEX + 1));
+    if (total < 0) {
+      return -1;
+    }
+    total = append(total,
+                   checkDigit0);
+    if (total < 0) {
+      return -1;
+    }
+    total = append(total,
+                   checkDigit1);
+    if (total < 0) {
+      return -1;
+    }
+    return (int) (total % MOD);
+  }
+
+  /**
+   * Calculates the check digit of the iban. The check digit of the iban is ignored.
+   *
+   * @param iban the iban
+   * @return the check digit (2 - 98) or -1 if the iban contains an invalid character
+   */
+  public static int calculateCheckDigit(final CharSequence iban) {
+    final int mod = calculate(iban,
+                              '0',
+                              '0');
+    if (mod < 0) {
+      return -1;
+    }
+    return 98 - mod;
+  }
+
+  /**
+   * Returns the index of the first character which can not be part of the modulo calculation.
+   *
+   * @param iban the iban
+   * @return index of the invalid character or -1 if all characters are valid
+   */
+  public static int indexOfInvalidCharacter(final CharSequence iban) {
+    for (int i = 0; i < iban.length(); i++) {
+      if (valueOf(iban.charAt(i)) < 0) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Appends the character to the accumulated value. The result is negative, if the character is
+   * invalid.
+   */
+  private static long append(final long total,
+                             final char ch) {
+    final int value = valueOf(ch);
+    if (value < 0) {
+      return -1;
+    }
+    final long result = value > 9 ?
+                        total * 100 + value :
+                        total * 10 + value;
+    return result > MAX ?
+           result % MOD :
+           result;
+  }
+}
@@ -0,0 +1,392 @@
+/*
+ * Copyright © 2020 Frank Hossfeld, Philipp Kohl
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nalukit.iban4g.shared;
+
+import io.github.nalukit.iban4g.shared.bban.BbanStructure;
+import io.github.nalukit.iban4g.shared.bban.BbanStructureRegistry;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Hash table keyed by packed ibans, the storage of {@link IbanSet} and {@link IbanMap}.
+ *
+ * <p>The packed ibans (see {@link Iban#toPacked()}) are stored in a single long array using open
+ * addressing with linear probing, two longs per slot. A slot is free, if its high long is 0, which
+ * is never the case for a packed iban. Removing an iban moves the following entries of the probe
+ * sequence back, so no tombstones are needed. The values, if any, are stored in a parallel object
+ * array.
+ *
+ * <p>The few ibans, which can not be packed, are stored by their String value in a HashMap.
+ *
+ * <p>The table packs and unpacks the ibans using the registry passed to the constructor, so it is
+ * not affected by reloading the structures of the {@link io.github.nalukit.iban4g.shared.bban.BbanStructureProvider}.
+ */
+final class PackedIbanTable {
+
+  private static final int   MINIMUM_CAPACITY = 16;
+  private static final int   MAXIMUM_CAPACITY = 1 << 29;
+  private static final float LOAD_FACTOR      = 0.75f;
+
+  /**
+   * Largest expected size accepted by the constructor.
+   */
+  static final int MAXIMUM_EXPECTED_SIZE = (int) (MAXIMUM_CAPACITY * LOAD_FACTOR) - 1;
+
+  /**
+   * Value of the ibans of a table without values.
+   */
+  static final Object PRESENT = Boolean.TRUE;
+
+  private final BbanStructureRegistry registry;
+  private final boolean               withValues;
+  private final Map<String, Object>   unpacked = new HashMap<>();
+
+  /**
+   * High and low long of the packed iban of every slot.
+   */
+  private long[]   keys;
+  private Object[] values;
+  private int      capacity;
+  private int      packedSize;
+  private int      resizeAt;
+
+  PackedIbanTable(final int expectedSize,
+                  final boolean withValues,
+                  final BbanStructureRegistry registry) {
+    if (expectedSize < 0) {
+      throw new IllegalArgumentException("expected size must not be negative: " + expectedSize);
+    }
+    this.registry   = registry;
+    this.withValues = withValues;
+    allocate(capacityFor(expectedSize));
+  }
+
+  private static int capacityFor(final int size) {
+    final long capacity = (long) Math.ceil(size / (double) LOAD_FACTOR) + 1;
+    if (capacity > MAXIMUM_CAPACITY) {
+      throw new IllegalStateException("too many ibans: " + size);
+    }
+    return Math.max(MINIMUM_CAPACITY,
+                    (int) capacity);
+  }
+
+  private void allocate(final int capacity) {
+    this.capacity = capacity;
+    this.keys     = new long[2 * capacity];
+    this.values   = withValues ?
+                    new Object[capacity] :
+                    null;
+    this.resizeAt = (int) (capacity * (double) LOAD_FACTOR);
+  }
+
+  /**
+   * Returns the high long of an iban packed using the registry of the table. The lookups pack an
+   * iban into two longs without allocating an array.
+   *
+   * @return 0 if the iban is not valid or can not be packed
+   */
+  private long packHigh(final CharSequence iban) {
+    if (iban == null || iban.length() < 4) {
+      return 0;
+    }
+    final CountryCode countryCode = CountryCode.getByAlpha2Code(iban.charAt(0),
+                                                                iban.charAt(1));
+    if (countryCode == null) {
+      return 0;
+    }
+    return IbanPacking.packHigh(iban,
+                                countryCode,
+                                registry.forCountry(countryCode));
+  }
+
+  /**
+   * Returns the low long of an iban, whose high long is returned by {@link #packHigh(CharSequence)}.
+   */
+  private long packLow(final CharSequence iban,
+                       final long high) {
+    return IbanPacking.packLow(iban,
+                               registry.forCountry(IbanPacking.countryCodeOf(high)),
+                               high);
+  }
+
+  /**
+   * Returns the first slot of the probe sequence. Maps the hash code onto the capacity by a
+   * multiplication, so the capacity does not need to be a power of two.
+   */
+  private int slotOf(final long high,
+                     final long low) {
+    return (int) (((IbanPacking.hashCode(high,
+                                         low) & 0xFFFFFFFFL) * capacity) >>> 32);
+  }
+
+  /**
+   * Returns the slot of the packed iban or the complement of the free slot ending the probe
+   * sequence.
+   */
+  private int indexOf(final long high,
+                      final long low) {
+    int slot = slotOf(high,
+                      low);
+    while (true) {
+      final long slotHigh = keys[2 * slot];
+      if (slotHigh == 0) {
+        return ~slot;
+      }
+      if (slotHigh == high && keys[2 * slot + 1] == low) {
+        return slot;
+      }
+      if (++slot == capacity) {
+        slot = 0;
+      }
+    }
+  }
+
+  boolean contains(final CharSequence iban) {
+    final long high = packHigh(iban);
+    if (high != 0) {
+      return indexOf(high,
+                     packLow(iban,
+                             high)) >= 0;
+    }
+    return !unpacked.isEmpty() && iban != null && unpacked.containsKey(iban.toString());
+  }
+
+  Object get(final CharSequence iban) {
+    final long high = packHigh(iban);
+    if (high != 0) {
+      final int slot = indexOf(high,
+                               packLow(iban,
+                                       high));
+      return slot >= 0 ?
+             values[slot] :
+             null;
+    }
+    return unpacked.isEmpty() || iban == null ?
+           null :
+           unpacked.get(iban.toString());
+  }
+
+  /**
+   * Adds a valid iban.
+   *
+   * @param iban  the iban, has to be valid
+   * @param value the value, {@link #PRESENT} for a table without values
+   * @return the previous value, {@link #PRESENT} for a table without values, or null if the table
+   * did not contain the iban
+   */
+  Object put(final String iban,
+             final Object value) {
+    final long high = packHigh(iban);
+    if (high == 0) {
+      return unpacked.put(iban,
+                          value);
+    }
+    final long low  = packLow(iban,
+                              high);
+    int        slot = indexOf(high,
+                              low);
+    if (slot >= 0) {
+      if (!withValues) {
+        return PRESENT;
+      }
+      final Object previous = values[slot];
+      values[slot] = value;
+      return previous;
+    }
+    if (packedSize >= resizeAt) {
+      resize();
+      slot = indexOf(high,
+                     low);
+    }
+    slot               = ~slot;
+    keys[2 * slot]     = high;
+    keys[2 * slot + 1] = low;
+    if (withValues) {
+      values[slot] = value;
+    }
+    packedSize++;
+    return null;
+  }
+
+  /**
+   * Removes an iban.
+   *
+   * @return the value, {@link #PRESENT} for a table without values, or null if the table did not
+   * contain the iban
+   */
+  Object remove(final CharSequence iban) {
+    final long packedHigh = packHigh(iban);
+    if (packedHigh == 0) {
+      return unpacked.isEmpty() || iban == null ?
+             null :
+             unpacked.remove(iban.toString());
+    }
+    int hole = indexOf(packedHigh,
+                       packLow(iban,
+                               packedHigh));
+    if (hole < 0) {
+      return null;
+    }
+    final Object previous = withValues ?
+                            values[hole] :
+                            PRESENT;
+    // move back every following entry of the probe sequence, whose first slot is not between the
+    // hole and the entry
+    int next = hole;
+    while (true) {
+      if (++next == capacity) {
+        next = 0;
+      }
+      final long high = keys[2 * next];
+      if (high == 0) {
+        break;
+      }
+      final int first = slotOf(high,
+                               keys[2 * next + 1]);
+      if (distance(first,
+                   next) >= distance(hole,
+                                     next)) {
+        keys[2 * hole]     = high;
+        keys[2 * hole + 1] = keys[2 * next + 1];
+        if (withValues) {
+          values[hole] = values[next];
+        }
+        hole = next;
+      }
+    }
+    keys[2 * hole]     = 0;
+    keys[2 * hole + 1] = 0;
+    if (withValues) {
+      values[hole] = null;
+    }
+    packedSize--;
+    return previous;
+  }
+
+  private int distance(final int from,
+                       final int to) {
+    return to >= from ?
+           to - from :
+           to - from + capacity;
+  }
+
+  private void resize() {
+    final long[]   oldKeys     = keys;
+    final Object[] oldValues   = values;
+    final int      oldCapacity = capacity;
+    if (oldCapacity == MAXIMUM_CAPACITY) {
+      throw new IllegalStateException("too many ibans: " + packedSize);
+    }
+    allocate((int) Math.min(MAXIMUM_CAPACITY,
+                            2L * oldCapacity));
+    for (int oldSlot = 0; oldSlot < oldCapacity; oldSlot++) {
+      final long high = oldKeys[2 * oldSlot];
+      if (high != 0) {
+        final long low  = oldKeys[2 * oldSlot + 1];
+        final int  slot = ~indexOf(high,
+                                   low);
+        keys[2 * slot]     = high;
+        keys[2 * slot + 1] = low;
+        if (withValues) {
+          values[slot] = oldValues[oldSlot];
+        }
+      }
+    }
+  }
+
+  int size() {
+    return packedSize + unpacked.size();
+  }
+
+  void clear() {
+    allocate(capacityFor(0));
+    packedSize = 0;
+    unpacked.clear();
+  }
+
+  Cursor cursor() {
+    return new Cursor();
+  }
+
+  /**
+   * Iterates over the entries of the table. The packed ibans are unpacked one at a time. The result
+   * is undefined, if the table is modified meanwhile.
+   */
+  final class Cursor {
+
+    private final Iterator<Map.Entry<String, Object>> unpackedEntries = unpacked.entrySet()
+                                                                                .iterator();
+
+    private int    nextSlot = nextSlot(0);
+    private Iban   iban;
+    private Object value;
+
+    private int nextSlot(final int from) {
+      int slot = from;
+      while (slot < capacity && keys[2 * slot] == 0) {
+        slot++;
+      }
+      return slot;
+    }
+
+    boolean hasNext() {
+      return nextSlot < capacity || unpackedEntries.hasNext();
+    }
+
+    /**
+     * Moves to the next entry.
+     *
+     * @throws NoSuchElementException if there is no further entry
+     */
+    void next() {
+      if (nextSlot < capacity) {
+        final long          high        = keys[2 * nextSlot];
+        final CountryCode   countryCode = IbanPacking.countryCodeOf(high);
+        final BbanStructure structure   = registry.forCountry(countryCode);
+        iban     = new Iban(IbanPacking.unpack(high,
+                                               keys[2 * nextSlot + 1],
+                                               countryCode,
+                                               structure),
+                            countryCode,
+                            structure);
+        value    = withValues ?
+                   values[nextSlot] :
+                   PRESENT;
+        nextSlot = nextSlot(nextSlot + 1);
+      } else {
+        final Map.Entry<String, Object> entry       = unpackedEntries.next();
+        final String                    key         = entry.getKey();
+        final CountryCode               countryCode = CountryCode.getByAlpha2Code(key.charAt(0),
+                                                                                  key.charAt(1));
+        iban  = new Iban(key,
+                         countryCode,
+                         registry.forCountry(countryCode));
+        value = entry.getValue();
+      }
+    }
+
+    Iban iban() {
+      return iban;
+    }
+
+    Object value() {
+      return value;
+    }
+  }
+}
@@ -15,30 +15,35 @@
  */
 package io.github.nalukit.iban4g.shared;
 
-import java.util.ArrayList;
-import java.util.List;
-
 public class StringUtils {
 
+  /**
+   * Replaces every <code>%s</code> of the format with the next argument. Unlike {@link
+   * String#format(String, Object...)}, no other placeholders are supported, which makes the method
+   * usable in GWT and J2CL.
+   *
+   * @param format the format
+   * @param args   the arguments, one per placeholder
+   * @return the formatted value
+   */
   public static String format(final String format,
                               final Object... args) {
-    String       value  = format;
-    List<String> splits = new ArrayList<>();
-    while (value.contains("%s")) {
-      int    pos   = value.indexOf("%s");
-      String split = value.substring(0,
-                                     pos);
-      splits.add(split);
-      value = value.substring(pos + 2);
-    }
-    splits.add(value);
-
-    final StringBuilder msg = new StringBuilder();
-    for (int pos = 0; pos < splits.size() - 1; ++pos) {
-      msg.append(splits.get(pos));
-      msg.append(args[pos].toString());
+    final StringBuilder msg   = new StringBuilder(format.length() + 16 * args.length);
+    int                 start = 0;
+    int                 arg   = 0;
+    int                 pos   = format.indexOf("%s");
+    while (pos >= 0) {
+      msg.append(format,
+                 start,
+                 pos)
+         .append(args[arg++]);
+      start = pos + 2;
+      pos   = format.indexOf("%s",
+                             start);
     }
-    msg.append(splits.get(splits.size() - 1));
-    return msg.toString();
+    return msg.append(format,
+                      start,
+                      format.length())
+              .toString();
   }
 }
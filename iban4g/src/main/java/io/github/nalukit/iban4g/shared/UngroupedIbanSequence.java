@@ -0,0 +1,63 @@
+/*
+ * Copyright © 2020 Frank Hossfeld, Philipp Kohl
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nalukit.iban4g.shared;
+
+/**
+ * A view of an iban in print format (see {@link IbanFormat#Default}), which hides the spaces
+ * separating the groups. The view has the characters of the electronic format, without copying
+ * them. The iban has to be grouped correctly, see {@link IbanUtil#isFormatted(CharSequence)}.
+ */
+final class UngroupedIbanSequence
+    implements CharSequence {
+
+  private final CharSequence formatted;
+  private final int          length;
+
+  UngroupedIbanSequence(final CharSequence formatted) {
+    this.formatted = formatted;
+    // one space follows every group of four, but the last
+    this.length    = formatted.length() - formatted.length() / 5;
+  }
+
+  @Override
+  public int length() {
+    return length;
+  }
+
+  @Override
+  public char charAt(final int index) {
+    if (index < 0 || index >= length) {
+      throw new IndexOutOfBoundsException("index: " + index + ", length: " + length);
+    }
+    return formatted.charAt(index + index / 4);
+  }
+
+  @Override
+  public CharSequence subSequence(final int start,
+                                  final int end) {
+    return toString().substring(start,
+                                end);
+  }
+
+  @Override
+  public String toString() {
+    final char[] chars = new char[length];
+    for (int i = 0; i < length; i++) {
+      chars[i] = formatted.charAt(i + i / 4);
+    }
+    return new String(chars);
+  }
+}
@@ -39,7 +39,8 @@ public class UnsupportedCountryException
    * @param countryCode the country code.
    */
   public UnsupportedCountryException(String countryCode) {
-    super("Country code '" + countryCode + "' is not supported.");
+    super("Country code '%s' is not supported.",
+          new Object[] { countryCode });
     this.countryCode = countryCode;
   }
 
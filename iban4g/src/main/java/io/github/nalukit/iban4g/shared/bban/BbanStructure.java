@@ -20,18 +20,116 @@ import java.util.Collections;
 import java.util.List;
 
 /**
- * Class which represents bban structure
+ * Class which represents bban structure.
+ *
+ * <p>The entries are compiled once into a flat table holding the allowed character classes for
+ * every position of the bban, so validating a bban is a single loop over the positions and does not
+ * depend on the number of entries.
  */
 public class BbanStructure {
 
-  private final BbanStructureEntry[] entries;
+  private static final byte DIGIT             = 1;
+  private static final byte UPPER_CASE_LETTER = 2;
+  private static final byte LOWER_CASE_LETTER = 4;
+
+  /**
+   * Character classes of the ASCII characters.
+   */
+  private static final byte[] CHARACTER_CLASSES = new byte[128];
+
+  static {
+    for (char ch = '0'; ch <= '9'; ch++) {
+      CHARACTER_CLASSES[ch] = DIGIT;
+    }
+    for (char ch = 'A'; ch <= 'Z'; ch++) {
+      CHARACTER_CLASSES[ch] = UPPER_CASE_LETTER;
+    }
+    for (char ch = 'a'; ch <= 'z'; ch++) {
+      CHARACTER_CLASSES[ch] = LOWER_CASE_LETTER;
+    }
+  }
+
+  private final BbanStructureEntry[]     entries;
+  private final List<BbanStructureEntry> entryList;
+  private final int                      bbanLength;
+
+  /**
+   * Allowed character classes for every position of the bban.
+   */
+  private final byte[] characterMasks;
+
+  /**
+   * Offset and length of the first entry of every entry type (index is the ordinal of the entry
+   * type), -1 if the structure has no entry of the type.
+   */
+  private final int[] entryOffsets;
+  private final int[] entryLengths;
 
   public BbanStructure(final BbanStructureEntry... entries) {
-    this.entries = entries;
+    this.entries   = entries.clone();
+    this.entryList = Collections.unmodifiableList(Arrays.asList(this.entries));
+
+    int length = 0;
+    for (BbanStructureEntry entry : this.entries) {
+      length += entry.getLength();
+    }
+    this.bbanLength     = length;
+    this.characterMasks = new byte[length];
+
+    this.entryOffsets   = new int[BbanEntryType.values().length];
+    this.entryLengths   = new int[BbanEntryType.values().length];
+    for (int i = 0; i < this.entryOffsets.length; i++) {
+      this.entryOffsets[i] = -1;
+      this.entryLengths[i] = -1;
+    }
+
+    int position = 0;
+    for (BbanStructureEntry entry : this.entries) {
+      final int type = entry.getEntryType()
+                            .ordinal();
+      if (this.entryOffsets[type] < 0) {
+        this.entryOffsets[type] = position;
+        this.entryLengths[type] = entry.getLength();
+      }
+      final byte mask = maskOf(entry.getCharacterType());
+      for (int i = 0; i < entry.getLength(); i++) {
+        this.characterMasks[position++] = mask;
+      }
+    }
+  }
+
+  private static byte maskOf(final BbanStructureEntry.EntryCharacterType characterType) {
+    switch (characterType) {
+      case n:
+        return DIGIT;
+      case a:
+        return UPPER_CASE_LETTER;
+      default:
+        return DIGIT | UPPER_CASE_LETTER | LOWER_CASE_LETTER;
+    }
   }
 
   public List<BbanStructureEntry> getEntries() {
-    return Collections.unmodifiableList(Arrays.asList(entries));
+    return entryList;
+  }
+
+  /**
+   * Returns the number of entries of the bban structure.
+   *
+   * @return number of entries
+   */
+  public int getEntryCount() {
+    return entries.length;
+  }
+
+  /**
+   * Returns the entry at the given position without copying the entries.
+   *
+   * @param index position of the entry
+   * @return the entry at the given position
+   */
+  public BbanStructureEntry getEntry(final int index) {
+    return entries[index];
   }
 
   /**
@@ -40,10 +138,91 @@ public class BbanStructure {
    * @return int length
    */
   public int getBbanLength() {
-    int length = 0;
-    for (BbanStructureEntry entry : entries) {
-      length += entry.getLength();
+    return bbanLength;
+  }
+
+  /**
+   * Returns the offset inside the bban of the first entry of the given type.
+   *
+   * @param entryType the entry type
+   * @return offset or -1 if the structure has no entry of the type
+   */
+  public int getEntryOffset(final BbanEntryType entryType) {
+    return entryOffsets[entryType.ordinal()];
+  }
+
+  /**
+   * Returns the length of the first entry of the given type.
+   *
+   * @param entryType the entry type
+   * @return length or -1 if the structure has no entry of the type
+   */
+  public int getEntryLength(final BbanEntryType entryType) {
+    return entryLengths[entryType.ordinal()];
+  }
+
+  /**
+   * Returns the character type expected at the given position of the bban.
+   *
+   * @param position position inside the bban
+   * @return character type of the entry covering the position
+   */
+  public BbanStructureEntry.EntryCharacterType getCharacterType(final int position) {
+    switch (characterMasks[position]) {
+      case DIGIT:
+        return BbanStructureEntry.EntryCharacterType.n;
+      case UPPER_CASE_LETTER:
+        return BbanStructureEntry.EntryCharacterType.a;
+      default:
+        return BbanStructureEntry.EntryCharacterType.c;
+    }
+  }
+
+  /**
+   * Checks the characters of a bban against the structure. The length of the bban has to be
+   * validated before.
+   *
+   * @param value  the value containing the bban
+   * @param offset index of the first bban character inside the value
+   * @return position inside the bban of the first character not matching the structure or -1 if all
+   * characters match
+   */
+  public int indexOfInvalidCharacter(final CharSequence value,
+                                     final int offset) {
+    for (int position = 0; position < characterMasks.length; position++) {
+      if (!isValidCharacter(position,
+                            value.charAt(offset + position))) {
+        return position;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Checks a single character of a bban against the structure, e.g. while the bban is typed.
+   *
+   * @param position position inside the bban
+   * @param ch       the character
+   * @return true if the character matches the character type of the position
+   */
+  public boolean isValidCharacter(final int position,
+                                  final char ch) {
+    if (ch < CHARACTER_CLASSES.length) {
+      return (CHARACTER_CLASSES[ch] & characterMasks[position]) != 0;
+    }
+    return matchesNonAscii(ch,
+                           characterMasks[position]);
+  }
+
+  private static boolean matchesNonAscii(final char ch,
+                                         final byte mask) {
+    switch (mask) {
+      case DIGIT:
+        return Character.isDigit(ch);
+      case UPPER_CASE_LETTER:
+        return Character.isUpperCase(ch);
+      default:
+        return Character.isLetterOrDigit(ch);
     }
-    return length;
   }
 }
@@ -62,52 +62,68 @@ public class BbanStructureEntry {
     this.length        = length;
   }
 
+  /**
+   * Creates an entry of the given type.
+   *
+   * @param entryType     type of the entry
+   * @param characterType character type of the entry
+   * @param length        length of the entry
+   * @return the entry
+   */
+  public static BbanStructureEntry of(final BbanEntryType entryType,
+                                      final EntryCharacterType characterType,
+                                      final int length) {
+    return new BbanStructureEntry(entryType,
+                                  characterType,
+                                  length);
+  }
+
   public static BbanStructureEntry bankCode(final int length,
                                             final char characterType) {
     return new BbanStructureEntry(BbanEntryType.bank_code,
-                                  EntryCharacterType.valueOf(String.valueOf(characterType)),
+                                  EntryCharacterType.of(characterType),
                                   length);
   }
 
   public static BbanStructureEntry branchCode(final int length,
                                               final char characterType) {
     return new BbanStructureEntry(BbanEntryType.branch_code,
-                                  EntryCharacterType.valueOf(String.valueOf(characterType)),
+                                  EntryCharacterType.of(characterType),
                                   length);
   }
 
   public static BbanStructureEntry accountNumber(final int length,
                                                  final char characterType) {
     return new BbanStructureEntry(BbanEntryType.account_number,
-                                  EntryCharacterType.valueOf(String.valueOf(characterType)),
+                                  EntryCharacterType.of(characterType),
                                   length);
   }
 
   public static BbanStructureEntry nationalCheckDigit(final int length,
                                                       final char characterType) {
     return new BbanStructureEntry(BbanEntryType.national_check_digit,
-                                  EntryCharacterType.valueOf(String.valueOf(characterType)),
+                                  EntryCharacterType.of(characterType),
                                   length);
   }
 
   public static BbanStructureEntry accountType(final int length,
                                                final char characterType) {
     return new BbanStructureEntry(BbanEntryType.account_type,
-                                  EntryCharacterType.valueOf(String.valueOf(characterType)),
+                                  EntryCharacterType.of(characterType),
                                   length);
   }
 
   public static BbanStructureEntry ownerAccountNumber(final int length,
                                                       final char characterType) {
     return new BbanStructureEntry(BbanEntryType.owner_account_number,
-                                  EntryCharacterType.valueOf(String.valueOf(characterType)),
+                                  EntryCharacterType.of(characterType),
                                   length);
   }
 
   public static BbanStructureEntry identificationNumber(final int length,
                                                         final char characterType) {
     return new BbanStructureEntry(BbanEntryType.identification_number,
-                                  EntryCharacterType.valueOf(String.valueOf(characterType)),
+                                  EntryCharacterType.of(characterType),
                                   length);
   }
 
@@ -148,6 +164,27 @@ public class BbanStructureEntry {
   public enum EntryCharacterType {
     n, // Digits (numeric characters 0 to 9 only)
     a, // Upper case letters (alphabetic characters A-Z only)
-    c // upper and lower case alphanumeric characters (A-Z, a-z and 0-9)
+    c; // upper and lower case alphanumeric characters (A-Z, a-z and 0-9)
+
+    /**
+     * Returns the character type of its one letter name, without the string lookup of {@link
+     * #valueOf(String)}.
+     *
+     * @param characterType the name of the character type: n, a or c
+     * @return the character type
+     * @throws IllegalArgumentException if the character type does not exist
+     */
+    public static EntryCharacterType of(final char characterType) {
+      switch (characterType) {
+        case 'n':
+          return n;
+        case 'a':
+          return a;
+        case 'c':
+          return c;
+        default:
+          throw new IllegalArgumentException("No enum constant " + EntryCharacterType.class.getName() + "." + characterType);
+      }
+    }
   }
 }
@@ -21,26 +21,41 @@ import io.github.nalukit.iban4g.shared.bban.loader.DefaultBbanStructureProviderL
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.EnumMap;
 import java.util.List;
 
+/**
+ * Provides the BBAN structures of the supported countries.
+ *
+ * <p>The provider is created on first use (initialization-on-demand holder) with the structures of
+ * the {@link DefaultBbanStructureProviderLoader}. It holds an immutable, versioned {@link
+ * BbanStructureRegistry}. Changes (adding a structure, reloading) build a new registry off to the
+ * side and replace the current one with a single write, so reading is wait-free and always sees a
+ * complete registry. Registered {@link BbanStructureRegistryListener}s are called after the swap.
+ * Changes are serialized together with their notification, so the listeners see the registries in
+ * the order they were published. A failing listener does not keep the other listeners from being
+ * called, and it does not undo the swap.
+ *
+ * <p>The holder idiom works the same in GWT and J2CL, where <code>volatile</code> and
+ * <code>synchronized</code> are ignored.
+ */
 public class BbanStructureProvider {
 
-  private static BbanStructureProvider instance;
+  private volatile BbanStructureRegistry registry;
 
-  private final EnumMap<CountryCode, BbanStructure> structures;
+  private volatile List<BbanStructureRegistryListener> listeners = Collections.emptyList();
+
+  /**
+   * Held while a registry is swapped and the listeners are notified. The listeners can be changed
+   * meanwhile, they are guarded by the provider itself.
+   */
+  private final Object updateLock = new Object();
 
-  private BbanStructureProvider() {
-    this.structures = new EnumMap<>(CountryCode.class);
+  private BbanStructureProvider(final BbanStructureRegistry registry) {
+    this.registry = registry.withVersion(1);
   }
 
   public static BbanStructureProvider get() {
-    if (instance == null) {
-      instance = new BbanStructureProvider();
-      DefaultBbanStructureProviderLoader.get()
-                                        .load();
-    }
-    return instance;
+    return InstanceHolder.INSTANCE;
   }
 
   /**
@@ -48,17 +63,62 @@ public class BbanStructureProvider {
    *
    * @param countryCode   country code
    * @param bbanStructure BBAN structure of the country
+   * @throws BbanStructureLoadException if a structure for the country already exists
+   * @throws RuntimeException           the first exception thrown by a listener, after all listeners
+   *                                    have been called. The structure is added nevertheless.
    */
   public void addBbanStructure(CountryCode countryCode,
                                BbanStructure bbanStructure) {
-    if (this.forCountry(countryCode) == null) {
-      this.structures.put(countryCode,
-                          bbanStructure);
-    } else {
-      throw new BbanStructureLoadException("structure for country: >>" + countryCode.getAlpha2() + "<< already exists!");
+    synchronized (this.updateLock) {
+      final BbanStructureRegistry previous = this.registry;
+      final BbanStructureRegistry current  = previous.with(countryCode,
+                                                           bbanStructure)
+                                                     .withVersion(previous.getVersion() + 1);
+      this.registry = current;
+      fireRegistryChanged(previous,
+                          current);
+    }
+  }
+
+  /**
+   * Replaces all BBAN structures with the structures of the given registry.
+   *
+   * @param registry the new structures
+   * @return the published registry
+   * @throws RuntimeException the first exception thrown by a listener, after all listeners have
+   *                          been called. The registry is published nevertheless.
+   */
+  public BbanStructureRegistry reload(final BbanStructureRegistry registry) {
+    synchronized (this.updateLock) {
+      final BbanStructureRegistry previous = this.registry;
+      final BbanStructureRegistry current  = registry.withVersion(previous.getVersion() + 1);
+      this.registry = current;
+      fireRegistryChanged(previous,
+                          current);
+      return current;
     }
   }
 
+  /**
+   * Replaces all BBAN structures with the default structures.
+   *
+   * @return the published registry
+   */
+  public BbanStructureRegistry reload() {
+    return reload(DefaultBbanStructureProviderLoader.get()
+                                                    .createRegistry());
+  }
+
+  /**
+   * Returns the current registry. The registry does not change, use it to get a consistent view
+   * over several lookups.
+   *
+   * @return the current registry
+   */
+  public BbanStructureRegistry getRegistry() {
+    return this.registry;
+  }
+
   /**
    * Returns the BBAN structure for the requesting country code
    *
@@ -66,7 +126,7 @@ public class BbanStructureProvider {
    * @return BbanStructure for specified country or null if country is not supported.
    */
   public BbanStructure forCountry(final CountryCode countryCode) {
-    return this.structures.get(countryCode);
+    return this.registry.forCountry(countryCode);
   }
 
   /**
@@ -75,6 +135,59 @@ public class BbanStructureProvider {
    * @return list of supported countries
    */
   public List<CountryCode> supportedCountries() {
-    return Collections.unmodifiableList(new ArrayList<>(structures.keySet()));
+    return this.registry.supportedCountries();
+  }
+
+  /**
+   * Adds a listener, which is called after the registry has been replaced.
+   *
+   * @param listener the listener
+   */
+  public synchronized void addRegistryListener(final BbanStructureRegistryListener listener) {
+    final List<BbanStructureRegistryListener> newListeners = new ArrayList<>(this.listeners);
+    newListeners.add(listener);
+    this.listeners = Collections.unmodifiableList(newListeners);
+  }
+
+  /**
+   * Removes a listener.
+   *
+   * @param listener the listener
+   */
+  public synchronized void removeRegistryListener(final BbanStructureRegistryListener listener) {
+    final List<BbanStructureRegistryListener> newListeners = new ArrayList<>(this.listeners);
+    newListeners.remove(listener);
+    this.listeners = Collections.unmodifiableList(newListeners);
+  }
+
+  /**
+   * Calls every listener, even if a listener fails. The first exception is thrown afterwards, the
+   * following ones are added to it as suppressed exceptions.
+   */
+  private void fireRegistryChanged(final BbanStructureRegistry previous,
+                                   final BbanStructureRegistry current) {
+    RuntimeException failure = null;
+    for (BbanStructureRegistryListener listener : this.listeners) {
+      try {
+        listener.onRegistryChanged(previous,
+                                   current);
+      } catch (RuntimeException e) {
+        if (failure == null) {
+          failure = e;
+        } else {
+          failure.addSuppressed(e);
+        }
+      }
+    }
+    if (failure != null) {
+      throw failure;
+    }
+  }
+
+  private static final class InstanceHolder {
+
+    private static final BbanStructureProvider INSTANCE = new BbanStructureProvider(DefaultBbanStructureProviderLoader.get()
+                                                                                                                      .createRegistry());
+
   }
 }
@@ -0,0 +1,152 @@
+/*
+ * Copyright © 2020 Frank Hossfeld, Philipp Kohl
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nalukit.iban4g.shared.bban;
+
+import io.github.nalukit.iban4g.shared.CountryCode;
+import io.github.nalukit.iban4g.shared.bban.loader.BbanStructureLoadException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+
+/**
+ * Immutable set of BBAN structures by country.
+ *
+ * <p>A registry never changes after it has been built, so it can be shared between threads without
+ * any locking. Use {@link #builder()} to create one. The version is assigned by the {@link
+ * BbanStructureProvider} when the registry gets published and increases with every change.
+ */
+public final class BbanStructureRegistry {
+
+  private final EnumMap<CountryCode, BbanStructure> structures;
+  private final List<CountryCode>                   supportedCountries;
+  private final long                                version;
+
+  private BbanStructureRegistry(final EnumMap<CountryCode, BbanStructure> structures,
+                                final List<CountryCode> supportedCountries,
+                                final long version) {
+    this.structures         = structures;
+    this.supportedCountries = supportedCountries;
+    this.version            = version;
+  }
+
+  private BbanStructureRegistry(final EnumMap<CountryCode, BbanStructure> structures) {
+    this(structures,
+         Collections.unmodifiableList(new ArrayList<>(structures.keySet())),
+         0);
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Returns the version of the registry.
+   *
+   * @return version, 0 if the registry has not been published by the provider
+   */
+  public long getVersion() {
+    return version;
+  }
+
+  /**
+   * Returns the BBAN structure for the requesting country code
+   *
+   * @param countryCode the country code.
+   * @return BbanStructure for specified country or null if country is not supported.
+   */
+  public BbanStructure forCountry(final CountryCode countryCode) {
+    return this.structures.get(countryCode);
+  }
+
+  /**
+   * Get a list of ths supported countries.
+   *
+   * @return list of supported countries
+   */
+  public List<CountryCode> supportedCountries() {
+    return supportedCountries;
+  }
+
+  /**
+   * Returns a new registry containing the structures of this registry and the given structure.
+   *
+   * @param countryCode   country code
+   * @param bbanStructure BBAN structure of the country
+   * @return the new registry
+   * @throws BbanStructureLoadException if this registry already contains a structure for the
+   *                                    country
+   */
+  public BbanStructureRegistry with(final CountryCode countryCode,
+                                    final BbanStructure bbanStructure) {
+    return new Builder(this.structures).addBbanStructure(countryCode,
+                                                         bbanStructure)
+                                       .build();
+  }
+
+  /**
+   * Returns this registry with the given version. The structures are shared, as they never change.
+   */
+  BbanStructureRegistry withVersion(final long version) {
+    return new BbanStructureRegistry(this.structures,
+                                     this.supportedCountries,
+                                     version);
+  }
+
+  /**
+   * Builder of a {@link BbanStructureRegistry}.
+   */
+  public static final class Builder {
+
+    private final EnumMap<CountryCode, BbanStructure> structures;
+
+    private Builder() {
+      this.structures = new EnumMap<>(CountryCode.class);
+    }
+
+    private Builder(final EnumMap<CountryCode, BbanStructure> structures) {
+      this.structures = new EnumMap<>(structures);
+    }
+
+    /**
+     * Adds the BBAN structure for the given country code.
+     *
+     * @param countryCode   country code
+     * @param bbanStructure BBAN structure of the country
+     * @return builder Builder
+     * @throws BbanStructureLoadException if a structure for the country was already added
+     */
+    public Builder addBbanStructure(final CountryCode countryCode,
+                                    final BbanStructure bbanStructure) {
+      if (this.structures.containsKey(countryCode)) {
+        throw new BbanStructureLoadException("structure for country: >>" + countryCode.getAlpha2() + "<< already exists!");
+      }
+      this.structures.put(countryCode,
+                          bbanStructure);
+      return this;
+    }
+
+    /**
+     * Builds the registry. The builder can not be used to change the built registry.
+     *
+     * @return the registry
+     */
+    public BbanStructureRegistry build() {
+      return new BbanStructureRegistry(new EnumMap<>(this.structures));
+    }
+  }
+}
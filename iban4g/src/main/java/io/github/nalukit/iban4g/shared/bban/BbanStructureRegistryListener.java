@@ -0,0 +1,36 @@
+/*
+ * Copyright © 2020 Frank Hossfeld, Philipp Kohl
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.nalukit.iban4g.shared.bban;
+
+/**
+ * Listener informed by the {@link BbanStructureProvider} after a new registry has been published.
+ *
+ * <p>The listeners are called one change after the other, in the order the registries have been
+ * published. The next change waits until all listeners have been called, so a listener must not
+ * wait for another thread changing the provider.
+ */
+public interface BbanStructureRegistryListener {
+
+  /**
+   * Called after the registry has been replaced. Validations started before may still use the
+   * previous registry.
+   *
+   * @param previous the registry used before
+   * @param current  the registry used from now on
+   */
+  void onRegistryChanged(BbanStructureRegistry previous,
+                         BbanStructureRegistry current);
+}
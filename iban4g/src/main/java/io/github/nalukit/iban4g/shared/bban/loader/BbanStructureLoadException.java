@@ -39,4 +39,17 @@ public class BbanStructureLoadException
   public BbanStructureLoadException(final String s) {
     super(s);
   }
+
+  /**
+   * Constructs a <code>BbanStructureLoadException</code> with the specified detail message and
+   * cause.
+   *
+   * @param s the detail message.
+   * @param t the cause.
+   */
+  public BbanStructureLoadException(final String s,
+                                    final Throwable t) {
+    super(s,
+          t);
+  }
 }